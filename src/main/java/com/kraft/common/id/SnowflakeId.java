@@ -0,0 +1,18 @@
+package com.kraft.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 발급하는 Snowflake ID (@GeneratedValue 대신 @Id와 함께 사용)
+ * IDENTITY와 달리 INSERT 전에 ID가 정해지므로 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있음
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
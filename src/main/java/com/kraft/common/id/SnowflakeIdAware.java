@@ -0,0 +1,15 @@
+package com.kraft.common.id;
+
+/**
+ * Snowflake ID가 발급된 직후 알림을 받는 엔티티
+ * - SnowflakeIdGenerator가 persist 시점에 ID를 만든 뒤 호출하며, Hibernate는 그 다음에 INSERT할 값을 읽음
+ * - ID로부터 정해지는 컬럼(예: 댓글 경로)을 UPDATE 없이 INSERT에 함께 담을 때 사용
+ */
+public interface SnowflakeIdAware {
+
+    /**
+     * ID 발급 알림 (엔티티의 ID 필드에는 아직 반영되기 전)
+     * @param id 발급된 ID
+     */
+    void onSnowflakeId(long id);
+}
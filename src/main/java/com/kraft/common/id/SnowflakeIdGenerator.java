@@ -0,0 +1,51 @@
+package com.kraft.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @SnowflakeId용 Hibernate ID 생성기
+ * - 노드 ID는 Hibernate 설정 kraft.id.node-id에서 읽음 (JpaConfig가 애플리케이션 설정 값을 전달)
+ * - 같은 노드 ID의 엔티티들은 하나의 Snowflake를 공유
+ * - 엔티티가 SnowflakeIdAware면 발급한 ID를 INSERT 값이 정해지기 전에 알려줌
+ */
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator {
+
+    /** 노드 ID Hibernate 설정 키 */
+    public static final String NODE_ID_SETTING = "kraft.id.node-id";
+
+    private static final Map<Integer, Snowflake> SNOWFLAKES = new ConcurrentHashMap<>();
+
+    private final Snowflake snowflake;
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        Map<String, Object> settings = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings();
+        Object nodeId = settings.getOrDefault(NODE_ID_SETTING, 0);
+        this.snowflake = SNOWFLAKES.computeIfAbsent(Integer.parseInt(nodeId.toString()), Snowflake::new);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        long id = snowflake.nextId();
+        if (owner instanceof SnowflakeIdAware aware) {
+            aware.onSnowflakeId(id);
+        }
+        return id;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
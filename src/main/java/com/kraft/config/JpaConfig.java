@@ -1,7 +1,11 @@
 package com.kraft.config;
 
+import com.kraft.common.id.Snowflake;
+import com.kraft.common.id.SnowflakeIdGenerator;
 import com.kraft.config.auth.dto.SessionUser;
 import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -15,11 +19,24 @@ import java.util.Optional;
  * JPA Auditing 설정
  * - 생성일시/수정일시 자동 관리
  * - 생성자/수정자 자동 추적 (세션 기반)
+ * - Snowflake ID 노드 ID 전달
  */
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
 
+    /**
+     * 애플리케이션 설정 kraft.id.node-id를 Hibernate 설정으로 전달 (SnowflakeIdGenerator가 읽음)
+     * 인스턴스마다 서로 다른 노드 ID(0 ~ 1023)를 지정해야 ID가 겹치지 않음
+     */
+    @Bean
+    public HibernatePropertiesCustomizer snowflakeNodeIdCustomizer(@Value("${kraft.id.node-id:0}") int nodeId) {
+        if (nodeId < 0 || nodeId > Snowflake.MAX_NODE_ID) {
+            throw new IllegalStateException("kraft.id.node-id는 0 ~ " + Snowflake.MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        return properties -> properties.put(SnowflakeIdGenerator.NODE_ID_SETTING, nodeId);
+    }
+
     /**
      * 현재 사용자 정보를 제공하는 AuditorAware 구현
      * 세션에서 사용자 정보를 추출하여 반환
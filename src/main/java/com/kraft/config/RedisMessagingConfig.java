@@ -0,0 +1,35 @@
+package com.kraft.config;
+
+import com.kraft.service.cache.CategoryCache;
+import com.kraft.service.cache.PostCache;
+import com.kraft.service.cache.RecentPostsBuffer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis pub/sub 설정
+ * 노드 간 캐시 무효화/재구성 메시지를 구독 (kraft.redis.enabled=false면 등록하지 않음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "kraft.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisMessagingConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            PostCache postCache,
+            CategoryCache categoryCache,
+            RecentPostsBuffer recentPostsBuffer
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(postCache, new ChannelTopic(PostCache.EVICT_CHANNEL));
+        container.addMessageListener(categoryCache, new ChannelTopic(CategoryCache.REFRESH_CHANNEL));
+        container.addMessageListener(recentPostsBuffer, new ChannelTopic(RecentPostsBuffer.CHANGE_CHANNEL));
+        return container;
+    }
+}
@@ -1,5 +1,7 @@
 package com.kraft.config.auth.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.kraft.domain.user.Role;
 import com.kraft.domain.user.User;
 
@@ -10,7 +12,7 @@ import java.io.Serializable;
  * Record 클래스로 불변성 보장
  */
 public record SessionUser(
-        Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
         String name,
         String email,
         Role role
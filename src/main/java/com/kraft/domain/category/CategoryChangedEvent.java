@@ -0,0 +1,10 @@
+package com.kraft.domain.category;
+
+/**
+ * 카테고리 변경 이벤트 (생성/수정/삭제)
+ * 커밋 이후 카테고리 스냅샷을 다시 만드는 데 사용
+ */
+public record CategoryChangedEvent(
+        Long categoryId
+) {
+}
@@ -1,6 +1,8 @@
 package com.kraft.domain.comment;
 
 import com.kraft.common.entity.BaseEntity;
+import com.kraft.common.id.SnowflakeId;
+import com.kraft.common.id.SnowflakeIdAware;
 import com.kraft.domain.post.Post;
 import com.kraft.domain.user.User;
 import jakarta.persistence.*;
@@ -8,6 +10,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -17,6 +21,8 @@ import java.util.List;
  * 댓글 엔티티
  * - Post와 User에 대한 ManyToOne 관계
  * - 대댓글 지원 (Self-Referencing)
+ * - 경로(path) 컬럼으로 스레드 정렬/하위 트리 조회를 범위 스캔 한 번에 처리 (CommentPath)
+ * - 경로는 persist 시점에 ID가 발급되면 바로 채워져 INSERT 한 번에 저장됨 (SnowflakeIdAware)
  * - 불변성 강화: Builder로만 생성 가능
  */
 @Getter
@@ -26,12 +32,13 @@ import java.util.List;
     @Index(name = "idx_comment_post_id", columnList = "post_id"),
     @Index(name = "idx_comment_author_id", columnList = "author_id"),
     @Index(name = "idx_comment_parent_id", columnList = "parent_id"),
-    @Index(name = "idx_comment_created_at", columnList = "create_at")
+    @Index(name = "idx_comment_created_at", columnList = "create_at"),
+    @Index(name = "idx_comment_post_path", columnList = "post_id, path")
 })
-public class Comment extends BaseEntity {
+public class Comment extends BaseEntity implements SnowflakeIdAware {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -39,6 +46,7 @@ public class Comment extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "post_id", nullable = false, foreignKey = @ForeignKey(name = "fk_comment_post"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Post post;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -48,12 +56,22 @@ public class Comment extends BaseEntity {
     // 부모 댓글 (대댓글인 경우)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id", foreignKey = @ForeignKey(name = "fk_comment_parent"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Comment parent;
 
-    // 자식 댓글들 (답글들)
-    @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
+    // 자식 댓글들 (답글들, 읽기 전용)
+    // 삭제는 CommentBulkDeleter가 경로 범위로 일괄 처리하므로 엔티티 캐스케이드를 두지 않음
+    @OneToMany(mappedBy = "parent")
     private List<Comment> replies = new ArrayList<>();
 
+    // 답글 수 (비정규화, CommentRepository.incrementReplyCount로 갱신)
+    @Column(nullable = false)
+    private int replyCount = 0;
+
+    // 최상위 댓글부터의 ID 경로 (ID 발급 시 onSnowflakeId에서 채워 INSERT에 함께 반영)
+    @Column(length = CommentPath.MAX_LENGTH)
+    private String path;
+
     @Builder
     private Comment(String content, Post post, User author, Comment parent) {
         this.content = content;
@@ -70,6 +88,19 @@ public class Comment extends BaseEntity {
         this.content = content;
     }
 
+    /**
+     * ID 발급 시 경로 지정 (최상위 댓글은 자신의 ID, 답글은 부모 경로 + 자신의 ID)
+     * 부모 댓글은 이미 저장되어 경로가 있어야 함
+     * @param id 발급된 ID
+     */
+    @Override
+    public void onSnowflakeId(long id) {
+        if (this.path != null) {
+            throw new IllegalStateException("댓글 경로는 변경할 수 없습니다");
+        }
+        this.path = parent == null ? CommentPath.root(id) : CommentPath.child(parent.getPath(), id);
+    }
+
     /**
      * 작성자 확인
      * @param userId 확인할 사용자 ID
@@ -0,0 +1,18 @@
+package com.kraft.domain.comment;
+
+/**
+ * 댓글 삭제용 컬럼 프로젝션
+ * 권한 확인과 하위 트리 범위 계산에 필요한 값만 조회하므로 댓글 엔티티와 답글 컬렉션을 로딩하지 않음
+ */
+public record CommentDeleteTarget(
+        Long id,
+        Long postId,
+        Long parentId,
+        Long authorId,
+        String path
+) {
+
+    public boolean isAuthor(Long userId) {
+        return authorId.equals(userId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.kraft.domain.comment;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 댓글 프로젝션 (작성자명 포함, 엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+public record CommentExportRow(
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long postId,
+        @JsonSerialize(using = ToStringSerializer.class) Long parentId,
+        String authorName,
+        String content,
+        String path,
+        LocalDateTime createAt,
+        LocalDateTime updateAt
+) {
+}
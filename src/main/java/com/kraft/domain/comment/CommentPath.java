@@ -0,0 +1,84 @@
+package com.kraft.domain.comment;
+
+/**
+ * 댓글 경로 (Materialized Path)
+ * - 최상위 댓글부터 자신까지의 ID를 19자리 0 채움 문자열로 이어 붙인 값
+ *   예) 1번 댓글의 5번 답글 → "0000000000000000001" + "0000000000000000005"
+ * - 고정 폭이므로 문자열 정렬 = 스레드 표시 순서 (부모 다음에 하위 답글, 형제는 ID 순)
+ * - 하위 트리 전체는 path LIKE '부모경로%' 한 번의 (post_id, path) 범위 스캔
+ */
+public final class CommentPath {
+
+    /** ID 한 단계의 길이 (Long 최대값 자릿수) */
+    public static final int SEGMENT_LENGTH = 19;
+
+    /** comments.path 컬럼 길이 (VARCHAR(760), ascii) */
+    public static final int MAX_LENGTH = 760;
+
+    /** 경로에 담을 수 있는 최대 단계 수 (최상위 댓글 포함) */
+    public static final int MAX_DEPTH = MAX_LENGTH / SEGMENT_LENGTH;
+
+    private CommentPath() {
+    }
+
+    /**
+     * 최상위 댓글 경로
+     * @param id 댓글 ID
+     * @return 경로
+     */
+    public static String root(Long id) {
+        return segment(id);
+    }
+
+    /**
+     * 답글 경로
+     * @param parentPath 부모 댓글 경로
+     * @param id 답글 ID
+     * @return 경로
+     */
+    public static String child(String parentPath, Long id) {
+        if (parentPath == null) {
+            throw new IllegalStateException("부모 댓글 경로가 없습니다");
+        }
+        if (depthOf(parentPath) >= MAX_DEPTH) {
+            throw new IllegalArgumentException("답글은 최대 " + MAX_DEPTH + "단계까지 작성할 수 있습니다");
+        }
+        return parentPath + segment(id);
+    }
+
+    /**
+     * 경로의 단계 수 (최상위 댓글은 1)
+     * @param path 경로
+     * @return 단계 수
+     */
+    public static int depthOf(String path) {
+        return path.length() / SEGMENT_LENGTH;
+    }
+
+    /**
+     * 하위 트리 경로 구간의 배타적 상한
+     * ':'는 ASCII에서 '9' 바로 다음 문자이므로 path < 상한이면 자신과 모든 하위 경로가 구간에 포함됨
+     * @param path 하위 트리 루트 댓글의 경로
+     * @return 상한 경로
+     */
+    public static String subtreeUpperBound(String path) {
+        return path + ":";
+    }
+
+    /**
+     * 깊이 제한에 해당하는 최대 경로 길이
+     * @param maxDepth 포함할 최대 답글 깊이 (0이면 최상위 댓글만)
+     * @return 최대 경로 길이
+     */
+    public static int maxLengthFor(int maxDepth) {
+        return (Math.min(maxDepth, MAX_DEPTH - 1) + 1) * SEGMENT_LENGTH;
+    }
+
+    private static String segment(Long id) {
+        if (id == null || id < 0) {
+            throw new IllegalStateException("저장되지 않은 댓글입니다");
+        }
+        String digits = Long.toString(id);
+        return "0".repeat(SEGMENT_LENGTH - digits.length()) + digits;
+    }
+}
@@ -1,46 +1,115 @@
 package com.kraft.domain.comment;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    /**
+     * 조회 쿼리 공통 가시성 조건 (JOIN FETCH c.author a 별칭 사용)
+     * 삭제 표시된 게시글의 댓글과 탈퇴 표시된 사용자의 댓글은 정리 전에도 조회되지 않음
+     */
+    String VISIBLE = "c.post.deletedAt IS NULL AND a.deletedAt IS NULL";
+
     /**
      * 특정 게시글의 댓글 목록 조회 (N+1 문제 해결)
      * @param postId 게시글 ID
      * @return 댓글 목록 (오래된 순)
      */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId ORDER BY c.id ASC")
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author a WHERE c.post.id = :postId AND " + VISIBLE + " ORDER BY c.id ASC")
     List<Comment> findByPostIdWithAuthor(Long postId);
 
+    /**
+     * 특정 게시글의 댓글 스레드 조회 (경로순 = 표시 순서)
+     * idx_comment_post_path (post_id, path) 범위 스캔 한 번으로 정렬까지 처리
+     * @param postId 게시글 ID
+     * @return 댓글 목록 (부모 다음에 하위 답글)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author a WHERE c.post.id = :postId AND " + VISIBLE + " ORDER BY c.path ASC")
+    List<Comment> findThreadByPostId(Long postId);
+
+    /**
+     * 특정 게시글의 최상위 댓글 경로 keyset 조회 (경로순)
+     * 최상위 댓글의 경로는 한 단계 길이뿐이므로 (post_id, path) 인덱스만으로 판별하고 정렬됨
+     * @param postId 게시글 ID
+     * @param afterPath 이전 페이지 마지막 최상위 댓글 경로 (첫 페이지는 빈 문자열)
+     * @param limit 조회 개수
+     * @return 최상위 댓글 경로 목록
+     */
+    @Query("SELECT c.path FROM Comment c " +
+           "WHERE c.post.id = :postId AND LENGTH(c.path) = " + CommentPath.SEGMENT_LENGTH + " AND c.path > :afterPath " +
+           "ORDER BY c.path ASC")
+    List<String> findRootPathsAfter(Long postId, String afterPath, Limit limit);
+
+    /**
+     * 특정 게시글의 댓글 스레드 구간 조회 (경로순, 깊이 제한)
+     * [fromPath, toPath) 경로 구간의 (post_id, path) 범위 스캔에서 maxPathLength보다 깊은 답글은 DB에서 제외
+     * @param postId 게시글 ID
+     * @param fromPath 구간 첫 최상위 댓글 경로 (포함)
+     * @param toPath 구간 상한 경로 (제외)
+     * @param maxPathLength 포함할 최대 경로 길이 ((답글 깊이 + 1) * SEGMENT_LENGTH)
+     * @return 댓글 목록 (부모 다음에 하위 답글)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author a " +
+           "WHERE c.post.id = :postId AND c.path >= :fromPath AND c.path < :toPath " +
+           "AND LENGTH(c.path) <= :maxPathLength AND " + VISIBLE + " ORDER BY c.path ASC")
+    List<Comment> findThreadRange(Long postId, String fromPath, String toPath, int maxPathLength);
+
+    /**
+     * 특정 댓글의 하위 트리 조회 (자신 포함, 경로순)
+     * 경로 접두사 LIKE 'prefix%'는 (post_id, path) 인덱스의 범위 스캔으로 처리됨
+     * @param postId 게시글 ID
+     * @param path 하위 트리 루트 댓글의 경로
+     * @return 댓글 목록 (루트 댓글 포함)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author a " +
+           "WHERE c.post.id = :postId AND c.path LIKE CONCAT(:path, '%') AND " + VISIBLE + " ORDER BY c.path ASC")
+    List<Comment> findSubtree(Long postId, String path);
+
     /**
      * 특정 게시글의 부모 댓글만 조회 (대댓글 제외)
      * @param postId 게시글 ID
      * @return 부모 댓글 목록
      */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.parent IS NULL ORDER BY c.id ASC")
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author a WHERE c.post.id = :postId AND c.parent IS NULL AND " + VISIBLE + " ORDER BY c.id ASC")
     List<Comment> findParentCommentsByPostId(Long postId);
 
     /**
-     * 특정 게시글의 부모 댓글 페이징 조회
+     * 특정 게시글의 부모 댓글 페이징 조회 (COUNT 없이 size + 1개 조회)
      * @param postId 게시글 ID
      * @param pageable 페이징 정보
-     * @return 부모 댓글 페이지
+     * @return 부모 댓글 슬라이스
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author a WHERE c.post.id = :postId AND c.parent IS NULL AND " + VISIBLE)
+    Slice<Comment> findParentCommentsByPostId(Long postId, Pageable pageable);
+
+    /**
+     * 특정 게시글의 부모 댓글 수
+     * @param postId 게시글 ID
+     * @return 부모 댓글 수
      */
-    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.parent IS NULL",
-           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL")
-    Page<Comment> findParentCommentsByPostId(Long postId, Pageable pageable);
+    @Query("SELECT COUNT(c) FROM Comment c JOIN c.author a WHERE c.post.id = :postId AND c.parent IS NULL AND " + VISIBLE)
+    long countParentCommentsByPostId(Long postId);
 
     /**
      * 특정 댓글의 답글 목록 조회
      * @param parentId 부모 댓글 ID
      * @return 답글 목록
      */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.parent.id = :parentId ORDER BY c.id ASC")
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author a WHERE c.parent.id = :parentId AND " + VISIBLE + " ORDER BY c.id ASC")
     List<Comment> findRepliesByParentId(Long parentId);
 
     /**
@@ -49,8 +118,8 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @param pageable 페이징 정보
      * @return 댓글 페이지
      */
-    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId",
-           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId")
+    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.author a WHERE c.post.id = :postId AND " + VISIBLE,
+           countQuery = "SELECT COUNT(c) FROM Comment c JOIN c.author a WHERE c.post.id = :postId AND " + VISIBLE)
     Page<Comment> findByPostIdWithAuthor(Long postId, Pageable pageable);
 
     /**
@@ -58,7 +127,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @param authorId 작성자 ID
      * @return 댓글 목록 (최신순)
      */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.post WHERE c.author.id = :authorId ORDER BY c.id DESC")
+    @Query("SELECT c FROM Comment c JOIN FETCH c.post JOIN c.author a WHERE a.id = :authorId AND " + VISIBLE + " ORDER BY c.id DESC")
     List<Comment> findByAuthorIdWithPost(Long authorId);
 
     /**
@@ -67,5 +136,67 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return 댓글 수
      */
     long countByPostId(Long postId);
-}
 
+    /**
+     * 답글 수 증감 (UPDATE ... SET reply_count = reply_count + :delta)
+     * @param commentId 부모 댓글 ID
+     * @param delta 증감량
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.id = :commentId")
+    int incrementReplyCount(Long commentId, int delta);
+
+    /**
+     * 삭제 대상 댓글 조회 (컬럼 프로젝션, 영속성 컨텍스트에 올리지 않음)
+     * @param id 댓글 ID
+     * @return 삭제 대상 정보
+     */
+    @Query("SELECT new com.kraft.domain.comment.CommentDeleteTarget(c.id, c.post.id, p.id, c.author.id, c.path) " +
+           "FROM Comment c JOIN c.author a LEFT JOIN c.parent p WHERE c.id = :id AND " + VISIBLE)
+    Optional<CommentDeleteTarget> findDeleteTargetById(Long id);
+
+    /**
+     * 하위 트리 삭제 청크 조회 (경로 역순 = 깊은 답글부터)
+     * 조상보다 자손이 먼저 나오므로 청크 단위로 지워도 남은 행의 부모가 먼저 사라지지 않음
+     * @param postId 게시글 ID
+     * @param path 하위 트리 루트 댓글의 경로
+     * @param limit 청크 크기
+     * @return 댓글 ID 목록
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.post.id = :postId AND c.path LIKE CONCAT(:path, '%') ORDER BY c.path DESC")
+    List<Long> findSubtreeIdsDeepestFirst(Long postId, String path, Limit limit);
+
+    /**
+     * 게시글 전체 댓글 삭제 청크 조회 (경로 역순 = 깊은 답글부터)
+     * @param postId 게시글 ID
+     * @param limit 청크 크기
+     * @return 댓글 ID 목록
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.post.id = :postId ORDER BY c.path DESC")
+    List<Long> findIdsByPostIdDeepestFirst(Long postId, Limit limit);
+
+    /**
+     * ID 목록으로 일괄 삭제 (DELETE ... WHERE id IN, 엔티티 로딩/캐스케이드 없이 한 문장)
+     * @param ids 댓글 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteAllByIdIn(Collection<Long> ids);
+
+    /**
+     * 내보내기용 전체 댓글 스트림 (ID 오름차순, 작성자명 포함)
+     * 전진 전용 커서로 fetch size만큼씩 읽으므로 결과 전체를 메모리에 올리지 않음
+     * 스트림을 다 읽을 때까지 트랜잭션이 열려 있어야 하며, 사용 후 반드시 close
+     * @return 댓글 프로젝션 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.kraft.domain.comment.CommentExportRow(c.id, c.post.id, p.id, a.name, c.content, c.path, " +
+           "c.createAt, c.updateAt) " +
+           "FROM Comment c JOIN c.author a LEFT JOIN c.parent p WHERE " + VISIBLE + " ORDER BY c.id ASC")
+    Stream<CommentExportRow> streamAllForExport();
+}
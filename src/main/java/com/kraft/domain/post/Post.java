@@ -1,6 +1,7 @@
 package com.kraft.domain.post;
 
 import com.kraft.common.entity.BaseEntity;
+import com.kraft.common.id.SnowflakeId;
 import com.kraft.domain.category.Category;
 import com.kraft.domain.user.User;
 import jakarta.persistence.*;
@@ -8,23 +9,29 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 /**
  * 게시글 엔티티
  * - 불변성 강화: Builder로만 생성 가능
- * - 양방향 관계: User.addPost()를 통해서만 관리
+ * - 작성자는 생성 시 Builder로 지정 (User.posts 컬렉션을 로딩하지 않도록 User.addPost()를 거치지 않음)
+ * - 소프트 삭제: deleted_at이 채워진 행은 모든 조회에서 제외되고 TombstonePurger가 나중에 실제로 삭제
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "posts", indexes = {
     @Index(name = "idx_post_author_id", columnList = "author_id"),
-    @Index(name = "idx_post_created_at", columnList = "create_at")
+    @Index(name = "idx_post_created_at", columnList = "create_at"),
+    @Index(name = "idx_post_deleted_at", columnList = "deleted_at")
 })
+@SQLRestriction("deleted_at IS NULL")
 public class Post extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(length = 500, nullable = false)
@@ -44,6 +51,16 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private Long viewCount = 0L;
 
+    /**
+     * 댓글 수 (답글 포함, 비정규화)
+     * 댓글 작성/삭제 시 PostRepository.incrementCommentCount로 함께 갱신
+     */
+    @Column(nullable = false)
+    private Long commentCount = 0L;
+
+    // 삭제 표시 시각 (소프트 삭제, null이면 정상 게시글)
+    private LocalDateTime deletedAt;
+
     @Builder
     private Post(String title, String content, User author, Category category) {
         this.title = title;
@@ -51,6 +68,7 @@ public class Post extends BaseEntity {
         this.author = author;
         this.category = category;
         this.viewCount = 0L;
+        this.commentCount = 0L;
     }
 
     /**
@@ -71,6 +89,24 @@ public class Post extends BaseEntity {
         this.category = category;
     }
 
+    /**
+     * 삭제 표시 (소프트 삭제)
+     * UPDATE 한 번으로 끝나며, 댓글과 게시글 행은 TombstonePurger가 청크 단위로 정리
+     */
+    public void markDeleted() {
+        if (this.deletedAt == null) {
+            this.deletedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 삭제 표시 여부
+     * @return 소프트 삭제된 게시글이면 true
+     */
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
+
     /**
      * 조회수 증가
      */
@@ -81,7 +117,7 @@ public class Post extends BaseEntity {
     /**
      * 연관관계 편의 메서드
      * ⚠️ 주의: User.addPost()를 통해서만 호출되어야 합니다.
-     * 외부에서 직접 호출하지 마세요.
+     * 외부에서 직접 호출하지 마세요. (새 게시글의 작성자는 Builder로 지정)
      *
      * @param author 게시글 작성자
      */
@@ -0,0 +1,38 @@
+package com.kraft.domain.post;
+
+/**
+ * 게시글 변경 이벤트
+ * 커밋 이후 검색 색인, 캐시 등 파생 데이터를 갱신하는 데 사용
+ * @param categoryId 게시글 카테고리 ID (없거나 알 수 없으면 null, 카테고리별 게시글 수 보정용)
+ */
+public record PostChangedEvent(
+        Long postId,
+        Type type,
+        Long categoryId
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static PostChangedEvent created(Long postId) {
+        return created(postId, null);
+    }
+
+    public static PostChangedEvent created(Long postId, Long categoryId) {
+        return new PostChangedEvent(postId, Type.CREATED, categoryId);
+    }
+
+    public static PostChangedEvent updated(Long postId) {
+        return new PostChangedEvent(postId, Type.UPDATED, null);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return deleted(postId, null);
+    }
+
+    public static PostChangedEvent deleted(Long postId, Long categoryId) {
+        return new PostChangedEvent(postId, Type.DELETED, categoryId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.kraft.domain.post;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 게시글 프로젝션 (작성자명/카테고리명 포함, 엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+public record PostExportRow(
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
+        String title,
+        String content,
+        String authorName,
+        String categoryName,
+        Long viewCount,
+        Long commentCount,
+        LocalDateTime createAt,
+        LocalDateTime updateAt
+) {
+}
@@ -1,46 +1,68 @@
 package com.kraft.domain.post;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
-     * 게시글 목록 조회 (N+1 문제 해결 - Fetch Join 사용)
-     * @return 작성자 정보가 포함된 게시글 목록 (최신순)
+     * 목록 조회용 프로젝션 SELECT 절 (id, 제목, 작성자명, 조회수, 수정일시)
+     * 목록 조회는 모두 이 프로젝션을 사용해 content(TEXT)와 작성자 행 전체를 읽지 않음
+     * 삭제 표시된 게시글은 Post의 @SQLRestriction으로, 탈퇴 표시된 작성자의 게시글은 WHERE 절로 제외
+     * (추가 조건은 " AND ..."로 이어 붙임)
      */
-    @Query("SELECT p FROM Post p JOIN FETCH p.author ORDER BY p.id DESC")
-    List<Post> findAllDesc();
+    String SUMMARY_SELECT = "SELECT new com.kraft.domain.post.PostSummary(p.id, p.title, a.name, p.viewCount, p.updateAt) " +
+                            "FROM Post p JOIN p.author a WHERE a.deletedAt IS NULL";
 
     /**
-     * 게시글 목록 페이징 조회 (N+1 문제 해결)
-     * @param pageable 페이징 정보
-     * @return 작성자 정보가 포함된 게시글 페이지
+     * 목록 COUNT 절 (SUMMARY_SELECT와 같은 가시성 조건)
+     */
+    String SUMMARY_COUNT = "SELECT COUNT(p) FROM Post p JOIN p.author a WHERE a.deletedAt IS NULL";
+
+    /**
+     * 조회 가능한 게시글 수 (목록 조회와 같은 가시성 조건)
+     * @return 게시글 수
      */
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.author",
-           countQuery = "SELECT COUNT(p) FROM Post p")
-    Page<Post> findAllWithAuthor(Pageable pageable);
+    @Query(SUMMARY_COUNT)
+    long countVisible();
+
+    /**
+     * 게시글 목록 페이징 조회 (목록 프로젝션)
+     * COUNT 쿼리 없이 size + 1개를 읽어 다음 페이지 여부만 판단 (전체 개수는 CountCache + countVisible)
+     * @param pageable 페이징 정보 (정렬 포함)
+     * @return 게시글 슬라이스
+     */
+    @Query(SUMMARY_SELECT)
+    Slice<PostSummary> findAllSummaries(Pageable pageable);
 
     /**
      * ID로 게시글 단건 조회 (N+1 문제 해결)
      * @param id 게시글 ID
      * @return 작성자 정보가 포함된 게시글
      */
-    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id = :id")
+    @Query("SELECT p FROM Post p JOIN FETCH p.author a WHERE p.id = :id AND a.deletedAt IS NULL")
     Optional<Post> findByIdWithAuthor(Long id);
 
     /**
-     * 특정 사용자의 게시글 목록 조회
+     * 특정 사용자의 게시글 목록 조회 (목록 프로젝션)
      * @param authorId 작성자 ID
      * @return 게시글 목록
      */
-    @Query("SELECT p FROM Post p WHERE p.author.id = :authorId ORDER BY p.id DESC")
-    List<Post> findByAuthorId(Long authorId);
+    @Query(SUMMARY_SELECT + " AND a.id = :authorId ORDER BY p.id DESC")
+    List<PostSummary> findByAuthorId(Long authorId);
 
     /**
      * 제목으로 게시글 검색 (LIKE)
@@ -48,35 +70,185 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param pageable 페이지 정보
      * @return 검색 결과 페이지
      */
-    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.title LIKE %:keyword% ORDER BY p.id DESC")
+    @Query("SELECT p FROM Post p JOIN FETCH p.author a WHERE a.deletedAt IS NULL AND p.title LIKE %:keyword% ORDER BY p.id DESC")
     Page<Post> searchByTitle(String keyword, Pageable pageable);
 
     /**
-     * 제목 또는 내용으로 게시글 검색
+     * 제목 또는 내용으로 게시글 검색 (목록 프로젝션, COUNT 없이 size + 1개 조회)
      * @param keyword 검색 키워드
      * @param pageable 페이지 정보
-     * @return 검색 결과 페이지
+     * @return 검색 결과 슬라이스
      */
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.author WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%",
-           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%")
-    Page<Post> searchByTitleOrContent(String keyword, Pageable pageable);
+    @Query(SUMMARY_SELECT + " AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
+    Slice<PostSummary> searchByTitleOrContent(String keyword, Pageable pageable);
 
     /**
-     * 인기 게시글 조회 (조회수 기준)
+     * 제목 또는 내용 검색 결과 수
+     * @param keyword 검색 키워드
+     * @return 일치 게시글 수
+     */
+    @Query(SUMMARY_COUNT + " AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
+    long countByTitleOrContent(String keyword);
+
+    /**
+     * 인기 게시글 조회 (조회수 기준, 목록 프로젝션, COUNT 없이 size + 1개 조회)
      * @param pageable 페이지 정보
-     * @return 인기 게시글 페이지
+     * @return 인기 게시글 슬라이스
      */
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.author ORDER BY p.viewCount DESC, p.id DESC",
-           countQuery = "SELECT COUNT(p) FROM Post p")
-    Page<Post> findPopularPosts(Pageable pageable);
+    @Query(SUMMARY_SELECT + " ORDER BY p.viewCount DESC, p.id DESC")
+    Slice<PostSummary> findPopularPosts(Pageable pageable);
 
     /**
-     * 카테고리별 게시글 조회
+     * 카테고리별 게시글 조회 (목록 프로젝션, COUNT 없이 size + 1개 조회)
      * @param categoryId 카테고리 ID
      * @param pageable 페이징 정보
-     * @return 게시글 페이지
+     * @return 게시글 슬라이스
+     */
+    @Query(SUMMARY_SELECT + " AND p.category.id = :categoryId")
+    Slice<PostSummary> findByCategoryId(Long categoryId, Pageable pageable);
+
+    /**
+     * 카테고리별 조회 가능한 게시글 수
+     * @param categoryId 카테고리 ID
+     * @return 게시글 수
+     */
+    @Query(SUMMARY_COUNT + " AND p.category.id = :categoryId")
+    long countVisibleByCategoryId(Long categoryId);
+
+    /**
+     * 최신 게시글 커서 조회 (id 기준 seek)
+     * OFFSET 없이 PK 범위 스캔으로 다음 페이지를 찾으므로 페이지 깊이와 무관하게 비용이 일정함
+     * @param lastId 이전 페이지 마지막 게시글 ID (미만 조회)
+     * @param limit 조회 개수
+     * @return 게시글 목록 (최신순)
+     */
+    @Query(SUMMARY_SELECT + " AND p.id < :lastId ORDER BY p.id DESC")
+    List<PostSummary> findLatestAfter(Long lastId, Limit limit);
+
+    /**
+     * 인기 게시글 커서 조회 ((view_count, id) 기준 seek)
+     * 선행 조건(viewCount <= :lastViewCount)으로 idx_post_view_count 범위 스캔을 유도
+     * (InnoDB 보조 인덱스는 PK를 포함하므로 사실상 (view_count, id) 인덱스)
+     * @param lastViewCount 이전 페이지 마지막 게시글 조회수
+     * @param lastId 이전 페이지 마지막 게시글 ID
+     * @param limit 조회 개수
+     * @return 게시글 목록 (조회수, ID 내림차순)
+     */
+    @Query(SUMMARY_SELECT + " " +
+           "AND p.viewCount <= :lastViewCount AND (p.viewCount < :lastViewCount OR p.id < :lastId) " +
+           "ORDER BY p.viewCount DESC, p.id DESC")
+    List<PostSummary> findPopularAfter(Long lastViewCount, Long lastId, Limit limit);
+
+    /**
+     * 카테고리별 게시글 커서 조회 ((category_id, id) 기준 seek)
+     * @param categoryId 카테고리 ID
+     * @param lastId 이전 페이지 마지막 게시글 ID
+     * @param limit 조회 개수
+     * @return 게시글 목록 (최신순)
+     */
+    @Query(SUMMARY_SELECT + " AND p.category.id = :categoryId AND p.id < :lastId ORDER BY p.id DESC")
+    List<PostSummary> findByCategoryIdAfter(Long categoryId, Long lastId, Limit limit);
+
+    /**
+     * ID 목록으로 게시글 조회 (검색 결과 페이지 로딩용, 목록 프로젝션)
+     * @param ids 게시글 ID 목록
+     * @return 게시글 목록 (순서 보장 안 됨)
+     */
+    @Query(SUMMARY_SELECT + " AND p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    /**
+     * 검색 색인 구축용 게시글 조회 (id 기준 seek)
+     * @param afterId 이전 배치 마지막 게시글 ID (초과 조회)
+     * @param limit 조회 개수
+     * @return 색인 대상 문서 목록 (ID 오름차순)
+     */
+    @Query("SELECT new com.kraft.domain.post.PostSearchDocument(p.id, p.title, p.content) " +
+           "FROM Post p JOIN p.author a WHERE a.deletedAt IS NULL AND p.id > :afterId ORDER BY p.id ASC")
+    List<PostSearchDocument> findSearchDocuments(Long afterId, Limit limit);
+
+    /**
+     * 검색 색인 갱신용 단건 조회
+     * @param id 게시글 ID
+     * @return 색인 대상 문서
+     */
+    @Query("SELECT new com.kraft.domain.post.PostSearchDocument(p.id, p.title, p.content) " +
+           "FROM Post p JOIN p.author a WHERE a.deletedAt IS NULL AND p.id = :id")
+    Optional<PostSearchDocument> findSearchDocumentById(Long id);
+
+    /**
+     * 검색 색인 갱신용 다건 조회 (대량 가져오기 청크 반영)
+     * @param ids 게시글 ID 목록
+     * @return 색인 대상 문서 목록
+     */
+    @Query("SELECT new com.kraft.domain.post.PostSearchDocument(p.id, p.title, p.content) " +
+           "FROM Post p JOIN p.author a WHERE a.deletedAt IS NULL AND p.id IN :ids")
+    List<PostSearchDocument> findSearchDocumentsByIdIn(Collection<Long> ids);
+
+    /**
+     * 작성자의 게시글 ID 목록 (탈퇴 여부와 무관, 검색 색인 정리용)
+     * @param authorId 작성자 ID
+     * @return 게시글 ID 목록
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.author.id = :authorId")
+    List<Long> findIdsByAuthorId(Long authorId);
+
+    /**
+     * FULLTEXT 검색 (MariaDB MATCH ... AGAINST, 불리언 모드)
+     * ft_post_title_content 인덱스를 사용하며 관련도 내림차순, 동점이면 최신순
+     * @param query 불리언 모드 검색식
+     * @param limit 조회 개수
+     * @param offset 건너뛸 개수
+     * @return 게시글 ID 목록 (관련도순)
+     */
+    @Query(value = "SELECT p.id FROM posts p JOIN users u ON u.id = p.author_id AND u.deleted_at IS NULL " +
+                   "WHERE p.deleted_at IS NULL AND MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE) " +
+                   "ORDER BY MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE) DESC, p.id DESC " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Long> searchIdsByFullText(String query, int limit, long offset);
+
+    /**
+     * FULLTEXT 검색 결과 수
+     * @param query 불리언 모드 검색식
+     * @return 일치 게시글 수
+     */
+    @Query(value = "SELECT COUNT(*) FROM posts p JOIN users u ON u.id = p.author_id AND u.deleted_at IS NULL " +
+                   "WHERE p.deleted_at IS NULL AND MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE)",
+           nativeQuery = true)
+    long countByFullText(String query);
+
+    /**
+     * 댓글 수 증감 (UPDATE ... SET comment_count = comment_count + :delta)
+     * 읽고 쓰지 않고 DB에서 원자적으로 더하므로 동시 작성에도 유실이 없음
+     * @param postId 게시글 ID
+     * @param delta 증감량
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int incrementCommentCount(Long postId, long delta);
+
+    /**
+     * 댓글 수 조회
+     * @param postId 게시글 ID
+     * @return 댓글 수 (게시글이 없으면 empty)
+     */
+    @Query("SELECT p.commentCount FROM Post p WHERE p.id = :postId")
+    Optional<Long> findCommentCountById(Long postId);
+
+    /**
+     * 내보내기용 전체 게시글 스트림 (ID 오름차순, 작성자/카테고리명 포함)
+     * 전진 전용 커서로 fetch size만큼씩 읽으므로 결과 전체를 메모리에 올리지 않음
+     * 스트림을 다 읽을 때까지 트랜잭션이 열려 있어야 하며, 사용 후 반드시 close
+     * @return 게시글 프로젝션 스트림
      */
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.author WHERE p.category.id = :categoryId",
-           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId")
-    Page<Post> findByCategoryId(Long categoryId, Pageable pageable);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.kraft.domain.post.PostExportRow(p.id, p.title, p.content, a.name, c.name, " +
+           "p.viewCount, p.commentCount, p.createAt, p.updateAt) " +
+           "FROM Post p JOIN p.author a LEFT JOIN p.category c WHERE a.deletedAt IS NULL ORDER BY p.id ASC")
+    Stream<PostExportRow> streamAllForExport();
 }
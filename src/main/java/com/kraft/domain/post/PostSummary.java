@@ -0,0 +1,17 @@
+package com.kraft.domain.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 컬럼 프로젝션
+ * 목록 화면에 필요한 컬럼만 조회하므로 content(TEXT)와 작성자 행 전체를 읽지 않고,
+ * 영속성 컨텍스트에 올라가지 않아 변경 감지용 스냅샷도 만들지 않음
+ */
+public record PostSummary(
+        Long id,
+        String title,
+        String authorName,
+        Long viewCount,
+        LocalDateTime updateAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.kraft.domain.post;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 대량 가져오기 이벤트 (가져오기 청크 = 트랜잭션 하나마다 한 번)
+ * 행마다 PostChangedEvent를 내면 커밋 이후 리스너가 게시글 수만큼 실행되므로 청크 단위로 묶어 한 번에 반영
+ * @param postIds 저장된 게시글 ID
+ * @param categoryCounts 카테고리 ID별 저장된 게시글 수 (카테고리 없는 게시글 제외)
+ */
+public record PostsImportedEvent(
+        List<Long> postIds,
+        Map<Long, Long> categoryCounts
+) {
+}
@@ -1,22 +1,26 @@
 package com.kraft.domain.user;
 
 import com.kraft.common.entity.BaseEntity;
+import com.kraft.common.id.SnowflakeId;
 import com.kraft.domain.post.Post;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * 사용자 엔티티
- * - name: 로그인 ID (변경 불가)
+ * - name: 로그인 ID (변경 불가, 탈퇴 시에만 해제)
  * - 양방향 관계: addPost()를 통해 Post와 관계 관리
+ * - 소프트 삭제: deleted_at이 채워진 사용자와 그 게시글/댓글은 조회에서 제외되고 TombstonePurger가 나중에 실제로 삭제
  */
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -25,13 +29,18 @@ import java.util.List;
     name = "users",
     indexes = {
         @Index(name = "idx_user_email", columnList = "email"),
-        @Index(name = "idx_user_name", columnList = "name", unique = true)
+        @Index(name = "idx_user_name", columnList = "name", unique = true),
+        @Index(name = "idx_user_deleted_at", columnList = "deleted_at")
     }
 )
+@SQLRestriction("deleted_at IS NULL")
 public class User extends BaseEntity {
 
+    private static final String DELETED_NAME_PREFIX = "deleted:";
+    private static final String DELETED_EMAIL_SUFFIX = "@deleted.invalid";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -47,9 +56,13 @@ public class User extends BaseEntity {
     @Column(nullable = false, length = 20)
     private Role role;
 
-    @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, orphanRemoval = true)
+    // 탈퇴 시 게시글은 TombstonePurger가 청크 단위로 삭제하므로 엔티티 캐스케이드를 두지 않음
+    @OneToMany(mappedBy = "author")
     private List<Post> posts = new ArrayList<>();
 
+    // 탈퇴 표시 시각 (소프트 삭제, null이면 정상 사용자)
+    private LocalDateTime deletedAt;
+
     @Builder
     private User(String name, String password, String email, Role role) {
         this.name = name;
@@ -91,6 +104,19 @@ public class User extends BaseEntity {
         this.role = role;
     }
 
+    /**
+     * 탈퇴 표시 (소프트 삭제)
+     * 행은 TombstonePurger가 지울 때까지 남으므로 로그인 ID와 이메일을 ID 기반 값으로 바꿔 유니크 인덱스에서 놓아줌
+     * (중복 확인(existsByName 등)은 탈퇴 표시된 행을 보지 않으므로, 그대로 두면 같은 값으로 재가입 시 인덱스 위반)
+     */
+    public void markDeleted() {
+        if (this.deletedAt == null) {
+            this.deletedAt = LocalDateTime.now();
+            this.name = DELETED_NAME_PREFIX + id;
+            this.email = id + DELETED_EMAIL_SUFFIX;
+        }
+    }
+
     /**
      * 비밀번호 일치 여부 확인
      */
@@ -101,6 +127,7 @@ public class User extends BaseEntity {
     /**
      * 게시글 추가 - 양방향 관계 관리
      * 연관관계의 주인이 아니므로 여기서 관계를 관리
+     * ⚠️ contains 확인으로 posts 컬렉션 전체를 로딩하므로 게시글 작성 경로에서는 사용하지 않음
      */
     public void addPost(Post post) {
         if (!this.posts.contains(post)) {
@@ -0,0 +1,10 @@
+package com.kraft.domain.user;
+
+/**
+ * 사용자 ID/로그인 ID 프로젝션 (대량 가져오기 시 작성자 이름 → ID 변환용)
+ */
+public record UserIdentity(
+        Long id,
+        String name
+) {
+}
@@ -1,7 +1,10 @@
 package com.kraft.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -9,4 +12,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByName(String name);
     boolean existsByEmail(String email);
     boolean existsByEmailAndIdNot(String email, Long id);
+
+    /**
+     * 로그인 ID 목록으로 사용자 ID 조회 (엔티티를 로딩하지 않음, 탈퇴 표시된 사용자 제외)
+     * @param names 로그인 ID 목록
+     * @return 존재하는 사용자의 ID/로그인 ID
+     */
+    @Query("SELECT new com.kraft.domain.user.UserIdentity(u.id, u.name) FROM User u WHERE u.name IN :names")
+    List<UserIdentity> findIdentitiesByNameIn(Collection<String> names);
 }
@@ -0,0 +1,9 @@
+package com.kraft.domain.user;
+
+/**
+ * 회원 탈퇴 이벤트
+ * 커밋 이후 탈퇴한 사용자의 게시글을 검색 색인 등 파생 데이터에서 빼는 데 사용
+ * @param userId 탈퇴한 사용자 ID
+ */
+public record UserWithdrawnEvent(Long userId) {
+}
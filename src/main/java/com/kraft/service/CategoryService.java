@@ -1,7 +1,9 @@
 package com.kraft.service;
 
 import com.kraft.domain.category.Category;
+import com.kraft.domain.category.CategoryChangedEvent;
 import com.kraft.domain.category.CategoryRepository;
+import com.kraft.service.cache.CategoryCache;
 import com.kraft.web.dto.category.CategoryResponseDto;
 import com.kraft.web.dto.category.CategorySaveRequestDto;
 import com.kraft.web.dto.category.CategoryUpdateRequestDto;
@@ -9,11 +11,11 @@ import com.kraft.common.exception.DuplicateResourceException;
 import com.kraft.common.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -21,39 +23,35 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 모든 카테고리 조회
+     * 모든 카테고리 조회 (메모리 스냅샷)
      * @return 카테고리 목록 (정렬 순서대로)
      */
-    @Transactional(readOnly = true)
     public List<CategoryResponseDto> findAll() {
-        return categoryRepository.findAllOrderByDisplayOrder().stream()
-                .map(CategoryResponseDto::from)
-                .collect(Collectors.toList());
+        return categoryCache.snapshot().all();
     }
 
     /**
-     * ID로 카테고리 조회
+     * ID로 카테고리 조회 (메모리 스냅샷)
      * @param id 카테고리 ID
      * @return 카테고리 응답 DTO
      */
-    @Transactional(readOnly = true)
     public CategoryResponseDto findById(Long id) {
-        Category category = findCategoryById(id);
-        return CategoryResponseDto.from(category);
+        return categoryCache.snapshot().findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("카테고리", id));
     }
 
     /**
-     * 이름으로 카테고리 조회
+     * 이름으로 카테고리 조회 (메모리 스냅샷)
      * @param name 카테고리명
      * @return 카테고리 응답 DTO
      */
-    @Transactional(readOnly = true)
     public CategoryResponseDto findByName(String name) {
-        Category category = categoryRepository.findByName(name)
+        return categoryCache.snapshot().findByName(name)
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리", "name", name));
-        return CategoryResponseDto.from(category);
     }
 
     /**
@@ -75,6 +73,7 @@ public class CategoryService {
                 .build();
 
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
         log.info("카테고리 생성 성공: categoryId={}, name={}", savedCategory.getId(), savedCategory.getName());
 
         return savedCategory.getId();
@@ -98,6 +97,7 @@ public class CategoryService {
         }
 
         category.update(requestDto.getName(), requestDto.getDescription(), requestDto.getDisplayOrder());
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
         log.info("카테고리 수정 성공: categoryId={}", id);
 
         return id;
@@ -111,6 +111,7 @@ public class CategoryService {
     public void delete(Long id) {
         Category category = findCategoryById(id);
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
         log.info("카테고리 삭제 성공: categoryId={}", id);
     }
 
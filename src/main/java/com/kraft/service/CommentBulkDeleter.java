@@ -0,0 +1,99 @@
+package com.kraft.service;
+
+import com.kraft.domain.comment.CommentDeleteTarget;
+import com.kraft.domain.comment.CommentRepository;
+import com.kraft.domain.post.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 댓글 일괄 삭제 (하위 트리 / 게시글 전체)
+ * - 엔티티를 로딩하지 않고 경로 역순(깊은 답글부터)으로 ID를 chunkSize개씩 조회해
+ *   DELETE ... WHERE id IN (...) 한 문장으로 삭제 (청크당 SELECT 1 + DELETE 1)
+ * - 청크마다 별도 트랜잭션(REQUIRES_NEW)으로 커밋해 잠금 범위와 유지 시간을 청크 크기로 제한
+ * - 게시글 댓글 수도 청크와 같은 트랜잭션에서 차감하므로 중간에 실패해도 카운터와 실제 행이 어긋나지 않음
+ */
+@Slf4j
+@Component
+public class CommentBulkDeleter {
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate chunkTransaction;
+
+    @Value("${kraft.comment.delete.chunk-size:500}")
+    private int chunkSize;
+
+    public CommentBulkDeleter(CommentRepository commentRepository,
+                              PostRepository postRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.commentRepository = commentRepository;
+        this.postRepository = postRepository;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 댓글과 모든 하위 답글 삭제
+     * 게시글 댓글 수는 삭제된 개수만큼, 부모 댓글의 답글 수는 1 차감
+     * @param target 삭제할 댓글
+     * @return 삭제된 댓글 수
+     */
+    public long deleteSubtree(CommentDeleteTarget target) {
+        long deleted = deleteInChunks(target.postId(), true,
+                limit -> commentRepository.findSubtreeIdsDeepestFirst(target.postId(), target.path(), limit));
+
+        // 이미 상위 댓글과 함께 지워진 경우(사용자 정리)에는 부모 답글 수를 건드리지 않음
+        if (deleted > 0 && target.parentId() != null) {
+            chunkTransaction.executeWithoutResult(status ->
+                    commentRepository.incrementReplyCount(target.parentId(), -1));
+        }
+        return deleted;
+    }
+
+    /**
+     * 게시글의 모든 댓글 삭제 (게시글 삭제 직전 호출, 댓글 수 카운터는 갱신하지 않음)
+     * @param postId 게시글 ID
+     * @return 삭제된 댓글 수
+     */
+    public long deleteAllByPostId(Long postId) {
+        return deleteInChunks(postId, false,
+                limit -> commentRepository.findIdsByPostIdDeepestFirst(postId, limit));
+    }
+
+    private long deleteInChunks(Long postId, boolean adjustCount, Function<Limit, List<Long>> nextChunk) {
+        long deleted = 0;
+        while (true) {
+            Integer size = chunkTransaction.execute(status -> {
+                List<Long> ids = nextChunk.apply(Limit.of(chunkSize));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                commentRepository.deleteAllByIdIn(ids);
+                if (adjustCount) {
+                    postRepository.incrementCommentCount(postId, -ids.size());
+                }
+                return ids.size();
+            });
+
+            if (size == null || size == 0) {
+                break;
+            }
+            deleted += size;
+            if (size < chunkSize) {
+                break;
+            }
+        }
+
+        log.debug("댓글 일괄 삭제: postId={}, deleted={}", postId, deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,117 @@
+package com.kraft.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비정규화 댓글 수(posts.comment_count) / 답글 수(comments.reply_count) 보정 작업
+ * - ID 구간(chunk) 단위로 실제 개수를 세어 저장된 값과 다른 행만 갱신
+ * - 구간마다 별도 트랜잭션으로 처리해 긴 잠금을 피함
+ * - 보정은 "실제 - 저장값" 만큼 더하는 방식이므로, 같은 스냅샷에서 읽은 뒤 동시에 커밋된
+ *   댓글 작성/삭제의 증감분을 덮어쓰지 않음
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CommentCountReconciler {
+
+    static final String POST_CHUNK_SQL =
+            "SELECT id, comment_count FROM posts WHERE id > ? ORDER BY id LIMIT ?";
+    static final String POST_ACTUAL_SQL =
+            "SELECT post_id, COUNT(*) FROM comments WHERE post_id BETWEEN ? AND ? GROUP BY post_id";
+    static final String POST_FIX_SQL =
+            "UPDATE posts SET comment_count = comment_count + ? WHERE id = ?";
+
+    static final String COMMENT_CHUNK_SQL =
+            "SELECT id, reply_count FROM comments WHERE id > ? ORDER BY id LIMIT ?";
+    static final String COMMENT_ACTUAL_SQL =
+            "SELECT parent_id, COUNT(*) FROM comments WHERE parent_id BETWEEN ? AND ? GROUP BY parent_id";
+    static final String COMMENT_FIX_SQL =
+            "UPDATE comments SET reply_count = reply_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+
+    @Value("${kraft.comment-count.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 전체 보정 실행
+     * @return 보정된 행 수 (게시글 + 댓글)
+     */
+    @Scheduled(cron = "${kraft.comment-count.reconcile-cron:0 30 4 * * *}")
+    public long reconcile() {
+        long fixedPosts = reconcileTable(POST_CHUNK_SQL, POST_ACTUAL_SQL, POST_FIX_SQL);
+        long fixedComments = reconcileTable(COMMENT_CHUNK_SQL, COMMENT_ACTUAL_SQL, COMMENT_FIX_SQL);
+
+        log.info("댓글 수 보정 완료: posts={}, comments={}", fixedPosts, fixedComments);
+        return fixedPosts + fixedComments;
+    }
+
+    private long reconcileTable(String chunkSql, String actualSql, String fixSql) {
+        long fixed = 0;
+        long lastId = 0;
+
+        while (true) {
+            long afterId = lastId;
+            Chunk chunk = transactionOperations.execute(status -> reconcileChunk(chunkSql, actualSql, fixSql, afterId));
+            if (chunk == null || chunk.size() == 0) {
+                return fixed;
+            }
+
+            fixed += chunk.fixed();
+            lastId = chunk.lastId();
+            if (chunk.size() < chunkSize) {
+                return fixed;
+            }
+        }
+    }
+
+    private Chunk reconcileChunk(String chunkSql, String actualSql, String fixSql, long afterId) {
+        Map<Long, Long> stored = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+        jdbcTemplate.query(chunkSql, rs -> {
+            long id = rs.getLong(1);
+            ids.add(id);
+            stored.put(id, rs.getLong(2));
+        }, afterId, chunkSize);
+
+        if (ids.isEmpty()) {
+            return new Chunk(0, afterId, 0);
+        }
+
+        long firstId = ids.get(0);
+        long lastId = ids.get(ids.size() - 1);
+        Map<Long, Long> actual = new HashMap<>();
+        jdbcTemplate.query(actualSql, rs -> {
+            actual.put(rs.getLong(1), rs.getLong(2));
+        }, firstId, lastId);
+
+        List<Object[]> fixes = new ArrayList<>();
+        for (Long id : ids) {
+            long delta = actual.getOrDefault(id, 0L) - stored.get(id);
+            if (delta != 0) {
+                fixes.add(new Object[]{delta, id});
+            }
+        }
+
+        if (!fixes.isEmpty()) {
+            jdbcTemplate.batchUpdate(fixSql, fixes);
+            log.warn("댓글 수 오차 보정: sql={}, rows={}", fixSql, fixes.size());
+        }
+        return new Chunk(ids.size(), lastId, fixes.size());
+    }
+
+    private record Chunk(int size, long lastId, int fixed) {
+    }
+}
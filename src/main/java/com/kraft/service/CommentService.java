@@ -2,22 +2,32 @@ package com.kraft.service;
 
 import com.kraft.config.auth.dto.SessionUser;
 import com.kraft.domain.comment.Comment;
+import com.kraft.domain.comment.CommentDeleteTarget;
+import com.kraft.domain.comment.CommentPath;
 import com.kraft.domain.comment.CommentRepository;
 import com.kraft.domain.post.Post;
 import com.kraft.domain.post.PostRepository;
 import com.kraft.domain.user.User;
 import com.kraft.domain.user.UserRepository;
+import com.kraft.service.cache.CountCache;
+import com.kraft.service.cache.CountKey;
+import com.kraft.service.cache.TotalCount;
 import com.kraft.web.dto.comment.CommentResponseDto;
 import com.kraft.web.dto.comment.CommentSaveRequestDto;
 import com.kraft.web.dto.comment.CommentUpdateRequestDto;
+import com.kraft.web.dto.common.CursorResponse;
+import com.kraft.web.dto.common.PageCursor;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.SliceResponse;
 import com.kraft.common.exception.ResourceNotFoundException;
 import com.kraft.common.exception.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +43,16 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final CommentBulkDeleter commentBulkDeleter;
+    private final CountCache countCache;
+
+    private static final int MAX_THREAD_PAGE_SIZE = 100;
+
+    @Value("${kraft.comment.thread.max-depth:3}")
+    private int threadMaxDepth;
+
+    @Value("${kraft.comment.thread.reply-preview:5}")
+    private int threadReplyPreview;
 
     /**
      * 댓글 작성
@@ -52,7 +72,10 @@ public class CommentService {
                 .author(author)
                 .build();
 
+        // 경로는 persist 시점에 ID와 함께 정해져 INSERT에 포함됨 (Comment.onSnowflakeId)
         Comment savedComment = commentRepository.save(comment);
+        postRepository.incrementCommentCount(postId, 1);
+        countCache.adjustAfterCommit(CountKey.parentComments(postId), 1);
 
         log.info("댓글 작성 성공: commentId={}, postId={}, authorId={}",
                 savedComment.getId(), postId, author.getId());
@@ -86,8 +109,11 @@ public class CommentService {
                 .parent(parentComment)
                 .build();
 
-        parentComment.addReply(reply);
+        // 부모의 답글 컬렉션은 로딩하지 않고 답글 수만 원자적으로 증가
+        // 경로(부모 경로 + 자신의 ID)는 persist 시점에 ID와 함께 정해져 INSERT에 포함됨 (Comment.onSnowflakeId)
         Comment savedReply = commentRepository.save(reply);
+        commentRepository.incrementReplyCount(parentId, 1);
+        postRepository.incrementCommentCount(postId, 1);
 
         log.info("답글 작성 성공: replyId={}, parentId={}, postId={}",
                 savedReply.getId(), parentId, postId);
@@ -118,22 +144,27 @@ public class CommentService {
     }
 
     /**
-     * 댓글 삭제
+     * 댓글 삭제 (하위 답글 포함)
+     * 엔티티를 로딩하지 않고 CommentBulkDeleter가 경로 범위로 청크 단위 일괄 삭제
+     * 청크마다 커밋하므로 메서드 전체를 트랜잭션으로 묶지 않음
      * @param commentId 댓글 ID
      * @param sessionUser 삭제 요청자
      */
-    @Transactional
     public void delete(Long commentId, SessionUser sessionUser) {
-        Comment comment = findCommentById(commentId);
+        CommentDeleteTarget target = commentRepository.findDeleteTargetById(commentId)
+                .orElseThrow(() -> new ResourceNotFoundException("댓글", commentId));
 
         // 작성자 본인 확인
-        if (!comment.isAuthor(sessionUser.id())) {
+        if (!target.isAuthor(sessionUser.id())) {
             throw new UnauthorizedException("댓글 작성자만 삭제할 수 있습니다");
         }
 
-        commentRepository.delete(comment);
+        long deletedCount = commentBulkDeleter.deleteSubtree(target);
+        if (target.parentId() == null && deletedCount > 0) {
+            countCache.adjust(CountKey.parentComments(target.postId()), -1);
+        }
 
-        log.info("댓글 삭제 성공: commentId={}", commentId);
+        log.info("댓글 삭제 성공: commentId={}, deletedCount={}", commentId, deletedCount);
     }
 
     /**
@@ -181,24 +212,51 @@ public class CommentService {
         findPostById(postId);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "id"));
-        Page<Comment> commentPage = commentRepository.findParentCommentsByPostId(postId, pageable);
+        Slice<Comment> commentSlice = commentRepository.findParentCommentsByPostId(postId, pageable);
 
-        List<CommentResponseDto> content = commentPage.getContent().stream()
+        List<CommentResponseDto> content = commentSlice.getContent().stream()
                 .map(CommentResponseDto::from)
                 .collect(Collectors.toList());
 
-        log.debug("부모 댓글 페이지 조회: postId={}, page={}, totalElements={}",
-                postId, page, commentPage.getTotalElements());
+        // 전체 개수는 COUNT 쿼리 대신 CountCache에서 읽고 조회한 페이지로 보정
+        TotalCount total = countCache.get(CountKey.parentComments(postId),
+                        () -> commentRepository.countParentCommentsByPostId(postId))
+                .alignWith(page, size, content.size(), commentSlice.hasNext());
+
+        log.debug("부모 댓글 페이지 조회: postId={}, page={}, totalElements={}, exact={}",
+                postId, page, total.value(), total.exact());
 
         return PageResponse.of(
                 content,
-                commentPage.getNumber(),
-                commentPage.getSize(),
-                commentPage.getTotalElements(),
-                commentPage.getTotalPages()
+                commentSlice.getNumber(),
+                commentSlice.getSize(),
+                total.value(),
+                total.totalPages(size),
+                total.exact()
         );
     }
 
+    /**
+     * 특정 게시글의 부모 댓글 페이징 조회 (전체 개수 없음, includeTotal=false)
+     * @param postId 게시글 ID
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 부모 댓글 슬라이스
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<CommentResponseDto> findParentCommentsSlice(Long postId, int page, int size) {
+        findPostById(postId);
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "id"));
+        Slice<Comment> commentSlice = commentRepository.findParentCommentsByPostId(postId, pageable);
+
+        List<CommentResponseDto> content = commentSlice.getContent().stream()
+                .map(CommentResponseDto::from)
+                .collect(Collectors.toList());
+
+        return SliceResponse.of(content, commentSlice.getNumber(), commentSlice.getSize(), commentSlice.hasNext());
+    }
+
     /**
      * 특정 댓글의 답글 목록 조회
      * @param parentId 부모 댓글 ID
@@ -227,13 +285,82 @@ public class CommentService {
     }
 
     /**
-     * 게시글의 댓글 수 조회
+     * 게시글의 댓글 수 조회 (비정규화 컬럼 comment_count, COUNT 쿼리 없음)
      * @param postId 게시글 ID
      * @return 댓글 수
      */
     @Transactional(readOnly = true)
     public long countByPostId(Long postId) {
-        return commentRepository.countByPostId(postId);
+        return postRepository.findCommentCountById(postId).orElse(0L);
+    }
+
+    /**
+     * 특정 게시글의 댓글 트리 커서 페이지네이션 조회 (답글 포함)
+     * 최상위 댓글을 경로 keyset으로 size개 고른 뒤, 그 구간의 댓글만 깊이 제한을 건
+     * (post_id, path) 범위 스캔 한 번으로 조회해 메모리에서 트리로 조립
+     * @param postId 게시글 ID
+     * @param depth 요청 답글 깊이 (null이면 설정 최대값)
+     * @param replyPreview 부모당 요청 답글 수 (null이면 설정 최대값)
+     * @param after 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 최상위 댓글 페이지 크기 (1 ~ 100)
+     * @return 최상위 댓글 커서 페이지 응답 (답글 포함)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponseDto> findThreadByPostId(
+            Long postId,
+            Integer depth,
+            Integer replyPreview,
+            String after,
+            int size
+    ) {
+        if (size < 1 || size > MAX_THREAD_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_THREAD_PAGE_SIZE + " 사이여야 합니다");
+        }
+        int maxDepth = limit(depth, threadMaxDepth);
+        int preview = limit(replyPreview, threadReplyPreview);
+
+        List<String> rootPaths = commentRepository.findRootPathsAfter(postId, afterRootPath(after), Limit.of(size + 1));
+        if (rootPaths.isEmpty()) {
+            if (!postRepository.existsById(postId)) {
+                throw new ResourceNotFoundException("게시글", postId);
+            }
+            return CursorResponse.of(List.of(), size, null);
+        }
+
+        boolean hasNext = rootPaths.size() > size;
+        List<String> page = hasNext ? rootPaths.subList(0, size) : rootPaths;
+        String lastRootPath = page.get(page.size() - 1);
+
+        List<Comment> comments = commentRepository.findThreadRange(
+                postId,
+                page.get(0),
+                CommentPath.subtreeUpperBound(lastRootPath),
+                CommentPath.maxLengthFor(maxDepth));
+
+        long lastRootId = Long.parseLong(lastRootPath);
+        String nextCursor = hasNext ? PageCursor.of(lastRootId, lastRootId).encode() : null;
+        return CursorResponse.of(CommentThreadBuilder.build(comments, maxDepth, preview), size, nextCursor);
+    }
+
+    private static String afterRootPath(String after) {
+        if (after == null || after.isBlank()) {
+            return "";
+        }
+        long rootId = PageCursor.decode(after).id();
+        if (rootId < 0) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + after);
+        }
+        return CommentPath.root(rootId);
+    }
+
+    private int limit(Integer requested, int max) {
+        if (requested == null) {
+            return max;
+        }
+        if (requested < 0) {
+            throw new IllegalArgumentException("0 이상의 값이어야 합니다: " + requested);
+        }
+        return Math.min(requested, max);
     }
 
     private Comment findCommentById(Long commentId) {
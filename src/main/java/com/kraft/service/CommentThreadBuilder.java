@@ -0,0 +1,76 @@
+package com.kraft.service;
+
+import com.kraft.domain.comment.Comment;
+import com.kraft.web.dto.comment.CommentResponseDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 목록 → 댓글 트리 조립
+ * - 최상위 댓글 한 페이지 구간의 댓글을 한 번에 조회한 결과를 ID → 노드 맵으로 한 번 훑어 부모에 연결 (O(n))
+ * - maxDepth보다 깊은 답글과 부모당 replyPreview개를 넘는 답글은 응답에서 생략
+ *   (replyCount는 전체 답글 수이므로 클라이언트가 나머지를 /{parentId}/replies로 조회)
+ */
+final class CommentThreadBuilder {
+
+    private CommentThreadBuilder() {
+    }
+
+    /**
+     * @param comments 최상위 댓글 한 페이지 구간의 댓글 (경로순, 형제 답글은 ID 오름차순)
+     * @param maxDepth 포함할 최대 답글 깊이 (0이면 최상위 댓글만)
+     * @param replyPreview 부모 댓글당 포함할 최대 답글 수
+     * @return 최상위 댓글 목록 (답글 포함)
+     */
+    static List<CommentResponseDto> build(List<Comment> comments, int maxDepth, int replyPreview) {
+        Map<Long, Node> nodes = new HashMap<>(comments.size() * 2);
+        List<Node> roots = new ArrayList<>();
+
+        for (Comment comment : comments) {
+            nodes.put(comment.getId(), new Node(comment));
+        }
+        for (Comment comment : comments) {
+            Node node = nodes.get(comment.getId());
+            // 부모 프록시의 ID만 읽으므로 부모 댓글을 추가로 조회하지 않음
+            Node parent = comment.getParent() != null ? nodes.get(comment.getParent().getId()) : null;
+            if (parent == null) {
+                roots.add(node);
+            } else {
+                parent.children.add(node);
+            }
+        }
+
+        List<CommentResponseDto> result = new ArrayList<>(roots.size());
+        for (Node root : roots) {
+            result.add(root.toDto(0, maxDepth, replyPreview));
+        }
+        return result;
+    }
+
+    private static final class Node {
+
+        private final Comment comment;
+        private final List<Node> children = new ArrayList<>();
+
+        private Node(Comment comment) {
+            this.comment = comment;
+        }
+
+        private CommentResponseDto toDto(int depth, int maxDepth, int replyPreview) {
+            CommentResponseDto dto = CommentResponseDto.from(comment);
+            if (depth >= maxDepth) {
+                return dto;
+            }
+
+            int previewSize = Math.min(children.size(), replyPreview);
+            List<CommentResponseDto> replies = new ArrayList<>(previewSize);
+            for (int i = 0; i < previewSize; i++) {
+                replies.add(children.get(i).toDto(depth + 1, maxDepth, replyPreview));
+            }
+            return dto.withReplies(replies);
+        }
+    }
+}
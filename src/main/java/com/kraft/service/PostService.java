@@ -2,25 +2,52 @@ package com.kraft.service;
 
 import com.kraft.config.auth.dto.SessionUser;
 import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostChangedEvent;
 import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
 import com.kraft.domain.user.User;
 import com.kraft.domain.user.UserRepository;
+import com.kraft.service.cache.CountCache;
+import com.kraft.service.cache.CountKey;
+import com.kraft.service.cache.HotPostTracker;
+import com.kraft.service.cache.PostCache;
+import com.kraft.service.cache.PostListCache;
+import com.kraft.service.cache.RecentPostsBuffer;
+import com.kraft.service.cache.TotalCount;
+import com.kraft.service.ranking.PopularPostRanking;
+import com.kraft.service.ranking.TrendingPosts;
+import com.kraft.service.ranking.TrendingWindow;
+import com.kraft.service.search.PostSearcher;
+import com.kraft.service.search.SearchPage;
+import com.kraft.web.dto.common.CursorResponse;
+import com.kraft.web.dto.common.PageCursor;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.SliceResponse;
 import com.kraft.web.dto.post.PostResponseDto;
 import com.kraft.web.dto.post.PostSaveRequestDto;
 import com.kraft.web.dto.post.PostUpdateRequestDto;
 import com.kraft.web.dto.post.PostsListResponseDto;
+import com.kraft.web.dto.post.TrendingPostResponseDto;
 import com.kraft.common.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,18 +55,48 @@ import java.util.stream.Collectors;
 @Service
 public class PostService {
 
+    private static final int MAX_LIST_SIZE = 100;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UniqueViewers uniqueViewers;
+    private final PostSearcher postSearcher;
+    private final PostCache postCache;
+    private final HotPostTracker hotPostTracker;
+    private final PostListCache postListCache;
+    private final RecentPostsBuffer recentPostsBuffer;
+    private final CountCache countCache;
+    private final PopularPostRanking popularPostRanking;
+    private final TrendingPosts trendingPosts;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 게시글 작성
+     * 작성자는 프록시 참조(getReferenceById)로만 연결하므로 users 행 전체와 작성자의 게시글 목록을 조회하지 않음
+     * 프록시는 @SQLRestriction(탈퇴 제외)을 거치지 않으므로, 탈퇴한 사용자가 남은 세션으로 글을 쓰지 못하도록 PK 존재 확인(COUNT)만 먼저 수행
+     * (확인 이후 정리 작업으로 행이 사라진 경우는 INSERT 시 FK 위반으로 확인, 커밋 전에 확인하도록 즉시 flush)
+     * @param requestDto 게시글 작성 요청 DTO
+     * @param sessionUser 로그인 사용자
+     * @return 생성된 게시글 ID
+     */
     @Transactional
     public Long save(PostSaveRequestDto requestDto, SessionUser sessionUser) {
-        User author = findUserById(sessionUser.id());
+        if (!userRepository.existsById(sessionUser.id())) {
+            throw new ResourceNotFoundException("사용자", sessionUser.id());
+        }
+        User author = userRepository.getReferenceById(sessionUser.id());
         Post post = requestDto.toEntity(author);
 
-        author.addPost(post);
-        Post savedPost = postRepository.save(post);
+        Post savedPost;
+        try {
+            savedPost = postRepository.saveAndFlush(post);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceNotFoundException("사용자", sessionUser.id());
+        }
+        eventPublisher.publishEvent(PostChangedEvent.created(savedPost.getId()));
 
-        log.info("게시글 작성 성공: postId={}, authorId={}", savedPost.getId(), author.getId());
+        log.info("게시글 작성 성공: postId={}, authorId={}", savedPost.getId(), sessionUser.id());
         return savedPost.getId();
     }
 
@@ -47,15 +104,24 @@ public class PostService {
     public Long update(Long id, PostUpdateRequestDto requestDto) {
         Post post = findPostById(id);
         post.update(requestDto.getTitle(), requestDto.getContent());
+        eventPublisher.publishEvent(PostChangedEvent.updated(id));
 
         log.info("게시글 수정 성공: postId={}", id);
         return id;
     }
 
+    /**
+     * 게시글 삭제 (소프트 삭제)
+     * deleted_at만 채우므로 댓글 수와 무관하게 UPDATE 한 번으로 끝나고 즉시 모든 조회에서 제외됨
+     * 댓글과 게시글 행은 TombstonePurger가 청크 단위로 정리
+     * @param id 게시글 ID
+     */
     @Transactional
     public void delete(Long id) {
         Post post = findPostById(id);
-        postRepository.delete(post);
+        post.markDeleted();
+        Long categoryId = post.getCategory() == null ? null : post.getCategory().getId();
+        eventPublisher.publishEvent(PostChangedEvent.deleted(id, categoryId));
 
         log.info("게시글 삭제 성공: postId={}", id);
     }
@@ -68,61 +134,95 @@ public class PostService {
 
     /**
      * 게시글 조회 (조회수 증가)
+     * 게시글은 PostCache(L1/L2)에서 읽고, 조회수는 ViewCountBuffer에 누적했다가 주기적으로 반영
+     * 같은 방문자의 하루 중 두 번째 이후 조회는 조회수를 올리지 않음 (UniqueViewers)
+     * 모든 조회를 HotPostTracker에 기록해 자주 조회되는 게시글을 집계
+     * 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션을 열지 않음
      * @param id 게시글 ID
-     * @return 게시글 응답 DTO
+     * @param viewerKey 방문자 키 (null이면 매 조회를 처음 방문으로 셈)
+     * @return 게시글 응답 DTO (미반영 조회수, 오늘 순 방문자 추정치 포함)
      */
-    @Transactional
-    public PostResponseDto findByIdAndIncrementView(Long id) {
-        Post post = findPostById(id);
-        post.incrementViewCount();
-
-        log.debug("게시글 조회수 증가: postId={}, viewCount={}", id, post.getViewCount());
-        return PostResponseDto.from(post);
+    public PostResponseDto findByIdAndIncrementView(Long id, String viewerKey) {
+        PostResponseDto post = postCache.get(id, this::loadPost);
+        hotPostTracker.recordRead(id);
+        UniqueViewers.Visit visit = uniqueViewers.visit(id, viewerKey);
+        long pendingViews = visit.first() ? viewCountBuffer.increment(id) : viewCountBuffer.pendingCount(id);
+        long viewCount = post.viewCount() + pendingViews;
+
+        log.debug("게시글 조회: postId={}, viewCount={}, firstView={}", id, viewCount, visit.first());
+        return post.withViews(viewCount, visit.uniqueViewers());
     }
 
-    @Transactional(readOnly = true)
-    public List<PostsListResponseDto> findAllDesc() {
-        return postRepository.findAllDesc().stream()
-                .map(PostsListResponseDto::from)
-                .collect(Collectors.toList());
+    /**
+     * 최신 게시글 목록 (홈 화면, /list)
+     * 첫 페이지는 PostListCache에서 읽고, 다음 페이지는 커서(keyset) 조회라 게시글 수와 무관하게 비용이 일정함
+     * @param after 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 커서 페이지 응답
+     */
+    public CursorResponse<PostsListResponseDto> findLatest(String after, int size) {
+        if (size > MAX_LIST_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 " + MAX_LIST_SIZE + " 이하여야 합니다");
+        }
+        if (after == null || after.isBlank()) {
+            return postListCache.firstPage(size, pageSize -> findAllByCursor(null, pageSize));
+        }
+        return findAllByCursor(after, size);
     }
 
     /**
      * 페이지네이션으로 게시글 목록 조회
+     * 최신순(id DESC) 첫 페이지는 RecentPostsBuffer에서 응답하며, 이때 DB 커넥션을 쓰지 않도록 트랜잭션을 열지 않음
      * @param page 페이지 번호 (0부터 시작)
      * @param size 페이지 크기
      * @param sortBy 정렬 기준 (id, createAt, updateAt)
      * @param direction 정렬 방향 (ASC, DESC)
      * @return 페이지네이션 응답
      */
-    @Transactional(readOnly = true)
     public PageResponse<PostsListResponseDto> findAllWithPagination(
             int page,
             int size,
             String sortBy,
             String direction
     ) {
-        Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC")
-                ? Sort.Direction.ASC
-                : Sort.Direction.DESC;
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        Page<Post> postPage = postRepository.findAllWithAuthor(pageable);
-
-        List<PostsListResponseDto> content = postPage.getContent().stream()
-                .map(PostsListResponseDto::from)
-                .collect(Collectors.toList());
-
-        log.debug("게시글 페이지 조회: page={}, size={}, totalElements={}",
-                page, size, postPage.getTotalElements());
+        if (page == 0 && "id".equals(sortBy) && direction.equalsIgnoreCase("DESC")) {
+            Optional<PageResponse<PostsListResponseDto>> recent = recentPostsBuffer.firstPage(size);
+            if (recent.isPresent()) {
+                return recent.get();
+            }
+        }
+
+        Slice<PostSummary> postSlice = postRepository.findAllSummaries(listPageable(page, size, sortBy, direction));
+        PageResponse<PostsListResponseDto> response =
+                toPageResponse(postSlice, CountKey.posts(), postRepository::countVisible);
+
+        log.debug("게시글 페이지 조회: page={}, size={}, totalElements={}, exact={}",
+                page, size, response.totalElements(), response.totalExact());
+        return response;
+    }
 
-        return PageResponse.of(
-                content,
-                postPage.getNumber(),
-                postPage.getSize(),
-                postPage.getTotalElements(),
-                postPage.getTotalPages()
-        );
+    /**
+     * 페이지네이션으로 게시글 목록 조회 (전체 개수 없음, includeTotal=false)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @param sortBy 정렬 기준 (id, createAt, updateAt)
+     * @param direction 정렬 방향 (ASC, DESC)
+     * @return 슬라이스 응답
+     */
+    public SliceResponse<PostsListResponseDto> findAllSlice(
+            int page,
+            int size,
+            String sortBy,
+            String direction
+    ) {
+        if (page == 0 && "id".equals(sortBy) && direction.equalsIgnoreCase("DESC")) {
+            Optional<PageResponse<PostsListResponseDto>> recent = recentPostsBuffer.firstPage(size);
+            if (recent.isPresent()) {
+                return SliceResponse.from(recent.get());
+            }
+        }
+
+        return toSliceResponse(postRepository.findAllSummaries(listPageable(page, size, sortBy, direction)));
     }
 
     /**
@@ -139,57 +239,121 @@ public class PostService {
 
     /**
      * 제목 또는 내용으로 게시글 검색
+     * 설정된 검색 방식(메모리 색인, FULLTEXT)으로 처리할 수 있으면 관련도순, 아니면 LIKE 검색(최신순)으로 처리
+     * 트랜잭션을 열지 않음: FULLTEXT 쿼리가 실패하면 같은 트랜잭션이 rollback-only가 되어 LIKE 검색 결과도 커밋 시 실패하므로,
+     * 각 쿼리가 따로 실행되도록 함 (모두 읽기 전용 프로젝션 조회)
      * @param keyword 검색 키워드
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @return 검색 결과 페이지
      */
-    @Transactional(readOnly = true)
     public PageResponse<PostsListResponseDto> searchPosts(String keyword, int page, int size) {
+        Optional<SearchPage> ranked = postSearcher.search(keyword, page, size);
+        if (ranked.isPresent()) {
+            return toSearchPage(keyword, ranked.get(), page, size);
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
-        Page<Post> postPage = postRepository.searchByTitleOrContent(keyword, pageable);
+        Slice<PostSummary> postSlice = postRepository.searchByTitleOrContent(keyword, pageable);
+        PageResponse<PostsListResponseDto> response = toPageResponse(postSlice, CountKey.search(keyword),
+                () -> postRepository.countByTitleOrContent(keyword));
 
-        List<PostsListResponseDto> content = postPage.getContent().stream()
-                .map(PostsListResponseDto::from)
-                .collect(Collectors.toList());
+        log.debug("게시글 검색: keyword={}, page={}, totalElements={}, exact={}",
+                keyword, page, response.totalElements(), response.totalExact());
+        return response;
+    }
 
-        log.debug("게시글 검색: keyword={}, page={}, totalElements={}",
-                keyword, page, postPage.getTotalElements());
+    /**
+     * 제목 또는 내용으로 게시글 검색 (전체 개수 없음, includeTotal=false)
+     * 관련도 검색은 색인/FULLTEXT가 일치 수를 함께 돌려주므로 그 값으로 다음 페이지 여부를 판단
+     * @param keyword 검색 키워드
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 슬라이스 응답
+     */
+    public SliceResponse<PostsListResponseDto> searchPostsSlice(String keyword, int page, int size) {
+        Optional<SearchPage> ranked = postSearcher.search(keyword, page, size);
+        if (ranked.isPresent()) {
+            return SliceResponse.from(toSearchPage(keyword, ranked.get(), page, size));
+        }
 
-        return PageResponse.of(
-                content,
-                postPage.getNumber(),
-                postPage.getSize(),
-                postPage.getTotalElements(),
-                postPage.getTotalPages()
-        );
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
+        return toSliceResponse(postRepository.searchByTitleOrContent(keyword, pageable));
+    }
+
+    /**
+     * 검색 결과 페이지의 게시글을 조회해 관련도 순서대로 반환
+     */
+    private PageResponse<PostsListResponseDto> toSearchPage(String keyword, SearchPage result, int page, int size) {
+        List<Long> pageIds = result.postIds();
+
+        List<PostsListResponseDto> content = List.of();
+        if (!pageIds.isEmpty()) {
+            Map<Long, Integer> rank = new HashMap<>();
+            for (int i = 0; i < pageIds.size(); i++) {
+                rank.put(pageIds.get(i), i);
+            }
+            // 검색과 조회 사이에 삭제된 게시글은 결과에서 빠질 수 있음
+            content = postRepository.findSummariesByIdIn(pageIds).stream()
+                    .sorted(Comparator.comparing(post -> rank.get(post.id())))
+                    .map(PostsListResponseDto::from)
+                    .collect(Collectors.toList());
+        }
+
+        int totalPages = (int) Math.ceil((double) result.totalHits() / size);
+
+        log.debug("게시글 관련도 검색: mode={}, keyword={}, page={}, totalElements={}",
+                postSearcher.mode(), keyword, page, result.totalHits());
+
+        return PageResponse.of(content, page, size, result.totalHits(), totalPages);
     }
 
     /**
      * 인기 게시글 조회 (조회수 기준)
+     * PopularPostRanking(Redis ZSET)으로 응답할 수 있으면 DB를 조회하지 않으므로 트랜잭션을 열지 않음
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @return 인기 게시글 페이지
      */
-    @Transactional(readOnly = true)
     public PageResponse<PostsListResponseDto> findPopularPosts(int page, int size) {
+        Optional<PageResponse<PostsListResponseDto>> ranked = popularPostRanking.page(page, size);
+        if (ranked.isPresent()) {
+            return ranked.get();
+        }
+
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> postPage = postRepository.findPopularPosts(pageable);
+        Slice<PostSummary> postSlice = postRepository.findPopularPosts(pageable);
+        PageResponse<PostsListResponseDto> response =
+                toPageResponse(postSlice, CountKey.posts(), postRepository::countVisible);
 
-        List<PostsListResponseDto> content = postPage.getContent().stream()
-                .map(PostsListResponseDto::from)
-                .collect(Collectors.toList());
+        log.debug("인기 게시글 조회: page={}, size={}, totalElements={}, exact={}",
+                page, size, response.totalElements(), response.totalExact());
+        return response;
+    }
 
-        log.debug("인기 게시글 조회: page={}, size={}, totalElements={}",
-                page, size, postPage.getTotalElements());
+    /**
+     * 인기 게시글 조회 (조회수 기준, 전체 개수 없음, includeTotal=false)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 슬라이스 응답
+     */
+    public SliceResponse<PostsListResponseDto> findPopularSlice(int page, int size) {
+        Optional<PageResponse<PostsListResponseDto>> ranked = popularPostRanking.page(page, size);
+        if (ranked.isPresent()) {
+            return SliceResponse.from(ranked.get());
+        }
+        return toSliceResponse(postRepository.findPopularPosts(PageRequest.of(page, size)));
+    }
 
-        return PageResponse.of(
-                content,
-                postPage.getNumber(),
-                postPage.getSize(),
-                postPage.getTotalElements(),
-                postPage.getTotalPages()
-        );
+    /**
+     * 트렌딩 게시글 조회 (최근 구간 조회수를 시간 감쇠한 점수 기준)
+     * 주기적으로 계산한 메모리 스냅샷에서 응답하므로 DB를 조회하지 않음
+     * @param window 집계 구간 (hour, day, week)
+     * @param size 조회 개수
+     * @return 트렌딩 게시글 목록
+     */
+    public List<TrendingPostResponseDto> findTrending(String window, int size) {
+        return trendingPosts.trending(TrendingWindow.from(window), size);
     }
 
     /**
@@ -202,31 +366,151 @@ public class PostService {
     @Transactional(readOnly = true)
     public PageResponse<PostsListResponseDto> findByCategoryId(Long categoryId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
-        Page<Post> postPage = postRepository.findByCategoryId(categoryId, pageable);
+        Slice<PostSummary> postSlice = postRepository.findByCategoryId(categoryId, pageable);
+        PageResponse<PostsListResponseDto> response = toPageResponse(postSlice, CountKey.categoryPosts(categoryId),
+                () -> postRepository.countVisibleByCategoryId(categoryId));
+
+        log.debug("카테고리별 게시글 조회: categoryId={}, page={}, totalElements={}, exact={}",
+                categoryId, page, response.totalElements(), response.totalExact());
+        return response;
+    }
+
+    /**
+     * 카테고리별 게시글 조회 (전체 개수 없음, includeTotal=false)
+     * @param categoryId 카테고리 ID
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 슬라이스 응답
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<PostsListResponseDto> findByCategoryIdSlice(Long categoryId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
+        return toSliceResponse(postRepository.findByCategoryId(categoryId, pageable));
+    }
+
+    /**
+     * 최신 게시글 커서 페이지네이션 조회
+     * @param after 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 커서 페이지 응답
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostsListResponseDto> findAllByCursor(String after, int size) {
+        validateCursorSize(size);
+        PageCursor cursor = PageCursor.decode(after);
+
+        List<PostSummary> posts = postRepository.findLatestAfter(cursor.id(), Limit.of(size + 1));
+        return toCursorResponse(posts, size, post -> PageCursor.of(post.id(), post.id()));
+    }
+
+    /**
+     * 인기 게시글 커서 페이지네이션 조회 (조회수 기준)
+     * @param after 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 커서 페이지 응답
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostsListResponseDto> findPopularByCursor(String after, int size) {
+        validateCursorSize(size);
+        PageCursor cursor = PageCursor.decode(after);
 
-        List<PostsListResponseDto> content = postPage.getContent().stream()
+        List<PostSummary> posts = postRepository.findPopularAfter(cursor.sortKey(), cursor.id(), Limit.of(size + 1));
+        return toCursorResponse(posts, size, post -> PageCursor.of(post.viewCount(), post.id()));
+    }
+
+    /**
+     * 카테고리별 게시글 커서 페이지네이션 조회
+     * @param categoryId 카테고리 ID
+     * @param after 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 커서 페이지 응답
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostsListResponseDto> findByCategoryIdByCursor(Long categoryId, String after, int size) {
+        validateCursorSize(size);
+        PageCursor cursor = PageCursor.decode(after);
+
+        List<PostSummary> posts = postRepository.findByCategoryIdAfter(categoryId, cursor.id(), Limit.of(size + 1));
+        return toCursorResponse(posts, size, post -> PageCursor.of(post.id(), post.id()));
+    }
+
+    /**
+     * 슬라이스(size + 1개 조회)와 CountCache의 전체 개수로 페이지 응답 생성
+     * 캐시에 개수가 있으면 COUNT 쿼리를 실행하지 않고, 조회한 페이지로 알 수 있는 만큼 개수를 보정
+     */
+    private PageResponse<PostsListResponseDto> toPageResponse(
+            Slice<PostSummary> slice,
+            CountKey countKey,
+            LongSupplier counter
+    ) {
+        List<PostsListResponseDto> content = slice.getContent().stream()
                 .map(PostsListResponseDto::from)
                 .collect(Collectors.toList());
 
-        log.debug("카테고리별 게시글 조회: categoryId={}, page={}, totalElements={}",
-                categoryId, page, postPage.getTotalElements());
+        TotalCount total = countCache.get(countKey, counter)
+                .alignWith(slice.getNumber(), slice.getSize(), content.size(), slice.hasNext());
 
         return PageResponse.of(
                 content,
-                postPage.getNumber(),
-                postPage.getSize(),
-                postPage.getTotalElements(),
-                postPage.getTotalPages()
+                slice.getNumber(),
+                slice.getSize(),
+                total.value(),
+                total.totalPages(slice.getSize()),
+                total.exact()
         );
     }
 
-    private Post findPostById(Long id) {
-        return postRepository.findById(id)
+    /**
+     * 슬라이스(size + 1개 조회)를 그대로 응답으로 변환 (COUNT 쿼리 없음)
+     */
+    private SliceResponse<PostsListResponseDto> toSliceResponse(Slice<PostSummary> slice) {
+        List<PostsListResponseDto> content = slice.getContent().stream()
+                .map(PostsListResponseDto::from)
+                .collect(Collectors.toList());
+
+        return SliceResponse.of(content, slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+
+    private Pageable listPageable(int page, int size, String sortBy, String direction) {
+        Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+        return PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+    }
+
+    /**
+     * size + 1개 조회 결과로 다음 페이지 존재 여부와 커서를 계산
+     */
+    private CursorResponse<PostsListResponseDto> toCursorResponse(
+            List<PostSummary> posts,
+            int size,
+            Function<PostSummary, PageCursor> cursorOf
+    ) {
+        boolean hasNext = posts.size() > size;
+        List<PostSummary> page = hasNext ? posts.subList(0, size) : posts;
+
+        List<PostsListResponseDto> content = page.stream()
+                .map(PostsListResponseDto::from)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return CursorResponse.of(content, size, nextCursor);
+    }
+
+    private void validateCursorSize(int size) {
+        if (size < 1 || size > MAX_LIST_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_LIST_SIZE + " 사이여야 합니다");
+        }
+    }
+
+    private PostResponseDto loadPost(Long id) {
+        return postRepository.findByIdWithAuthor(id)
+                .map(PostResponseDto::from)
                 .orElseThrow(() -> new ResourceNotFoundException("게시글", id));
     }
 
-    private User findUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
+    private Post findPostById(Long id) {
+        return postRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("게시글", id));
     }
 }
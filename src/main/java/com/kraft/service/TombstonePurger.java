@@ -0,0 +1,149 @@
+package com.kraft.service;
+
+import com.kraft.domain.comment.CommentDeleteTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 소프트 삭제된 게시글/사용자 정리 작업
+ * - 삭제 표시(deleted_at) 행을 batchSize개씩 찾아 댓글 → 게시글 → 사용자 순으로 실제 삭제
+ * - 댓글은 CommentBulkDeleter로 청크마다 커밋하고, 배치 사이에 pauseMs만큼 쉬어 잠금이 몰리지 않게 함
+ * - 엔티티의 @SQLRestriction(deleted_at IS NULL)을 거치지 않도록 대상 조회와 행 삭제는 JDBC로 처리
+ * - 중간에 멈춰도 삭제 표시가 남아 있으므로 다음 실행에서 이어서 정리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TombstonePurger {
+
+    static final String DELETED_POSTS_SQL =
+            "SELECT id FROM posts WHERE deleted_at IS NOT NULL ORDER BY id LIMIT ?";
+    static final String DELETED_USERS_SQL =
+            "SELECT id FROM users WHERE deleted_at IS NOT NULL ORDER BY id LIMIT ?";
+    static final String POSTS_BY_AUTHOR_SQL =
+            "SELECT id FROM posts WHERE author_id = ? ORDER BY id LIMIT ?";
+    // 경로순 = 상위 댓글부터 (상위 댓글의 하위 트리를 지우면 그 아래 같은 작성자 댓글도 함께 지워짐)
+    static final String COMMENTS_BY_AUTHOR_SQL =
+            "SELECT id, post_id, parent_id, author_id, path FROM comments WHERE author_id = ? ORDER BY path LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CommentBulkDeleter commentBulkDeleter;
+
+    @Value("${kraft.purge.batch-size:100}")
+    private int batchSize;
+
+    @Value("${kraft.purge.pause-ms:200}")
+    private long pauseMs;
+
+    /**
+     * 전체 정리 실행
+     * @return 삭제된 게시글 + 사용자 수
+     */
+    @Scheduled(fixedDelayString = "${kraft.purge.interval-ms:30000}")
+    public long purge() {
+        long posts = purgeDeletedPosts();
+        long users = purgeDeletedUsers();
+
+        if (posts + users > 0) {
+            log.info("삭제 표시 정리 완료: posts={}, users={}", posts, users);
+        }
+        return posts + users;
+    }
+
+    private long purgeDeletedPosts() {
+        long purged = 0;
+        while (true) {
+            List<Long> postIds = jdbcTemplate.queryForList(DELETED_POSTS_SQL, Long.class, batchSize);
+            for (Long postId : postIds) {
+                purgePost(postId);
+            }
+            purged += postIds.size();
+            if (postIds.size() < batchSize || !pause()) {
+                return purged;
+            }
+        }
+    }
+
+    private long purgeDeletedUsers() {
+        long purged = 0;
+        while (true) {
+            List<Long> userIds = jdbcTemplate.queryForList(DELETED_USERS_SQL, Long.class, batchSize);
+            for (Long userId : userIds) {
+                if (!purgeUser(userId)) {
+                    return purged;
+                }
+                purged++;
+            }
+            if (userIds.size() < batchSize || !pause()) {
+                return purged;
+            }
+        }
+    }
+
+    /**
+     * 사용자 정리: 다른 게시글에 단 댓글(하위 답글 포함) → 작성한 게시글 → 사용자 행
+     * @return 끝까지 정리했으면 true (중단 요청 시 false)
+     */
+    private boolean purgeUser(Long userId) {
+        while (true) {
+            List<CommentDeleteTarget> targets = jdbcTemplate.query(COMMENTS_BY_AUTHOR_SQL, (rs, rowNum) ->
+                    new CommentDeleteTarget(
+                            rs.getLong("id"),
+                            rs.getLong("post_id"),
+                            rs.getObject("parent_id", Long.class),
+                            rs.getLong("author_id"),
+                            rs.getString("path")
+                    ), userId, batchSize);
+            long deleted = 0;
+            for (CommentDeleteTarget target : targets) {
+                deleted += commentBulkDeleter.deleteSubtree(target);
+            }
+            if (targets.size() < batchSize || deleted == 0) {
+                break;
+            }
+            if (!pause()) {
+                return false;
+            }
+        }
+
+        while (true) {
+            List<Long> postIds = jdbcTemplate.queryForList(POSTS_BY_AUTHOR_SQL, Long.class, userId, batchSize);
+            for (Long postId : postIds) {
+                purgePost(postId);
+            }
+            if (postIds.size() < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                return false;
+            }
+        }
+
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        return true;
+    }
+
+    private void purgePost(Long postId) {
+        commentBulkDeleter.deleteAllByPostId(postId);
+        jdbcTemplate.update("DELETE FROM posts WHERE id = ?", postId);
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.kraft.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 게시글별 하루 순 방문자 (Redis HyperLogLog)
+ * - 처음 방문 판정은 게시글/날짜별 SET의 SADD 결과로 정확히 함 (처음 본 방문자일 때만 조회수를 올리도록 알려줌)
+ * - 같은 방문자 키를 게시글/날짜별 HLL에도 PFADD하고 PFCOUNT를 순 방문자 추정치로 응답 (표준 오차 약 0.81%)
+ *   PFADD는 레지스터가 바뀔 때만 1을 반환해 방문자가 늘수록 새 방문자도 0이 잦아지므로 판정에는 쓰지 않음
+ * - SADD/PFADD/PFCOUNT/EXPIRE를 파이프라인 한 번으로 보냄
+ * - Redis를 쓰지 않거나 오류면 노드별 Caffeine 캐시로 중복만 거르고 추정치는 null (kraft.redis.enabled=false)
+ */
+@Slf4j
+@Component
+public class UniqueViewers {
+
+    static final String KEY_PREFIX = "kraft:viewers:";
+    static final String SEEN_KEY_PREFIX = "kraft:viewers:seen:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean redisEnabled;
+    private final Duration ttl;
+    private final Cache<String, Boolean> localSeen;
+
+    private final Counter firstViews;
+    private final Counter repeatViews;
+
+    public UniqueViewers(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${kraft.redis.enabled:true}") boolean redisEnabled,
+            @Value("${kraft.view-count.unique.ttl-hours:48}") long ttlHours,
+            @Value("${kraft.view-count.unique.local-max-size:100000}") long localMaxSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.localSeen = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofDays(1))
+                .build();
+
+        this.firstViews = Counter.builder("post.views").tag("result", "first")
+                .description("하루 중 처음 본 방문자의 조회 수 (조회수 증가)").register(meterRegistry);
+        this.repeatViews = Counter.builder("post.views").tag("result", "repeat")
+                .description("같은 날 다시 본 방문자의 조회 수 (조회수 유지)").register(meterRegistry);
+    }
+
+    /**
+     * 방문 기록
+     * @param postId 게시글 ID
+     * @param viewerKey 방문자 키 (사용자 ID, 세션 ID 등, null이면 구분하지 않고 처음 방문으로 처리)
+     * @return 처음 방문 여부와 오늘 순 방문자 추정치
+     */
+    public Visit visit(Long postId, String viewerKey) {
+        if (viewerKey == null) {
+            firstViews.increment();
+            return new Visit(true, null);
+        }
+
+        String suffix = postId + ":" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        String key = KEY_PREFIX + suffix;
+        Visit visit = redisEnabled ? visitRemote(SEEN_KEY_PREFIX + suffix, key, viewerKey) : null;
+        if (visit == null) {
+            visit = new Visit(localSeen.asMap().putIfAbsent(key + ":" + viewerKey, Boolean.TRUE) == null, null);
+        }
+
+        (visit.first() ? firstViews : repeatViews).increment();
+        return visit;
+    }
+
+    private Visit visitRemote(String seenKey, String key, String viewerKey) {
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection commands = (StringRedisConnection) connection;
+                commands.sAdd(seenKey, viewerKey);
+                commands.pfAdd(key, viewerKey);
+                commands.pfCount(key);
+                commands.expire(seenKey, ttl.toSeconds());
+                commands.expire(key, ttl.toSeconds());
+                return null;
+            });
+            Long added = (Long) results.get(0);
+            Long count = (Long) results.get(2);
+            return new Visit(added != null && added == 1L, count);
+        } catch (RuntimeException e) {
+            log.warn("순 방문자 기록 실패, 노드별 중복 확인으로 대체: key={}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * 방문 결과
+     * @param first 오늘 처음 본 방문자면 true (조회수 증가 대상)
+     * @param uniqueViewers 오늘 순 방문자 추정치 (Redis를 쓰지 못하면 null)
+     */
+    public record Visit(boolean first, Long uniqueViewers) {
+    }
+}
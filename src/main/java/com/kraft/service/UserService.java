@@ -2,6 +2,7 @@ package com.kraft.service;
 
 import com.kraft.domain.user.User;
 import com.kraft.domain.user.UserRepository;
+import com.kraft.domain.user.UserWithdrawnEvent;
 import com.kraft.web.dto.user.SignupRequestDto;
 import com.kraft.web.dto.user.UserProfileResponseDto;
 import com.kraft.common.exception.DuplicateResourceException;
@@ -9,6 +10,7 @@ import com.kraft.common.exception.ResourceNotFoundException;
 import com.kraft.common.exception.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +22,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long register(SignupRequestDto requestDto) {
@@ -85,10 +88,18 @@ public class UserService {
         log.info("비밀번호 변경 성공: userId={}", userId);
     }
 
+    /**
+     * 회원 탈퇴 (소프트 삭제)
+     * deleted_at만 채우므로 게시글/댓글 수와 무관하게 즉시 끝나고,
+     * 사용자와 그 게시글/댓글은 TombstonePurger가 청크 단위로 정리
+     * 커밋 이후 UserWithdrawnEvent로 게시글을 검색 색인에서 제거
+     * @param userId 사용자 ID
+     */
     @Transactional
     public void delete(Long userId) {
         User user = findById(userId);
-        userRepository.delete(user);
+        user.markDeleted();
+        eventPublisher.publishEvent(new UserWithdrawnEvent(userId));
         log.info("회원 탈퇴 성공: userId={}", userId);
     }
 
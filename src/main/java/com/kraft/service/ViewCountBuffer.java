@@ -0,0 +1,110 @@
+package com.kraft.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 버퍼
+ * - 조회 시에는 메모리 카운터만 증가시키므로 posts 행 잠금을 잡지 않음
+ * - 주기적으로 누적분을 JDBC 배치 UPDATE(view_count = view_count + ?)로 반영
+ * - 반영이 끝나면 ViewCountFlushedEvent를 발행해 캐시된 조회수를 보정할 수 있도록 함
+ * - 애플리케이션 종료 시 남은 누적분을 모두 반영
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ViewCountBuffer {
+
+    static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    /**
+     * 게시글 ID별 미반영 조회수
+     * merge/remove가 키 단위로 원자적이므로 반영 중에 들어온 증가분도 유실되지 않음
+     */
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 조회수 1 증가
+     * @param postId 게시글 ID
+     * @return 아직 DB에 반영되지 않은 누적 조회수 (이번 조회 포함)
+     */
+    public long increment(Long postId) {
+        return pending.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 조회
+     * @param postId 게시글 ID
+     * @return 미반영 조회수
+     */
+    public long pendingCount(Long postId) {
+        return pending.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     * 게시글 ID 순으로 정렬해 여러 노드가 동시에 반영해도 잠금 순서가 엇갈리지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${kraft.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        pending.keySet().stream().sorted().forEach(postId -> {
+            Long delta = pending.remove(postId);
+            if (delta != null) {
+                batch.add(new Object[]{delta, postId});
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionOperations.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            log.debug("조회수 반영 완료: posts={}", batch.size());
+        } catch (DataAccessException | TransactionException e) {
+            // 트랜잭션 단위로 롤백되므로 누적분을 되돌려 다음 주기에 재시도
+            // (DB 장애 시에는 커넥션을 얻지 못해 CannotCreateTransactionException으로 실패함)
+            batch.forEach(args -> pending.merge((Long) args[1], (Long) args[0], Long::sum));
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: posts={}", batch.size(), e);
+            return;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>(batch.size() * 2);
+        batch.forEach(args -> deltas.put((Long) args[1], (Long) args[0]));
+        eventPublisher.publishEvent(new ViewCountFlushedEvent(deltas));
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("종료 시 반영하지 못한 조회수가 있습니다: posts={}", pending.size());
+        }
+    }
+}
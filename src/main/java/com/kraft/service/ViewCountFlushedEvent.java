@@ -0,0 +1,12 @@
+package com.kraft.service;
+
+import java.util.Map;
+
+/**
+ * 조회수 반영 완료 이벤트
+ * @param deltas 게시글 ID별 이번에 DB에 반영된 조회수
+ */
+public record ViewCountFlushedEvent(
+        Map<Long, Long> deltas
+) {
+}
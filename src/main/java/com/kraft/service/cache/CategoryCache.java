@@ -0,0 +1,124 @@
+package com.kraft.service.cache;
+
+import com.kraft.domain.category.CategoryChangedEvent;
+import com.kraft.domain.category.CategoryRepository;
+import com.kraft.web.dto.category.CategoryResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리 메모리 스냅샷
+ * - 조회는 현재 스냅샷 참조만 읽으므로 잠금과 DB 조회가 없음
+ * - 카테고리 생성/수정/삭제 커밋 이후 다시 만들고, Redis pub/sub으로 다른 노드에도 재구성을 알림
+ * - pub/sub은 최대 한 번 전달이라 알림을 놓칠 수 있으므로(재연결, 기동 중 발행) 주기적으로도 다시 만듦
+ */
+@Slf4j
+@Component
+public class CategoryCache implements MessageListener {
+
+    public static final String REFRESH_CHANNEL = "kraft:category:refresh";
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean redisEnabled;
+
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public CategoryCache(
+            CategoryRepository categoryRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${kraft.redis.enabled:true}") boolean redisEnabled
+    ) {
+        this.categoryRepository = categoryRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+    }
+
+    /**
+     * 현재 스냅샷 (아직 없으면 처음 한 번만 DB에서 구성)
+     */
+    public CategorySnapshot snapshot() {
+        CategorySnapshot current = snapshot.get();
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * DB에서 스냅샷을 다시 만들어 교체
+     * 동시에 여러 번 재구성되더라도 나중에 시작한 재구성 결과만 남김
+     * @return 교체 후 스냅샷
+     */
+    public CategorySnapshot refresh() {
+        long version = versions.incrementAndGet();
+        List<CategoryResponseDto> categories = categoryRepository.findAllOrderByDisplayOrder().stream()
+                .map(CategoryResponseDto::from)
+                .toList();
+        CategorySnapshot next = CategorySnapshot.of(version, categories);
+
+        CategorySnapshot result = snapshot.accumulateAndGet(next,
+                (current, candidate) -> current == null || current.version() < candidate.version() ? candidate : current);
+        log.debug("카테고리 스냅샷 재구성: version={}, categories={}", version, categories.size());
+        return result;
+    }
+
+    /**
+     * 주기적 재구성 (놓친 변경 알림 보정)
+     * 실패하면 기존 스냅샷을 유지하고 다음 주기에 다시 시도
+     */
+    @Scheduled(initialDelayString = "${kraft.cache.category.refresh-interval-ms:60000}",
+               fixedDelayString = "${kraft.cache.category.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("카테고리 스냅샷 주기 재구성 실패, 기존 스냅샷 유지", e);
+        }
+    }
+
+    /**
+     * 카테고리 변경 커밋 이후 재구성하고 다른 노드에 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // 다음 스냅샷 조회 때 다시 만들도록 비워 둠
+            snapshot.set(null);
+            log.warn("카테고리 스냅샷 재구성 실패: categoryId={}", event.categoryId(), e);
+        }
+
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(REFRESH_CHANNEL, String.valueOf(event.categoryId()));
+        } catch (RuntimeException e) {
+            log.warn("카테고리 변경 알림 발행 실패: categoryId={}", event.categoryId(), e);
+        }
+    }
+
+    /**
+     * 다른 노드(자기 자신 포함)의 변경 알림 수신 시 재구성
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            snapshot.set(null);
+            log.warn("카테고리 스냅샷 재구성 실패", e);
+        }
+    }
+}
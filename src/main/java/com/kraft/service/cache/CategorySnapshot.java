@@ -0,0 +1,46 @@
+package com.kraft.service.cache;
+
+import com.kraft.web.dto.category.CategoryResponseDto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카테고리 불변 스냅샷
+ * 목록, ID 색인, 이름 색인을 한 번에 만들어 통째로 교체하므로 읽는 쪽은 잠금 없이 일관된 상태를 봄
+ * @param version 생성 순번 (늦게 끝난 오래된 재구성이 최신 스냅샷을 덮어쓰지 않도록 비교)
+ * @param all 전체 목록 (표시 순서대로)
+ * @param byId ID → 카테고리
+ * @param byName 정규화한 이름 → 카테고리 (categories.name 콜레이션(utf8mb4_unicode_ci)처럼 대소문자를 구분하지 않음)
+ */
+public record CategorySnapshot(
+        long version,
+        List<CategoryResponseDto> all,
+        Map<Long, CategoryResponseDto> byId,
+        Map<String, CategoryResponseDto> byName
+) {
+    public static CategorySnapshot of(long version, List<CategoryResponseDto> categories) {
+        Map<Long, CategoryResponseDto> byId = new HashMap<>();
+        Map<String, CategoryResponseDto> byName = new HashMap<>();
+        for (CategoryResponseDto category : categories) {
+            byId.put(category.id(), category);
+            byName.put(normalize(category.name()), category);
+        }
+        return new CategorySnapshot(version, List.copyOf(categories), Map.copyOf(byId), Map.copyOf(byName));
+    }
+
+    public Optional<CategoryResponseDto> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<CategoryResponseDto> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(byName.get(normalize(name)));
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
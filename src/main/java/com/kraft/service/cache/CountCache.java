@@ -0,0 +1,168 @@
+package com.kraft.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kraft.domain.post.PostChangedEvent;
+import com.kraft.domain.post.PostsImportedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지네이션 전체 개수 캐시 (쿼리 형태별)
+ * - 처음 한 번만 COUNT 쿼리를 실행하고, 이후에는 작성/삭제 커밋 시 메모리에서 증감
+ * - 주기적으로 다시 세어 보정 (다른 노드의 변경, 탈퇴로 숨겨진 행 등 이벤트로 알 수 없는 차이)
+ * - 검색어별 개수는 증감할 수 없으므로 보정 주기마다 버림
+ * - 캐시에서 읽은 값은 추정값(exact = false)으로 표시
+ */
+@Slf4j
+@Component
+public class CountCache {
+
+    private final Cache<CountKey, Entry> counts;
+
+    public CountCache(
+            MeterRegistry meterRegistry,
+            @Value("${kraft.cache.count.max-size:10000}") long maxSize,
+            @Value("${kraft.cache.count.idle-seconds:600}") long idleSeconds
+    ) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss} 등 (cache=count)
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "count");
+    }
+
+    /**
+     * 전체 개수 조회 (캐시에 없으면 counter로 세어 보관)
+     * @param key 쿼리 형태
+     * @param counter COUNT 쿼리 (보정 작업에서도 다시 사용)
+     * @return 전체 개수
+     */
+    public TotalCount get(CountKey key, LongSupplier counter) {
+        Entry cached = counts.getIfPresent(key);
+        if (cached != null) {
+            return new TotalCount(cached.value.get(), false);
+        }
+
+        long counted = counter.getAsLong();
+        counts.put(key, new Entry(counted, counter));
+        return new TotalCount(counted, true);
+    }
+
+    /**
+     * 캐시된 개수 증감 (캐시에 없으면 다음 조회 때 새로 셈)
+     * @param key 쿼리 형태
+     * @param delta 증감량
+     */
+    public void adjust(CountKey key, long delta) {
+        Entry cached = counts.asMap().get(key);
+        if (cached != null) {
+            cached.value.updateAndGet(value -> Math.max(0, value + delta));
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 증감 (트랜잭션 밖이면 바로 증감)
+     * @param key 쿼리 형태
+     * @param delta 증감량
+     */
+    public void adjustAfterCommit(CountKey key, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adjust(key, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                adjust(key, delta);
+            }
+        });
+    }
+
+    /**
+     * 게시글 작성/삭제 커밋 이후 전체/카테고리별 게시글 수 증감
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        long delta = switch (event.type()) {
+            case CREATED -> 1;
+            case DELETED -> -1;
+            case UPDATED -> 0;
+        };
+        if (delta == 0) {
+            return;
+        }
+
+        adjust(CountKey.posts(), delta);
+        if (event.categoryId() != null) {
+            adjust(CountKey.categoryPosts(event.categoryId()), delta);
+        }
+    }
+
+    /**
+     * 대량 가져오기 청크 커밋 이후 전체/카테고리별 게시글 수를 청크 단위로 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostsImported(PostsImportedEvent event) {
+        adjust(CountKey.posts(), event.postIds().size());
+        event.categoryCounts().forEach((categoryId, count) -> adjust(CountKey.categoryPosts(categoryId), count));
+    }
+
+    /**
+     * 캐시된 개수를 다시 세어 보정 (검색어별 개수는 버림)
+     */
+    @Scheduled(initialDelayString = "${kraft.cache.count.reconcile-interval-ms:300000}",
+               fixedDelayString = "${kraft.cache.count.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        int recounted = 0;
+        int corrected = 0;
+        for (var cached : counts.asMap().entrySet()) {
+            if (!cached.getKey().shape().adjustable()) {
+                counts.invalidate(cached.getKey());
+                continue;
+            }
+
+            try {
+                long actual = cached.getValue().counter.getAsLong();
+                long previous = cached.getValue().value.getAndSet(actual);
+                recounted++;
+                if (previous != actual) {
+                    corrected++;
+                }
+            } catch (RuntimeException e) {
+                counts.invalidate(cached.getKey());
+                log.warn("개수 캐시 보정 실패: key={}", cached.getKey(), e);
+            }
+        }
+
+        if (corrected > 0) {
+            log.info("개수 캐시 보정: recounted={}, corrected={}", recounted, corrected);
+        }
+    }
+
+    private static final class Entry {
+
+        private final AtomicLong value;
+        private final LongSupplier counter;
+
+        private Entry(long value, LongSupplier counter) {
+            this.value = new AtomicLong(value);
+            this.counter = counter;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.kraft.service.cache;
+
+/**
+ * 개수 캐시 키 (쿼리 형태 + 조건 값)
+ * @param shape 쿼리 형태
+ * @param qualifier 조건 값 (카테고리 ID, 게시글 ID, 검색어 등, 전체 개수는 빈 문자열)
+ */
+public record CountKey(
+        Shape shape,
+        String qualifier
+) {
+    public enum Shape {
+        // 전체 게시글 (최신순/인기순 목록)
+        POSTS(true),
+        // 카테고리별 게시글
+        CATEGORY_POSTS(true),
+        // 게시글의 부모 댓글
+        PARENT_COMMENTS(true),
+        // 제목/내용 LIKE 검색 (작성/삭제로 보정할 수 없으므로 재계산 주기마다 버림)
+        SEARCH(false);
+
+        private final boolean adjustable;
+
+        Shape(boolean adjustable) {
+            this.adjustable = adjustable;
+        }
+
+        public boolean adjustable() {
+            return adjustable;
+        }
+    }
+
+    public static CountKey posts() {
+        return new CountKey(Shape.POSTS, "");
+    }
+
+    public static CountKey categoryPosts(Long categoryId) {
+        return new CountKey(Shape.CATEGORY_POSTS, String.valueOf(categoryId));
+    }
+
+    public static CountKey parentComments(Long postId) {
+        return new CountKey(Shape.PARENT_COMMENTS, String.valueOf(postId));
+    }
+
+    public static CountKey search(String keyword) {
+        return new CountKey(Shape.SEARCH, keyword);
+    }
+}
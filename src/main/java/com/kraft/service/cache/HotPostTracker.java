@@ -0,0 +1,118 @@
+package com.kraft.service.cache;
+
+import com.kraft.web.dto.post.HotPostResponseDto;
+import com.kraft.web.dto.post.HotPostsResponseDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 자주 요청되는 게시글(hot key) 추적
+ * - 게시글 상세 조회(PostService, 조회에 성공한 요청만)와 L1 캐시 미스(PostCache)를 각각 Space-Saving 요약에 기록
+ * - 요약은 CPU 수만큼 stripe로 나눠 요청 스레드끼리 잠금을 다투지 않고, 구간이 끝날 때 합쳐서 상위 목록을 계산
+ * - 집계 구간(window-ms)마다 상위 topSize개와 초당 요청 수를 스냅샷으로 남기고 새 요약으로 교체
+ * - 스냅샷은 관리자 API와 순위별 게이지(post.hot.rate{source, rank})로 노출 (게시글 ID를 태그로 쓰지 않아 태그 수가 고정)
+ * 노드별 집계이므로 노드마다 받은 요청만 반영됨
+ */
+@Slf4j
+@Component
+public class HotPostTracker {
+
+    private final int capacity;
+    private final int topSize;
+    private final int stripes = Runtime.getRuntime().availableProcessors();
+
+    private volatile StripedSpaceSaving reads;
+    private volatile StripedSpaceSaving cacheMisses;
+    private volatile long windowStart = System.currentTimeMillis();
+    private volatile HotPostsResponseDto snapshot;
+
+    public HotPostTracker(
+            MeterRegistry meterRegistry,
+            @Value("${kraft.hot-posts.capacity:1000}") int capacity,
+            @Value("${kraft.hot-posts.top-size:20}") int topSize
+    ) {
+        this.capacity = capacity;
+        this.topSize = topSize;
+        this.reads = new StripedSpaceSaving(capacity, stripes);
+        this.cacheMisses = new StripedSpaceSaving(capacity, stripes);
+        this.snapshot = new HotPostsResponseDto(LocalDateTime.now(), 0, List.of(), 0, List.of(), 0);
+
+        for (int rank = 1; rank <= topSize; rank++) {
+            int index = rank - 1;
+            Gauge.builder("post.hot.rate", this, tracker -> rate(tracker.snapshot.reads(), index))
+                    .tag("source", "read").tag("rank", String.valueOf(rank))
+                    .description("상세 조회 순위별 초당 요청 수").register(meterRegistry);
+            Gauge.builder("post.hot.rate", this, tracker -> rate(tracker.snapshot.cacheMisses(), index))
+                    .tag("source", "cache-miss").tag("rank", String.valueOf(rank))
+                    .description("L1 캐시 미스 순위별 초당 요청 수").register(meterRegistry);
+        }
+    }
+
+    /**
+     * 게시글 상세 조회 기록
+     */
+    public void recordRead(Long postId) {
+        reads.offer(postId);
+    }
+
+    /**
+     * L1 캐시 미스 기록
+     */
+    public void recordCacheMiss(Long postId) {
+        cacheMisses.offer(postId);
+    }
+
+    /**
+     * 마지막으로 끝난 집계 구간의 상위 게시글
+     */
+    public HotPostsResponseDto snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 집계 구간 종료: 상위 목록을 스냅샷으로 남기고 새 요약으로 교체
+     * 교체 직전에 기록된 몇 건은 이전 요약에만 남아 빠질 수 있음 (추정치이므로 허용)
+     */
+    @Scheduled(initialDelayString = "${kraft.hot-posts.window-ms:60000}",
+               fixedDelayString = "${kraft.hot-posts.window-ms:60000}")
+    public void rotate() {
+        StripedSpaceSaving endedReads = reads;
+        StripedSpaceSaving endedCacheMisses = cacheMisses;
+        reads = new StripedSpaceSaving(capacity, stripes);
+        cacheMisses = new StripedSpaceSaving(capacity, stripes);
+
+        long now = System.currentTimeMillis();
+        double seconds = Math.max(1, now - windowStart) / 1000.0;
+        windowStart = now;
+
+        snapshot = new HotPostsResponseDto(
+                LocalDateTime.now(),
+                seconds,
+                top(endedReads, seconds), endedReads.total(),
+                top(endedCacheMisses, seconds), endedCacheMisses.total());
+
+        if (!snapshot.reads().isEmpty()) {
+            HotPostResponseDto hottest = snapshot.reads().get(0);
+            log.debug("자주 조회된 게시글: postId={}, ratePerSecond={}, totalReads={}",
+                    hottest.postId(), hottest.ratePerSecond(), snapshot.totalReads());
+        }
+    }
+
+    private List<HotPostResponseDto> top(StripedSpaceSaving summary, double seconds) {
+        return summary.top(topSize).stream()
+                .map(estimate -> new HotPostResponseDto(estimate.key(), estimate.count(), estimate.error(),
+                        estimate.count() / seconds))
+                .toList();
+    }
+
+    private static double rate(List<HotPostResponseDto> top, int index) {
+        return index < top.size() ? top.get(index).ratePerSecond() : 0;
+    }
+}
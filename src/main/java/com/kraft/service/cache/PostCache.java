@@ -0,0 +1,267 @@
+package com.kraft.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kraft.domain.post.PostChangedEvent;
+import com.kraft.service.ViewCountFlushedEvent;
+import com.kraft.web.dto.post.PostResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 2단계 캐시
+ * - L1: 노드별 Caffeine 캐시, L2: 노드 간 공유 Redis 캐시
+ * - 게시글 수정/삭제 커밋 이후 L1/L2에서 제거하고 Redis pub/sub으로 다른 노드의 L1도 제거
+ * - 조회수 반영(ViewCountFlushedEvent) 시 L1 조회수는 보정하고 L2는 제거해 조회수가 줄어 보이지 않도록 함
+ * - Redis 장애는 캐시 미스로 처리 (kraft.redis.enabled=false면 L1만 사용)
+ * - L1 미스는 HotPostTracker에 기록해 반복해서 L1을 놓치는 게시글을 찾을 수 있도록 함
+ * - 같은 게시글의 동시 L1 미스는 먼저 온 요청 하나만 L2/DB를 읽고 나머지는 그 결과(CompletableFuture)를 기다림 (single-flight)
+ */
+@Slf4j
+@Component
+public class PostCache implements MessageListener {
+
+    public static final String EVICT_CHANNEL = "kraft:post-cache:evict";
+    static final String KEY_PREFIX = "kraft:post:";
+
+    private final Cache<Long, PostResponseDto> local;
+
+    /**
+     * 게시글 ID별 진행 중인 L2/DB 조회
+     * Caffeine get(key, mappingFunction)도 키별로 한 번만 적재하지만, 적재 동안 해시 구간을 잠가 다른 키의 갱신까지 막을 수 있고
+     * 합쳐진 요청 수를 알 수 없어 별도로 관리
+     */
+    private final ConcurrentHashMap<Long, CompletableFuture<PostResponseDto>> inFlight = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final HotPostTracker hotPostTracker;
+    private final boolean redisEnabled;
+    private final Duration remoteTtl;
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteEvictions;
+    private final Counter coalescedLoads;
+
+    public PostCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            HotPostTracker hotPostTracker,
+            MeterRegistry meterRegistry,
+            @Value("${kraft.redis.enabled:true}") boolean redisEnabled,
+            @Value("${kraft.cache.post.local-max-size:10000}") long localMaxSize,
+            @Value("${kraft.cache.post.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${kraft.cache.post.remote-ttl-seconds:300}") long remoteTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.hotPostTracker = hotPostTracker;
+        this.redisEnabled = redisEnabled;
+        this.remoteTtl = Duration.ofSeconds(remoteTtlSeconds);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+
+        // L1: cache.gets{result=hit|miss}, cache.evictions 등 (cache=post.l1)
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "post.l1");
+        // L2: L1과 같은 이름으로 등록해 cache 태그로 구분 (cache=post.l2)
+        this.remoteHits = Counter.builder("cache.gets").tag("cache", "post.l2").tag("result", "hit")
+                .description("L2 캐시 적중 수").register(meterRegistry);
+        this.remoteMisses = Counter.builder("cache.gets").tag("cache", "post.l2").tag("result", "miss")
+                .description("L2 캐시 미스 수").register(meterRegistry);
+        this.remoteEvictions = Counter.builder("cache.evictions").tag("cache", "post.l2")
+                .description("L2 캐시 제거 수").register(meterRegistry);
+        this.coalescedLoads = Counter.builder("cache.loads.coalesced").tag("cache", "post")
+                .description("진행 중인 조회 결과를 기다린 L1 미스 수 (L2/DB 조회 생략)").register(meterRegistry);
+    }
+
+    /**
+     * 게시글 조회 (L1 → L2 → loader 순)
+     * 같은 게시글을 이미 다른 요청이 L2/DB에서 읽고 있으면 새로 읽지 않고 그 결과를 기다림
+     * @param postId 게시글 ID
+     * @param loader 캐시에 없을 때 DB에서 조회하는 함수 (예외는 기다리던 요청 모두에 그대로 전파되고 캐시하지 않음)
+     * @return 게시글 응답 DTO
+     */
+    public PostResponseDto get(Long postId, Function<Long, PostResponseDto> loader) {
+        PostResponseDto cached = local.getIfPresent(postId);
+        if (cached != null) {
+            return cached;
+        }
+        hotPostTracker.recordCacheMiss(postId);
+
+        CompletableFuture<PostResponseDto> flight = new CompletableFuture<>();
+        CompletableFuture<PostResponseDto> existing = inFlight.putIfAbsent(postId, flight);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return await(existing);
+        }
+
+        try {
+            PostResponseDto loaded = load(postId, loader, flight);
+            flight.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(postId, flight);
+        }
+    }
+
+    /**
+     * 게시글 캐시 제거 (L1, L2, 다른 노드의 L1)
+     * @param postId 게시글 ID
+     */
+    public void evict(Long postId) {
+        local.invalidate(postId);
+        // 제거 이후의 미스가 제거 전에 시작된 조회 결과를 받지 않도록 함
+        inFlight.remove(postId);
+        if (!redisEnabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.delete(KEY_PREFIX + postId);
+            remoteEvictions.increment();
+            redisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(postId));
+        } catch (RuntimeException e) {
+            log.warn("게시글 캐시 제거 실패: postId={}", postId, e);
+        }
+    }
+
+    /**
+     * 게시글 수정/삭제 커밋 이후 캐시 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.Type.CREATED) {
+            evict(event.postId());
+        }
+    }
+
+    /**
+     * 조회수 반영 시 L1 조회수 보정, L2 제거, 진행 중인 조회는 캐시하지 않도록 표시 제거
+     * L1은 (캐시된 조회수 + 미반영 조회수)로 응답하므로 반영된 만큼 기준값을 올려야 조회수가 유지됨
+     */
+    @EventListener
+    public void onViewCountFlushed(ViewCountFlushedEvent event) {
+        event.deltas().forEach((postId, delta) -> {
+            // 반영 전에 시작한 DB 조회는 반영분이 빠진 조회수라 캐시에 넣지 않도록 함
+            inFlight.remove(postId);
+            local.asMap().computeIfPresent(postId, (id, dto) -> dto.withViewCount(dto.viewCount() + delta));
+        });
+
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            List<String> keys = event.deltas().keySet().stream().map(id -> KEY_PREFIX + id).toList();
+            Long deleted = redisTemplate.delete(keys);
+            remoteEvictions.increment(deleted == null ? 0 : deleted);
+        } catch (RuntimeException e) {
+            log.warn("조회수 반영 후 L2 캐시 제거 실패: posts={}", event.deltas().size(), e);
+        }
+    }
+
+    /**
+     * 다른 노드(자기 자신 포함)의 캐시 제거 메시지 수신 시 L1만 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long postId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+            local.invalidate(postId);
+            inFlight.remove(postId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 제거 메시지: {}", message, e);
+        }
+    }
+
+    /**
+     * L2 → loader 순으로 읽고 캐시에 저장
+     * 읽는 동안 제거(evict)되거나 조회수가 반영됐으면 이전 값일 수 있으므로 응답만 하고 캐시에 넣지 않음
+     * L1 저장은 진행 중 표시 확인과 함께 원자적으로 해서, 그사이 끼어든 제거/반영이 저장 전이나 후에만 실행되도록 함
+     */
+    private PostResponseDto load(Long postId, Function<Long, PostResponseDto> loader,
+                                 CompletableFuture<PostResponseDto> flight) {
+        PostResponseDto remote = getRemote(postId);
+        PostResponseDto loaded = remote != null ? remote : loader.apply(postId);
+        if (remote == null && inFlight.get(postId) == flight) {
+            putRemote(postId, loaded);
+        }
+        inFlight.computeIfPresent(postId, (id, current) -> {
+            if (current == flight) {
+                local.put(id, loaded);
+            }
+            return current;
+        });
+        return loaded;
+    }
+
+    /**
+     * 진행 중인 조회 결과 대기 (조회 중 발생한 예외는 감싸지 않고 그대로 던짐)
+     */
+    private static PostResponseDto await(CompletableFuture<PostResponseDto> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private PostResponseDto getRemote(Long postId) {
+        if (!redisEnabled) {
+            return null;
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + postId);
+            if (json == null) {
+                remoteMisses.increment();
+                return null;
+            }
+            remoteHits.increment();
+            return objectMapper.readValue(json, PostResponseDto.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("L2 캐시 조회 실패: postId={}", postId, e);
+            return null;
+        }
+    }
+
+    private void putRemote(Long postId, PostResponseDto dto) {
+        if (!redisEnabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + postId, objectMapper.writeValueAsString(dto), remoteTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("L2 캐시 저장 실패: postId={}", postId, e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.kraft.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kraft.domain.post.PostChangedEvent;
+import com.kraft.domain.post.PostsImportedEvent;
+import com.kraft.web.dto.common.CursorResponse;
+import com.kraft.web.dto.post.PostsListResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 최신 게시글 첫 페이지 캐시 (홈 화면, GET /api/v1/posts/list)
+ * - 페이지 크기별로 첫 페이지만 보관하고, 다음 페이지는 커서(keyset) 조회라 캐시 없이도 비용이 일정함
+ * - 이 노드의 게시글 작성/수정/삭제 커밋 이후 전부 비우고, 다른 노드의 변경은 짧은 TTL로 반영
+ * - 조회수는 TTL 동안 캐시 시점 값으로 보일 수 있음
+ */
+@Component
+public class PostListCache {
+
+    private final Cache<Integer, CursorResponse<PostsListResponseDto>> firstPages;
+
+    public PostListCache(
+            MeterRegistry meterRegistry,
+            @Value("${kraft.cache.post-list.ttl-seconds:10}") long ttlSeconds
+    ) {
+        this.firstPages = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss} 등 (cache=post.list)
+        CaffeineCacheMetrics.monitor(meterRegistry, firstPages, "post.list");
+    }
+
+    /**
+     * 첫 페이지 조회 (없으면 loader로 만들어 보관, 같은 크기의 동시 미스는 한 번만 조회)
+     * @param size 페이지 크기
+     * @param loader 캐시에 없을 때 DB에서 조회하는 함수 (예외는 그대로 전파되고 캐시하지 않음)
+     * @return 첫 페이지
+     */
+    public CursorResponse<PostsListResponseDto> firstPage(int size, Function<Integer, CursorResponse<PostsListResponseDto>> loader) {
+        return firstPages.get(size, loader);
+    }
+
+    /**
+     * 게시글 변경 커밋 이후 첫 페이지 전부 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        firstPages.invalidateAll();
+    }
+
+    /**
+     * 대량 가져오기 청크 커밋 이후 첫 페이지 전부 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostsImported(PostsImportedEvent event) {
+        firstPages.invalidateAll();
+    }
+}
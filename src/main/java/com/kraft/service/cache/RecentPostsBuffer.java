@@ -0,0 +1,366 @@
+package com.kraft.service.cache;
+
+import com.kraft.domain.post.PostChangedEvent;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.domain.post.PostsImportedEvent;
+import com.kraft.service.ViewCountFlushedEvent;
+import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.post.PostsListResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 최신 게시글 링 버퍼 (최신순 첫 페이지를 DB 없이 응답)
+ * - 최신 capacity개의 목록 DTO를 고정 크기 배열에 ID 내림차순으로 보관하고 전체 게시글 수를 함께 유지
+ * - 시작 시 채우고, 작성 커밋 시 앞에 추가, 수정 시 교체, 삭제 시 제거 후 빈 자리만큼 뒤에서 보충
+ * - 대량 가져오기는 청크마다 한 번 재적재
+ * - 변경은 Redis pub/sub으로 다른 노드에 전달하고(자기 메시지는 무시), 놓친 변경과 조회수 차이는 주기적 재적재로 보정
+ * - 요청 크기만큼 채워져 있지 않으면(또는 준비 전이면) empty를 반환해 DB 조회로 넘김
+ */
+@Slf4j
+@Component
+public class RecentPostsBuffer implements MessageListener {
+
+    public static final String CHANGE_CHANNEL = "kraft:recent-posts:changed";
+
+    /** 변경 알림 중 게시글 하나가 아니라 버퍼 전체 재적재를 요청하는 종류 (대량 가져오기) */
+    private static final String RESEED = "RESEED";
+
+    private final PostRepository postRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean redisEnabled;
+    private final String origin = UUID.randomUUID().toString();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    // 링 버퍼: head가 가장 최신 항목 위치, 논리 인덱스 i(0 = 최신)는 slots[(head - i) mod capacity]
+    private final PostsListResponseDto[] slots;
+    private int head;
+    private int count;
+    private long total;
+    private volatile boolean ready;
+
+    public RecentPostsBuffer(
+            PostRepository postRepository,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${kraft.redis.enabled:true}") boolean redisEnabled,
+            @Value("${kraft.recent-posts.capacity:200}") int capacity
+    ) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("최신 게시글 버퍼 크기는 1 이상이어야 합니다");
+        }
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.slots = new PostsListResponseDto[capacity];
+
+        this.hits = Counter.builder("cache.gets").tag("cache", "post.recent").tag("result", "hit")
+                .description("최신 게시글 버퍼 적중 수").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", "post.recent").tag("result", "miss")
+                .description("최신 게시글 버퍼 미스 수").register(meterRegistry);
+    }
+
+    /**
+     * 최신순 첫 페이지 (findAllWithPagination(0, size, "id", "DESC")와 같은 응답)
+     * @param size 페이지 크기
+     * @return 버퍼로 응답할 수 있으면 첫 페이지, 아니면 empty
+     */
+    public Optional<PageResponse<PostsListResponseDto>> firstPage(int size) {
+        if (!ready || size < 1) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        Optional<PageResponse<PostsListResponseDto>> page = readLocked(() -> {
+            if (count < size && count < total) {
+                return Optional.empty();
+            }
+            List<PostsListResponseDto> content = new ArrayList<>(Math.min(size, count));
+            for (int i = 0; i < Math.min(size, count); i++) {
+                content.add(get(i));
+            }
+            int totalPages = (int) Math.ceil((double) total / size);
+            return Optional.of(PageResponse.of(content, 0, size, total, totalPages, false));
+        });
+
+        (page.isPresent() ? hits : misses).increment();
+        return page;
+    }
+
+    /**
+     * DB에서 최신 capacity개와 전체 게시글 수를 다시 읽어 교체
+     * 읽는 사이에 반영된 변경은 다음 재적재 때 맞춰짐
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${kraft.recent-posts.reseed-interval-ms:60000}",
+               fixedDelayString = "${kraft.recent-posts.reseed-interval-ms:60000}")
+    public void reseed() {
+        try {
+            List<PostSummary> latest = postRepository.findLatestAfter(Long.MAX_VALUE, Limit.of(slots.length));
+            long visible = postRepository.countVisible();
+
+            writeLocked(() -> {
+                head = 0;
+                count = 0;
+                total = 0;
+                Arrays.fill(slots, null);
+                for (int i = latest.size() - 1; i >= 0; i--) {
+                    insert(PostsListResponseDto.from(latest.get(i)));
+                }
+                total = visible;
+            });
+            ready = true;
+            log.debug("최신 게시글 버퍼 재적재: entries={}, total={}", latest.size(), visible);
+        } catch (RuntimeException e) {
+            log.warn("최신 게시글 버퍼 재적재 실패", e);
+        }
+    }
+
+    /**
+     * 게시글 변경 커밋 이후 버퍼에 반영하고 다른 노드에 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        apply(event);
+
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, origin + ":" + event.type() + ":" + event.postId());
+        } catch (RuntimeException e) {
+            log.warn("최신 게시글 변경 알림 발행 실패: postId={}", event.postId(), e);
+        }
+    }
+
+    /**
+     * 대량 가져오기 청크 커밋 이후 버퍼를 한 번 재적재하고 다른 노드에도 재적재를 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostsImported(PostsImportedEvent event) {
+        reseed();
+
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, origin + ":" + RESEED + ":0");
+        } catch (RuntimeException e) {
+            log.warn("최신 게시글 재적재 알림 발행 실패: posts={}", event.postIds().size(), e);
+        }
+    }
+
+    /**
+     * 다른 노드의 변경 알림 수신 시 반영 (자기 자신이 보낸 메시지는 이미 반영했으므로 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 3) {
+            log.warn("잘못된 최신 게시글 변경 메시지: {}", message);
+            return;
+        }
+        if (origin.equals(parts[0])) {
+            return;
+        }
+        if (RESEED.equals(parts[1])) {
+            reseed();
+            return;
+        }
+
+        try {
+            apply(new PostChangedEvent(Long.valueOf(parts[2]), PostChangedEvent.Type.valueOf(parts[1]), null));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 최신 게시글 변경 메시지: {}", message, e);
+        }
+    }
+
+    /**
+     * 조회수 반영 시 버퍼에 있는 게시글의 조회수 보정 (다른 노드의 반영분은 재적재로 맞춰짐)
+     */
+    @EventListener
+    public void onViewCountFlushed(ViewCountFlushedEvent event) {
+        writeLocked(() -> {
+            for (int i = 0; i < count; i++) {
+                PostsListResponseDto post = get(i);
+                Long delta = event.deltas().get(post.id());
+                if (delta != null) {
+                    set(i, new PostsListResponseDto(post.id(), post.title(), post.author(),
+                            post.viewCount() + delta, post.updateAt()));
+                }
+            }
+        });
+    }
+
+    private void apply(PostChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+
+        try {
+            switch (event.type()) {
+                case CREATED -> {
+                    Optional<PostsListResponseDto> created = loadSummary(event.postId());
+                    writeLocked(() -> {
+                        created.ifPresent(this::insert);
+                        total++;
+                    });
+                }
+                case UPDATED -> {
+                    if (readLocked(() -> indexOf(event.postId()) >= 0)) {
+                        Optional<PostsListResponseDto> updated = loadSummary(event.postId());
+                        writeLocked(() -> updated.ifPresentOrElse(this::insert, () -> remove(event.postId())));
+                    }
+                }
+                case DELETED -> {
+                    writeLocked(() -> {
+                        remove(event.postId());
+                        total = Math.max(0, total - 1);
+                    });
+                    refillTail();
+                }
+            }
+        } catch (RuntimeException e) {
+            // 이미 커밋된 요청을 실패시키지 않도록 로그만 남김 (다음 재적재 때 복구)
+            log.warn("최신 게시글 버퍼 갱신 실패: postId={}, type={}", event.postId(), event.type(), e);
+        }
+    }
+
+    /**
+     * 삭제로 빈 뒤쪽 자리를 가장 오래된 항목 다음 게시글로 채움
+     */
+    private void refillTail() {
+        int missing = readLocked(() -> (int) Math.min(slots.length - count, total - count));
+        if (missing <= 0) {
+            return;
+        }
+
+        Long oldestId = readLocked(() -> count == 0 ? Long.MAX_VALUE : get(count - 1).id());
+        List<PostSummary> older = postRepository.findLatestAfter(oldestId, Limit.of(missing));
+        writeLocked(() -> older.forEach(summary -> appendOldest(PostsListResponseDto.from(summary))));
+    }
+
+    private Optional<PostsListResponseDto> loadSummary(Long postId) {
+        return postRepository.findSummariesByIdIn(List.of(postId)).stream()
+                .findFirst()
+                .map(PostsListResponseDto::from);
+    }
+
+    /**
+     * ID 내림차순 위치에 삽입 (같은 ID는 교체, 가득 찼으면 가장 오래된 항목이 밀려남)
+     * 버퍼에 없는 더 오래된 게시글이 있으면 맨 뒤에는 넣지 않음 (사이에 빠진 게시글이 생기지 않도록)
+     */
+    private void insert(PostsListResponseDto post) {
+        int position = 0;
+        while (position < count && get(position).id() > post.id()) {
+            position++;
+        }
+        if (position < count && get(position).id().equals(post.id())) {
+            set(position, post);
+            return;
+        }
+
+        if (position == count && count < total) {
+            return;
+        }
+        if (position == 0) {
+            head = (head + 1) % slots.length;
+            slots[head] = post;
+            count = Math.min(count + 1, slots.length);
+            return;
+        }
+        for (int i = Math.min(count, slots.length - 1); i > position; i--) {
+            set(i, get(i - 1));
+        }
+        set(position, post);
+        count = Math.min(count + 1, slots.length);
+    }
+
+    /**
+     * 가장 오래된 항목 뒤에 추가 (보충용, 더 오래된 게시글만)
+     */
+    private void appendOldest(PostsListResponseDto post) {
+        if (count == slots.length || (count > 0 && get(count - 1).id() <= post.id())) {
+            return;
+        }
+        set(count, post);
+        count++;
+    }
+
+    private void remove(Long postId) {
+        int position = indexOf(postId);
+        if (position < 0) {
+            return;
+        }
+        for (int i = position; i < count - 1; i++) {
+            set(i, get(i + 1));
+        }
+        count--;
+        set(count, null);
+    }
+
+    private int indexOf(Long postId) {
+        for (int i = 0; i < count; i++) {
+            if (get(i).id().equals(postId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private PostsListResponseDto get(int index) {
+        return slots[slot(index)];
+    }
+
+    private void set(int index, PostsListResponseDto post) {
+        slots[slot(index)] = post;
+    }
+
+    private int slot(int index) {
+        return Math.floorMod(head - index, slots.length);
+    }
+
+    private void writeLocked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <T> T readLocked(Supplier<T> supplier) {
+        lock.readLock().lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.kraft.service.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving 상위 빈도 키 요약 (Metwally et al.)
+ * - 최대 capacity개의 카운터만 유지하고, 가득 찬 상태에서 새 키가 오면 가장 작은 카운터를 넘겨받음 (count = min + 1, error = min)
+ * - 실제 빈도가 전체의 1/capacity를 넘는 키는 반드시 남으며, 추정치는 실제 빈도 이상이고 (count - error) 이하로 내려가지 않음
+ * - 카운터는 (count, key) 순 TreeSet으로 정렬해 증가/교체가 O(log capacity)
+ * - 한 인스턴스는 잠금 하나로 보호되므로, 여러 요청 스레드가 기록할 때는 StripedSpaceSaving으로 나눠 씀
+ */
+final class SpaceSaving {
+
+    private static final Comparator<Slot> ORDER = Comparator.<Slot>comparingLong(slot -> slot.count)
+            .thenComparingLong(slot -> slot.key);
+
+    private final int capacity;
+    private final Map<Long, Slot> slots;
+    private final TreeSet<Slot> ordered = new TreeSet<>(ORDER);
+    private long total;
+
+    SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("카운터 수는 1 이상이어야 합니다");
+        }
+        this.capacity = capacity;
+        this.slots = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 키 1회 관측
+     */
+    synchronized void offer(long key) {
+        total++;
+        Slot slot = slots.get(key);
+        if (slot != null) {
+            // 정렬 기준이 바뀌므로 뺐다가 다시 넣음
+            ordered.remove(slot);
+            slot.count++;
+            ordered.add(slot);
+            return;
+        }
+
+        if (slots.size() < capacity) {
+            slot = new Slot(key, 1, 0);
+        } else {
+            Slot min = ordered.pollFirst();
+            slots.remove(min.key);
+            slot = new Slot(key, min.count + 1, min.count);
+        }
+        slots.put(key, slot);
+        ordered.add(slot);
+    }
+
+    /**
+     * 추정 빈도 상위 k개 (내림차순)
+     */
+    synchronized List<Estimate> top(int k) {
+        List<Estimate> top = new ArrayList<>(Math.min(k, slots.size()));
+        Iterator<Slot> iterator = ordered.descendingIterator();
+        while (iterator.hasNext() && top.size() < k) {
+            Slot slot = iterator.next();
+            top.add(new Estimate(slot.key, slot.count, slot.error));
+        }
+        return top;
+    }
+
+    /**
+     * 병합용 스냅샷: 전체 카운터와 최소 카운터 (가득 차지 않았으면 0, 없는 키의 최대 빈도)
+     */
+    synchronized Snapshot snapshot() {
+        List<Estimate> estimates = new ArrayList<>(slots.size());
+        for (Slot slot : ordered) {
+            estimates.add(new Estimate(slot.key, slot.count, slot.error));
+        }
+        long minCount = slots.size() < capacity ? 0 : ordered.first().count;
+        return new Snapshot(estimates, minCount);
+    }
+
+    /**
+     * 전체 관측 수
+     */
+    synchronized long total() {
+        return total;
+    }
+
+    private static final class Slot {
+        private final long key;
+        private long count;
+        private final long error;
+
+        private Slot(long key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    /**
+     * 키별 추정 빈도
+     * @param count 추정 빈도 (실제 빈도 이상)
+     * @param error 최대 과대 추정치 (실제 빈도 >= count - error)
+     */
+    record Estimate(long key, long count, long error) {
+    }
+
+    /**
+     * 병합용 스냅샷
+     * @param minCount 요약에 없는 키의 최대 빈도 (가득 차지 않았으면 0)
+     */
+    record Snapshot(List<Estimate> estimates, long minCount) {
+    }
+}
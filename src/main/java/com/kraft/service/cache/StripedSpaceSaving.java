@@ -0,0 +1,86 @@
+package com.kraft.service.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스레드별로 나눈 Space-Saving 요약
+ * - 기록하는 스레드 ID로 stripe 하나를 골라 그 요약만 잠그므로, 요청 스레드들이 하나의 잠금을 두고 다투지 않음
+ * - 상위 목록은 stripe 요약을 합쳐 계산 (Agarwal et al. mergeable summaries)
+ *   어떤 stripe에 없는 키는 그 stripe의 최소 카운터만큼 count와 error에 더해 추정치가 실제 빈도 이상으로 유지됨
+ */
+final class StripedSpaceSaving {
+
+    private static final Comparator<SpaceSaving.Estimate> DESCENDING =
+            Comparator.comparingLong(SpaceSaving.Estimate::count)
+                    .thenComparingLong(SpaceSaving.Estimate::key)
+                    .reversed();
+
+    private final SpaceSaving[] stripes;
+    private final int mask;
+
+    /**
+     * @param capacity stripe별 카운터 수
+     * @param stripes stripe 수 (2의 거듭제곱으로 올림)
+     */
+    StripedSpaceSaving(int capacity, int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripe 수는 1 이상이어야 합니다");
+        }
+        int size = Integer.highestOneBit(stripes) == stripes ? stripes : Integer.highestOneBit(stripes) << 1;
+        this.stripes = new SpaceSaving[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new SpaceSaving(capacity);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 키 1회 관측 (현재 스레드의 stripe에 기록)
+     */
+    void offer(long key) {
+        stripes[(int) Thread.currentThread().threadId() & mask].offer(key);
+    }
+
+    /**
+     * 모든 stripe를 합친 추정 빈도 상위 k개 (내림차순)
+     */
+    List<SpaceSaving.Estimate> top(int k) {
+        long totalMin = 0;
+        // 키별 [count 합, error 합, 키가 있던 stripe들의 최소 카운터 합]
+        Map<Long, long[]> merged = new HashMap<>();
+        for (SpaceSaving stripe : stripes) {
+            SpaceSaving.Snapshot snapshot = stripe.snapshot();
+            totalMin += snapshot.minCount();
+            for (SpaceSaving.Estimate estimate : snapshot.estimates()) {
+                long[] sums = merged.computeIfAbsent(estimate.key(), key -> new long[3]);
+                sums[0] += estimate.count();
+                sums[1] += estimate.error();
+                sums[2] += snapshot.minCount();
+            }
+        }
+
+        List<SpaceSaving.Estimate> estimates = new ArrayList<>(merged.size());
+        for (Map.Entry<Long, long[]> entry : merged.entrySet()) {
+            long[] sums = entry.getValue();
+            long absent = totalMin - sums[2];
+            estimates.add(new SpaceSaving.Estimate(entry.getKey(), sums[0] + absent, sums[1] + absent));
+        }
+        estimates.sort(DESCENDING);
+        return estimates.size() > k ? List.copyOf(estimates.subList(0, k)) : estimates;
+    }
+
+    /**
+     * 전체 관측 수
+     */
+    long total() {
+        long total = 0;
+        for (SpaceSaving stripe : stripes) {
+            total += stripe.total();
+        }
+        return total;
+    }
+}
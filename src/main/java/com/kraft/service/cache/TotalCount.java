@@ -0,0 +1,41 @@
+package com.kraft.service.cache;
+
+/**
+ * 전체 개수
+ * @param value 개수
+ * @param exact 방금 DB에서 센 값이면 true, 캐시에서 보정해 온 값이면 false
+ */
+public record TotalCount(
+        long value,
+        boolean exact
+) {
+    /**
+     * 실제로 조회한 페이지로 개수 보정
+     * 다음 페이지가 없으면 앞 페이지 + 이번 페이지 행 수가 정확한 개수이고,
+     * 다음 페이지가 있는데 추정값이 그보다 작으면 최소한 한 건 더 있는 것으로 올림
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param returned 이번 페이지 행 수
+     * @param hasNext 다음 페이지 존재 여부
+     * @return 보정된 개수
+     */
+    public TotalCount alignWith(int page, int size, int returned, boolean hasNext) {
+        long seen = (long) page * size + returned;
+        if (!hasNext && (returned > 0 || page == 0)) {
+            return new TotalCount(seen, true);
+        }
+        if (hasNext && value <= seen) {
+            return new TotalCount(seen + 1, false);
+        }
+        return this;
+    }
+
+    /**
+     * 전체 페이지 수
+     * @param size 페이지 크기
+     * @return 페이지 수
+     */
+    public int totalPages(int size) {
+        return (int) Math.ceil((double) value / size);
+    }
+}
@@ -0,0 +1,354 @@
+package com.kraft.service.ranking;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraft.domain.post.PostChangedEvent;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.domain.post.PostsImportedEvent;
+import com.kraft.service.ViewCountFlushedEvent;
+import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.post.PostsListResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 인기 게시글 순위 (Redis sorted set)
+ * - 게시글 ID를 멤버, 조회수를 점수로 하는 ZSET을 유지하고 조회수 반영 시 ZINCRBY로 갱신 (노드마다 자기 반영분만 더함)
+ * - 페이지 요청은 ZREVRANGE WITHSCORES 한 번 + 목록 DTO MGET 한 번으로 응답하고, 캐시에 없는 DTO만 DB에서 읽어 채움
+ * - 시작 시와 준비 표시 키가 사라졌을 때(만료, Redis FLUSH 등) 한 노드가 DB에서 임시 키로 다시 만든 뒤 RENAME으로 교체
+ * - 준비되지 않았거나 Redis 오류면 empty를 반환해 DB 조회로 넘김 (kraft.redis.enabled=false면 사용하지 않음)
+ * 멤버는 게시글 ID를 19자리로 0을 채운 문자열이라, 같은 조회수는 문자열 역순 = ID 역순(최신순)으로 정렬되어 DB 조회(조회수, ID 역순)와 같음
+ */
+@Slf4j
+@Component
+public class PopularPostRanking {
+
+    static final String RANKING_KEY = "kraft:ranking:popular";
+    static final String READY_KEY = "kraft:ranking:popular:ready";
+    static final String REBUILD_LOCK_KEY = "kraft:ranking:popular:rebuilding";
+    static final String SUMMARY_KEY_PREFIX = "kraft:ranking:summary:";
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final String MEMBER_PADDING = "0".repeat(19);
+
+    private final PostRepository postRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final Duration summaryTtl;
+    private final Duration rebuildInterval;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile boolean ready;
+
+    public PopularPostRanking(
+            PostRepository postRepository,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${kraft.redis.enabled:true}") boolean redisEnabled,
+            @Value("${kraft.ranking.popular.summary-ttl-seconds:600}") long summaryTtlSeconds,
+            @Value("${kraft.ranking.popular.rebuild-interval-seconds:3600}") long rebuildIntervalSeconds
+    ) {
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.summaryTtl = Duration.ofSeconds(summaryTtlSeconds);
+        this.rebuildInterval = Duration.ofSeconds(rebuildIntervalSeconds);
+
+        this.hits = Counter.builder("cache.gets").tag("cache", "post.popular").tag("result", "hit")
+                .description("인기 게시글 순위 적중 수").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", "post.popular").tag("result", "miss")
+                .description("인기 게시글 순위 미스 수").register(meterRegistry);
+    }
+
+    /**
+     * 인기 게시글 페이지 (findPopularPosts와 같은 응답, 전체 개수는 ZCARD)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 순위로 응답할 수 있으면 페이지, 아니면 empty
+     */
+    public Optional<PageResponse<PostsListResponseDto>> page(int page, int size) {
+        if (!redisEnabled || !ready || page < 0 || size < 1) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        try {
+            long start = (long) page * size;
+            Set<TypedTuple<String>> ranked = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(RANKING_KEY, start, start + size - 1);
+            Long total = redisTemplate.opsForZSet().zCard(RANKING_KEY);
+            if (ranked == null || total == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+
+            List<PostsListResponseDto> content = summaries(ranked);
+            int totalPages = (int) Math.ceil((double) total / size);
+            hits.increment();
+            return Optional.of(PageResponse.of(content, page, size, total, totalPages));
+        } catch (RuntimeException e) {
+            log.warn("인기 게시글 순위 조회 실패: page={}, size={}", page, size, e);
+            misses.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 조회수 반영분을 순위 점수에 더함 (파이프라인으로 한 번에 전송)
+     */
+    @EventListener
+    public void onViewCountFlushed(ViewCountFlushedEvent event) {
+        if (!redisEnabled || event.deltas().isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection commands = (StringRedisConnection) connection;
+                event.deltas().forEach((postId, delta) ->
+                        commands.zIncrBy(RANKING_KEY, delta, member(postId)));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 다음 재구성 때 DB 조회수로 맞춰짐
+            log.warn("인기 게시글 순위 갱신 실패: posts={}", event.deltas().size(), e);
+        }
+    }
+
+    /**
+     * 게시글 변경 커밋 이후 순위에 반영 (작성 시 0점으로 추가, 수정 시 목록 DTO 제거, 삭제 시 순위에서 제거)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (!redisEnabled) {
+            return;
+        }
+
+        String member = member(event.postId());
+        String summaryKey = SUMMARY_KEY_PREFIX + event.postId();
+        try {
+            switch (event.type()) {
+                case CREATED -> redisTemplate.opsForZSet().addIfAbsent(RANKING_KEY, member, 0);
+                case UPDATED -> redisTemplate.delete(summaryKey);
+                case DELETED -> {
+                    redisTemplate.opsForZSet().remove(RANKING_KEY, member);
+                    redisTemplate.delete(summaryKey);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("인기 게시글 순위 변경 반영 실패: postId={}, type={}", event.postId(), event.type(), e);
+        }
+    }
+
+    /**
+     * 대량 가져오기 청크를 커밋 이후 ZADD NX 한 번으로 0점 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostsImported(PostsImportedEvent event) {
+        if (!redisEnabled || event.postIds().isEmpty()) {
+            return;
+        }
+
+        Set<TypedTuple<String>> tuples = new HashSet<>(event.postIds().size() * 2);
+        event.postIds().forEach(postId -> tuples.add(new DefaultTypedTuple<>(member(postId), 0.0)));
+        try {
+            redisTemplate.opsForZSet().addIfAbsent(RANKING_KEY, tuples);
+        } catch (RuntimeException e) {
+            // 다음 재구성 때 DB로 맞춰짐
+            log.warn("가져온 게시글 순위 추가 실패: posts={}", event.postIds().size(), e);
+        }
+    }
+
+    /**
+     * 준비 표시 키가 없으면 다시 만듦 (시작 시, 재구성 주기 만료 시, Redis가 비워졌을 때)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${kraft.ranking.popular.check-interval-ms:30000}",
+               fixedDelayString = "${kraft.ranking.popular.check-interval-ms:30000}")
+    public void ensureBuilt() {
+        if (!redisEnabled) {
+            return;
+        }
+
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+                ready = true;
+                return;
+            }
+            ready = false;
+            rebuild();
+        } catch (RuntimeException e) {
+            ready = false;
+            log.warn("인기 게시글 순위 재구성 실패", e);
+        }
+    }
+
+    /**
+     * DB 조회수로 임시 키에 순위를 만든 뒤 RENAME으로 교체 (읽는 쪽에는 완성된 순위만 보임)
+     * 여러 노드가 동시에 만들지 않도록 잠금 키를 잡은 노드만 실행
+     * 재구성 중에 들어온 조회수 반영분은 교체 시 사라질 수 있으며 다음 재구성 때 맞춰짐
+     */
+    void rebuild() {
+        String lockValue = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, lockValue, Duration.ofMinutes(5)))) {
+            return;
+        }
+
+        try {
+            long started = System.currentTimeMillis();
+            String tempKey = RANKING_KEY + ":rebuild:" + lockValue;
+            long lastId = Long.MAX_VALUE;
+            long entries = 0;
+            while (true) {
+                List<PostSummary> batch = postRepository.findLatestAfter(lastId, Limit.of(REBUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                Set<TypedTuple<String>> tuples = new HashSet<>(batch.size() * 2);
+                batch.forEach(post -> tuples.add(new DefaultTypedTuple<>(member(post.id()), (double) post.viewCount())));
+                redisTemplate.opsForZSet().add(tempKey, tuples);
+
+                entries += batch.size();
+                lastId = batch.get(batch.size() - 1).id();
+            }
+
+            if (entries > 0) {
+                redisTemplate.rename(tempKey, RANKING_KEY);
+            } else {
+                redisTemplate.delete(RANKING_KEY);
+            }
+            redisTemplate.opsForValue().set(READY_KEY, String.valueOf(System.currentTimeMillis()), rebuildInterval);
+            ready = true;
+
+            log.info("인기 게시글 순위 재구성 완료: entries={}, elapsedMs={}", entries, System.currentTimeMillis() - started);
+        } finally {
+            if (lockValue.equals(redisTemplate.opsForValue().get(REBUILD_LOCK_KEY))) {
+                redisTemplate.delete(REBUILD_LOCK_KEY);
+            }
+        }
+    }
+
+    /**
+     * 순위 항목의 목록 DTO를 MGET으로 읽고 없는 것만 DB에서 읽어 채움 (조회수는 순위 점수로 응답)
+     * DB에서도 조회되지 않는 게시글(삭제, 작성자 탈퇴)은 순위에서 제거
+     */
+    private List<PostsListResponseDto> summaries(Set<TypedTuple<String>> ranked) {
+        List<Long> ids = new ArrayList<>(ranked.size());
+        Map<Long, Long> scores = new HashMap<>(ranked.size() * 2);
+        for (TypedTuple<String> tuple : ranked) {
+            Long id = Long.valueOf(tuple.getValue());
+            ids.add(id);
+            scores.put(id, tuple.getScore() == null ? 0L : tuple.getScore().longValue());
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> cached = redisTemplate.opsForValue().multiGet(ids.stream().map(id -> SUMMARY_KEY_PREFIX + id).toList());
+        Map<Long, PostsListResponseDto> found = new HashMap<>(ids.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            PostsListResponseDto dto = cached == null ? null : read(cached.get(i));
+            if (dto == null) {
+                missing.add(ids.get(i));
+            } else {
+                found.put(ids.get(i), dto);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, String> loaded = new HashMap<>(missing.size() * 2);
+            for (PostSummary summary : postRepository.findSummariesByIdIn(missing)) {
+                PostsListResponseDto dto = PostsListResponseDto.from(summary);
+                found.put(dto.id(), dto);
+                write(dto).ifPresent(json -> loaded.put(SUMMARY_KEY_PREFIX + dto.id(), json));
+            }
+            cacheSummaries(loaded);
+
+            Object[] gone = missing.stream().filter(id -> !found.containsKey(id)).map(PopularPostRanking::member).toArray();
+            if (gone.length > 0) {
+                redisTemplate.opsForZSet().remove(RANKING_KEY, gone);
+            }
+        }
+
+        List<PostsListResponseDto> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostsListResponseDto dto = found.get(id);
+            if (dto != null) {
+                content.add(new PostsListResponseDto(dto.id(), dto.title(), dto.author(), scores.get(id), dto.updateAt()));
+            }
+        }
+        return content;
+    }
+
+    /**
+     * 순위 멤버 (ID 앞을 0으로 채워 문자열 순서와 ID 순서를 맞춤)
+     */
+    static String member(long postId) {
+        String digits = Long.toString(postId);
+        return MEMBER_PADDING.substring(digits.length()) + digits;
+    }
+
+    private void cacheSummaries(Map<String, String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection commands = (StringRedisConnection) connection;
+            values.forEach((key, json) -> commands.setEx(key, summaryTtl.toSeconds(), json));
+            return null;
+        });
+    }
+
+    private PostsListResponseDto read(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, PostsListResponseDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("인기 게시글 목록 DTO 해석 실패: {}", json, e);
+            return null;
+        }
+    }
+
+    private Optional<String> write(PostsListResponseDto dto) {
+        try {
+            return Optional.of(objectMapper.writeValueAsString(dto));
+        } catch (JsonProcessingException e) {
+            log.warn("인기 게시글 목록 DTO 직렬화 실패: postId={}", dto.id(), e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.kraft.service.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게시글 하나의 시간대별 조회수 링
+ * - 5분 슬롯 12개(최근 1시간)와 1시간 슬롯 168개(최근 1주일)를 고정 크기 배열로 보관
+ * - 슬롯 번호(epoch / 슬롯 폭)를 함께 저장해, 한 바퀴 돌아 다른 시간대가 되면 그 자리를 비우고 재사용
+ * - 1시간 슬롯은 이 노드의 조회수(own)와 시작 시 읽어 온 다른 노드의 조회수(imported)를 나눠 보관하고,
+ *   own 중 DB에 저장한 값(persisted)을 기억해 바뀐 슬롯만 저장
+ */
+final class PostViewSlots {
+
+    static final long FINE_SLOT_MS = 5 * 60 * 1000L;
+    static final int FINE_SLOTS = 12;
+    static final long HOUR_MS = 60 * 60 * 1000L;
+    static final int HOUR_SLOTS = 168;
+
+    private final long[] fineSlot = new long[FINE_SLOTS];
+    private final long[] fine = new long[FINE_SLOTS];
+
+    private final long[] hourSlot = new long[HOUR_SLOTS];
+    private final long[] own = new long[HOUR_SLOTS];
+    private final long[] imported = new long[HOUR_SLOTS];
+    private final long[] persisted = new long[HOUR_SLOTS];
+
+    PostViewSlots() {
+        Arrays.fill(fineSlot, -1);
+        Arrays.fill(hourSlot, -1);
+    }
+
+    /**
+     * 이 노드의 조회수 기록
+     * @param now 현재 시각 (epoch ms)
+     * @param views 조회수
+     */
+    synchronized void record(long now, long views) {
+        long fineNumber = now / FINE_SLOT_MS;
+        int i = (int) (fineNumber % FINE_SLOTS);
+        if (fineSlot[i] != fineNumber) {
+            fineSlot[i] = fineNumber;
+            fine[i] = 0;
+        }
+        fine[i] += views;
+
+        long hour = now / HOUR_MS;
+        int j = claimHour(hour);
+        own[j] += views;
+    }
+
+    /**
+     * DB에 저장된 시간대별 조회수 적재 (시작 시)
+     * @param hour 시간 슬롯 번호 (epoch hour)
+     * @param views 조회수
+     * @param ownNode 이 노드가 저장한 행이면 true (이후 같은 행을 갱신)
+     * @param now 현재 시각 (epoch ms)
+     */
+    synchronized void load(long hour, long views, boolean ownNode, long now) {
+        long currentHour = now / HOUR_MS;
+        if (hour <= currentHour - HOUR_SLOTS || hour > currentHour || hourSlot[(int) (hour % HOUR_SLOTS)] > hour) {
+            return;
+        }
+
+        int j = claimHour(hour);
+        if (ownNode) {
+            own[j] += views;
+            persisted[j] += views;
+        } else {
+            imported[j] += views;
+        }
+    }
+
+    /**
+     * 구간 조회수와 감쇠 점수 계산
+     * 슬롯 중간 시점부터 지난 시간만큼 반감기로 감쇠 (진행 중인 슬롯은 시작 이후 절반만큼)
+     * @param window 집계 구간
+     * @param now 현재 시각 (epoch ms)
+     * @return 구간 조회수와 점수
+     */
+    synchronized Score score(TrendingWindow window, long now) {
+        long width = window.hourly() ? HOUR_MS : FINE_SLOT_MS;
+        long[] numbers = window.hourly() ? hourSlot : fineSlot;
+        long current = now / width;
+        double halfLifeMs = window.halfLife().toMillis();
+
+        long views = 0;
+        double score = 0;
+        for (int i = 0; i < numbers.length; i++) {
+            if (numbers[i] < 0 || numbers[i] <= current - window.slots() || numbers[i] > current) {
+                continue;
+            }
+            long slotViews = window.hourly() ? own[i] + imported[i] : fine[i];
+            if (slotViews == 0) {
+                continue;
+            }
+            long slotStart = numbers[i] * width;
+            long age = Math.max(0, now - (slotStart + Math.min(width, now - slotStart) / 2));
+            views += slotViews;
+            score += slotViews * Math.pow(0.5, age / halfLifeMs);
+        }
+        return new Score(views, score);
+    }
+
+    /**
+     * 저장 이후 바뀐 시간 슬롯 (이 노드 조회수만)
+     * @param postId 게시글 ID
+     * @return 저장할 행 목록
+     */
+    synchronized List<PendingRow> pending(Long postId) {
+        List<PendingRow> rows = new ArrayList<>();
+        for (int j = 0; j < HOUR_SLOTS; j++) {
+            if (hourSlot[j] >= 0 && own[j] != persisted[j]) {
+                rows.add(new PendingRow(postId, hourSlot[j], own[j]));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 저장 완료 표시 (그사이 슬롯이 다른 시간대로 바뀌었으면 무시)
+     */
+    synchronized void markPersisted(long hour, long views) {
+        int j = (int) (hour % HOUR_SLOTS);
+        if (hourSlot[j] == hour) {
+            persisted[j] = Math.max(persisted[j], views);
+        }
+    }
+
+    /**
+     * 최근 1주일 안에 조회 기록이 없고 저장할 것도 없으면 true (메모리에서 제거 대상)
+     */
+    synchronized boolean expired(long now) {
+        long currentHour = now / HOUR_MS;
+        for (int j = 0; j < HOUR_SLOTS; j++) {
+            if (hourSlot[j] > currentHour - HOUR_SLOTS && (own[j] + imported[j] > 0)) {
+                return false;
+            }
+            if (hourSlot[j] >= 0 && own[j] != persisted[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int claimHour(long hour) {
+        int j = (int) (hour % HOUR_SLOTS);
+        if (hourSlot[j] != hour) {
+            hourSlot[j] = hour;
+            own[j] = 0;
+            imported[j] = 0;
+            persisted[j] = 0;
+        }
+        return j;
+    }
+
+    /**
+     * 구간 조회수와 감쇠 점수
+     */
+    record Score(long views, double score) {
+    }
+
+    /**
+     * 저장할 시간 슬롯 행
+     * @param views 이 노드의 누적 조회수 (DB 행을 이 값으로 덮어씀)
+     */
+    record PendingRow(Long postId, long hour, long views) {
+    }
+}
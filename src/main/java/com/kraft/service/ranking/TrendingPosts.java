@@ -0,0 +1,239 @@
+package com.kraft.service.ranking;
+
+import com.kraft.domain.post.PostChangedEvent;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.service.ViewCountFlushedEvent;
+import com.kraft.web.dto.post.TrendingPostResponseDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 트렌딩 게시글 (최근 1시간/1일/1주일)
+ * - 조회수 반영(ViewCountFlushedEvent) 때마다 게시글별 시간대 링(PostViewSlots)에 누적
+ * - 주기적으로 구간별 감쇠 점수 상위 topSize개를 계산해 목록 DTO까지 채운 스냅샷으로 교체하므로 요청은 메모리에서만 응답
+ * - 1시간 슬롯은 노드별 행으로 주기적으로 DB(post_view_buckets)에 저장하고, 시작 시 모든 노드의 최근 1주일치를 읽음
+ * - 실행 중에는 이 노드가 받은 조회만 반영 (요청이 노드에 고르게 분산되면 순위는 같은 표본 비율로 유지됨)
+ */
+@Slf4j
+@Component
+public class TrendingPosts {
+
+    static final String UPSERT_SQL = "INSERT INTO post_view_buckets (node_id, post_id, slot_hour, views) VALUES (?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE views = VALUES(views)";
+    static final String LOAD_SQL = "SELECT node_id, post_id, slot_hour, views FROM post_view_buckets WHERE slot_hour > ?";
+    static final String PURGE_SQL = "DELETE FROM post_view_buckets WHERE slot_hour <= ?";
+
+    private final ConcurrentHashMap<Long, PostViewSlots> slots = new ConcurrentHashMap<>();
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final int nodeId;
+    private final boolean persistenceEnabled;
+    private final int topSize;
+
+    private volatile Map<TrendingWindow, List<TrendingPostResponseDto>> snapshots = new EnumMap<>(TrendingWindow.class);
+
+    public TrendingPosts(
+            PostRepository postRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            @Value("${kraft.id.node-id:0}") int nodeId,
+            @Value("${kraft.trending.persistence-enabled:true}") boolean persistenceEnabled,
+            @Value("${kraft.trending.top-size:100}") int topSize
+    ) {
+        this.postRepository = postRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.nodeId = nodeId;
+        this.persistenceEnabled = persistenceEnabled;
+        this.topSize = topSize;
+    }
+
+    /**
+     * 트렌딩 게시글 (마지막 스냅샷 기준, DB 조회 없음)
+     * @param window 집계 구간
+     * @param size 조회 개수 (1 ~ topSize)
+     * @return 감쇠 점수 내림차순 게시글 목록
+     */
+    public List<TrendingPostResponseDto> trending(TrendingWindow window, int size) {
+        if (size < 1 || size > topSize) {
+            throw new IllegalArgumentException("조회 개수는 1 ~ " + topSize + " 사이여야 합니다");
+        }
+        List<TrendingPostResponseDto> snapshot = snapshots.getOrDefault(window, List.of());
+        return snapshot.subList(0, Math.min(size, snapshot.size()));
+    }
+
+    /**
+     * 조회수 반영분을 현재 시간대 슬롯에 누적
+     */
+    @EventListener
+    public void onViewCountFlushed(ViewCountFlushedEvent event) {
+        long now = System.currentTimeMillis();
+        event.deltas().forEach((postId, delta) ->
+                slots.computeIfAbsent(postId, id -> new PostViewSlots()).record(now, delta));
+    }
+
+    /**
+     * 게시글 삭제 커밋 이후 집계와 스냅샷에서 제거 (저장된 행은 보관 기간이 지나면 정리됨)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.Type.DELETED) {
+            return;
+        }
+
+        slots.remove(event.postId());
+        Map<TrendingWindow, List<TrendingPostResponseDto>> next = new EnumMap<>(TrendingWindow.class);
+        snapshots.forEach((window, posts) -> next.put(window,
+                posts.stream().filter(post -> !post.id().equals(event.postId())).toList()));
+        snapshots = next;
+    }
+
+    /**
+     * 구간별 상위 게시글 스냅샷 재계산
+     * 구간마다 크기 topSize인 최소 힙으로 상위만 남기고, 목록 DTO는 모든 구간의 ID를 모아 한 번에 조회
+     */
+    @Scheduled(initialDelayString = "${kraft.trending.refresh-interval-ms:30000}",
+               fixedDelayString = "${kraft.trending.refresh-interval-ms:30000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        slots.entrySet().removeIf(entry -> entry.getValue().expired(now));
+
+        Map<TrendingWindow, List<Ranked>> ranked = new EnumMap<>(TrendingWindow.class);
+        Set<Long> ids = new HashSet<>();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            PriorityQueue<Ranked> top = new PriorityQueue<>(Comparator.comparingDouble(Ranked::score));
+            slots.forEach((postId, postSlots) -> {
+                PostViewSlots.Score score = postSlots.score(window, now);
+                if (score.views() == 0) {
+                    return;
+                }
+                top.add(new Ranked(postId, score.views(), score.score()));
+                if (top.size() > topSize) {
+                    top.poll();
+                }
+            });
+
+            List<Ranked> sorted = new ArrayList<>(top);
+            sorted.sort(Comparator.comparingDouble(Ranked::score).reversed().thenComparing(Ranked::postId, Comparator.reverseOrder()));
+            ranked.put(window, sorted);
+            sorted.forEach(entry -> ids.add(entry.postId()));
+        }
+
+        try {
+            Map<Long, PostSummary> summaries = new HashMap<>(ids.size() * 2);
+            if (!ids.isEmpty()) {
+                postRepository.findSummariesByIdIn(ids).forEach(summary -> summaries.put(summary.id(), summary));
+            }
+
+            Map<TrendingWindow, List<TrendingPostResponseDto>> next = new EnumMap<>(TrendingWindow.class);
+            ranked.forEach((window, entries) -> next.put(window, entries.stream()
+                    .filter(entry -> summaries.containsKey(entry.postId()))
+                    .map(entry -> TrendingPostResponseDto.of(summaries.get(entry.postId()), entry.views(), entry.score()))
+                    .toList()));
+            snapshots = next;
+
+            log.debug("트렌딩 스냅샷 갱신: trackedPosts={}, rankedPosts={}", slots.size(), ids.size());
+        } catch (DataAccessException e) {
+            log.warn("트렌딩 스냅샷 갱신 실패, 이전 스냅샷 유지", e);
+        }
+    }
+
+    /**
+     * 저장 이후 바뀐 시간 슬롯을 DB에 저장하고 보관 기간(1주일)이 지난 행 정리
+     * 노드별 행이라 이 노드만 쓰므로, 누적값을 upsert 배치 하나로 덮어씀 (행이 있는지 따로 추적하지 않음)
+     */
+    @Scheduled(initialDelayString = "${kraft.trending.persist-interval-ms:60000}",
+               fixedDelayString = "${kraft.trending.persist-interval-ms:60000}")
+    public void persist() {
+        if (!persistenceEnabled) {
+            return;
+        }
+
+        List<PostViewSlots.PendingRow> rows = new ArrayList<>();
+        slots.forEach((postId, postSlots) -> rows.addAll(postSlots.pending(postId)));
+        long oldestHour = System.currentTimeMillis() / PostViewSlots.HOUR_MS - PostViewSlots.HOUR_SLOTS;
+
+        try {
+            List<Object[]> upserts = new ArrayList<>(rows.size());
+            for (PostViewSlots.PendingRow row : rows) {
+                upserts.add(new Object[]{nodeId, row.postId(), row.hour(), row.views()});
+            }
+
+            transactionOperations.executeWithoutResult(status -> {
+                if (!upserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+                }
+                jdbcTemplate.update(PURGE_SQL, oldestHour);
+            });
+        } catch (DataAccessException | TransactionException e) {
+            // 저장 표시를 하지 않았으므로 다음 주기에 다시 저장
+            log.warn("트렌딩 조회 기록 저장 실패, 다음 주기에 재시도: rows={}", rows.size(), e);
+            return;
+        }
+
+        rows.forEach(row -> {
+            PostViewSlots postSlots = slots.get(row.postId());
+            if (postSlots != null) {
+                postSlots.markPersisted(row.hour(), row.views());
+            }
+        });
+        log.debug("트렌딩 조회 기록 저장: rows={}", rows.size());
+    }
+
+    /**
+     * 시작 시 모든 노드의 최근 1주일치 조회 기록을 읽고 스냅샷 계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (persistenceEnabled) {
+            long now = System.currentTimeMillis();
+            long oldestHour = now / PostViewSlots.HOUR_MS - PostViewSlots.HOUR_SLOTS;
+            try {
+                jdbcTemplate.query(LOAD_SQL, rs -> {
+                    slots.computeIfAbsent(rs.getLong("post_id"), id -> new PostViewSlots())
+                            .load(rs.getLong("slot_hour"), rs.getLong("views"), rs.getInt("node_id") == nodeId, now);
+                }, oldestHour);
+                log.info("트렌딩 조회 기록 적재: trackedPosts={}", slots.size());
+            } catch (DataAccessException e) {
+                log.warn("트렌딩 조회 기록 적재 실패, 메모리 집계만 사용", e);
+            }
+        }
+        refresh();
+    }
+
+    /**
+     * 종료 시 남은 조회 기록 저장
+     */
+    @PreDestroy
+    public void drain() {
+        persist();
+    }
+
+    private record Ranked(Long postId, long views, double score) {
+    }
+}
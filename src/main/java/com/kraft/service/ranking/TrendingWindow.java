@@ -0,0 +1,55 @@
+package com.kraft.service.ranking;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 트렌딩 집계 구간
+ * - HOUR는 5분 단위 슬롯 12개, DAY/WEEK는 1시간 단위 슬롯 24개/168개를 합산
+ * - 슬롯마다 나이(구간 중간 시점 기준)에 따라 반감기로 감쇠한 가중치를 곱해 hot score를 계산
+ */
+public enum TrendingWindow {
+
+    HOUR("hour", false, 12, Duration.ofMinutes(20)),
+    DAY("day", true, 24, Duration.ofHours(6)),
+    WEEK("week", true, 168, Duration.ofHours(36));
+
+    private final String parameter;
+    private final boolean hourly;
+    private final int slots;
+    private final Duration halfLife;
+
+    TrendingWindow(String parameter, boolean hourly, int slots, Duration halfLife) {
+        this.parameter = parameter;
+        this.hourly = hourly;
+        this.slots = slots;
+        this.halfLife = halfLife;
+    }
+
+    /**
+     * 1시간 슬롯 사용 여부 (false면 5분 슬롯)
+     */
+    public boolean hourly() {
+        return hourly;
+    }
+
+    public int slots() {
+        return slots;
+    }
+
+    public Duration halfLife() {
+        return halfLife;
+    }
+
+    /**
+     * 요청 파라미터로 구간 결정 (대소문자 무시)
+     * @param value hour, day, week
+     * @return 집계 구간
+     */
+    public static TrendingWindow from(String value) {
+        return Arrays.stream(values())
+                .filter(window -> window.parameter.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 트렌딩 구간입니다: " + value));
+    }
+}
@@ -0,0 +1,93 @@
+package com.kraft.service.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 바이그램(2-gram) 토크나이저
+ * - 문자/숫자가 아닌 문자를 기준으로 어절을 나눈 뒤 어절마다 2글자씩 겹쳐 자름
+ * - 형태소 분석 없이도 조사가 붙은 한국어 어절("게시판에서")을 부분 일치로 찾을 수 있음
+ * - 한 글자 어절은 그대로 하나의 용어로 취급
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 텍스트의 모든 용어를 순서대로 전달 (빈도 계산을 위해 중복 포함)
+     * @param text 원문
+     * @param consumer 용어 소비자
+     */
+    public static void forEachTerm(String text, Consumer<String> consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int wordStart = -1;
+
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!wordChar && wordStart >= 0) {
+                emitWord(normalized, wordStart, i, consumer);
+                wordStart = -1;
+            }
+        }
+    }
+
+    /**
+     * 검색어의 고유 용어 목록
+     * @param keyword 검색어
+     * @return 용어 집합
+     */
+    public static Set<String> terms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachTerm(keyword, terms::add);
+        return terms;
+    }
+
+    /**
+     * 색인만으로 검색 가능한 검색어인지 확인
+     * 한 글자 어절은 더 긴 어절의 일부와 일치시킬 수 없으므로 색인 검색 대상에서 제외
+     * @param keyword 검색어
+     * @return 색인 검색 가능 여부
+     */
+    public static boolean isIndexable(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return false;
+        }
+
+        String normalized = keyword.toLowerCase(Locale.ROOT);
+        int wordLength = 0;
+        boolean hasWord = false;
+
+        for (int i = 0; i <= normalized.length(); i++) {
+            if (i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i))) {
+                wordLength++;
+                continue;
+            }
+            if (wordLength == 1) {
+                return false;
+            }
+            hasWord |= wordLength > 1;
+            wordLength = 0;
+        }
+        return hasWord;
+    }
+
+    private static void emitWord(String text, int start, int end, Consumer<String> consumer) {
+        if (end - start == 1) {
+            consumer.accept(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            consumer.accept(text.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.kraft.service.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * FULLTEXT 불리언 모드 검색식 변환
+ * - 연산자(+ - ~ < > ( ) " *)가 포함된 검색어는 사용자가 작성한 검색식으로 보되, 문법 오류가 나지 않도록 다시 조립
+ *   (어절 앞 연산자는 하나만, 닫히지 않은 따옴표/괄호는 닫고, 짝 없는 닫는 괄호와 빈 괄호는 버림)
+ * - 일반 검색어는 어절마다 필수(+) + 접두 일치(*)로 변환 ("스프링 부트" → "+스프링* +부트*")
+ *   조사가 붙은 어절("스프링을")도 접두 일치로 찾을 수 있음
+ */
+public final class BooleanModeQuery {
+
+    private static final String OPERATOR_PREFIXES = "+-~<>(";
+    private static final String WORD_OPERATORS = "+-~<>";
+
+    private BooleanModeQuery() {
+    }
+
+    /**
+     * 검색어를 불리언 모드 검색식으로 변환
+     * @param keyword 검색어
+     * @return 검색식 (검색할 어절이 없으면 null)
+     */
+    public static String of(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        String trimmed = keyword.trim();
+        if (hasOperators(trimmed)) {
+            return normalize(trimmed);
+        }
+
+        StringJoiner query = new StringJoiner(" ");
+        for (String word : trimmed.split("\\s+")) {
+            String term = stripNonWordChars(word);
+            if (!term.isEmpty()) {
+                query.add("+" + term.toLowerCase(Locale.ROOT) + "*");
+            }
+        }
+        return query.length() == 0 ? null : query.toString();
+    }
+
+    private static boolean hasOperators(String keyword) {
+        if (keyword.indexOf('"') >= 0 || keyword.indexOf(')') >= 0) {
+            return true;
+        }
+        for (String word : keyword.split("\\s+")) {
+            if (OPERATOR_PREFIXES.indexOf(word.charAt(0)) >= 0 || word.endsWith("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 사용자 검색식을 어절/구문/괄호 단위로 읽어 문법에 맞게 다시 조립
+     * @return 검색식 (검색할 어절이 없으면 null)
+     */
+    private static String normalize(String expression) {
+        List<String> tokens = new ArrayList<>();
+        Deque<Integer> groups = new ArrayDeque<>();
+        String operator = "";
+        int i = 0;
+        int length = expression.length();
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                operator = "";
+                i++;
+            } else if (WORD_OPERATORS.indexOf(c) >= 0) {
+                if (operator.isEmpty()) {
+                    operator = String.valueOf(c);
+                }
+                i++;
+            } else if (c == '(') {
+                groups.push(tokens.size());
+                tokens.add(operator + "(");
+                operator = "";
+                i++;
+            } else if (c == ')') {
+                if (!groups.isEmpty()) {
+                    closeGroup(tokens, groups.pop());
+                }
+                operator = "";
+                i++;
+            } else if (c == '"') {
+                int end = expression.indexOf('"', i + 1);
+                StringJoiner phrase = new StringJoiner(" ");
+                for (String word : expression.substring(i + 1, end < 0 ? length : end).split("\\s+")) {
+                    String term = stripNonWordChars(word);
+                    if (!term.isEmpty()) {
+                        phrase.add(term);
+                    }
+                }
+                if (phrase.length() > 0) {
+                    tokens.add(operator + "\"" + phrase + "\"");
+                }
+                operator = "";
+                i = end < 0 ? length : end + 1;
+            } else {
+                int start = i;
+                while (i < length && !Character.isWhitespace(expression.charAt(i)) && "()\"".indexOf(expression.charAt(i)) < 0) {
+                    i++;
+                }
+                String word = expression.substring(start, i);
+                String term = stripNonWordChars(word);
+                if (!term.isEmpty()) {
+                    tokens.add(operator + term + (word.endsWith("*") ? "*" : ""));
+                }
+                operator = "";
+            }
+        }
+        while (!groups.isEmpty()) {
+            closeGroup(tokens, groups.pop());
+        }
+
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        for (String token : tokens) {
+            boolean joined = query.isEmpty() || query.charAt(query.length() - 1) == '(' || token.equals(")");
+            query.append(joined ? "" : " ").append(token);
+        }
+        return query.toString();
+    }
+
+    /**
+     * 괄호 닫기 (안에 아무것도 없으면 여는 괄호째 버림)
+     */
+    private static void closeGroup(List<String> tokens, int open) {
+        if (tokens.size() == open + 1) {
+            tokens.remove(open);
+        } else {
+            tokens.add(")");
+        }
+    }
+
+    private static String stripNonWordChars(String word) {
+        StringBuilder sb = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
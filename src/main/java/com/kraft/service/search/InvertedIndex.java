@@ -0,0 +1,137 @@
+package com.kraft.service.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 게시글 메모리 역색인
+ * - 용어 → 포스팅 리스트(게시글 ID, 가중치)
+ * - 게시글 → 포함 용어 (수정/삭제 시 포스팅 제거용)
+ * - 스레드 안전하지 않으므로 PostSearchIndex에서 잠금으로 보호
+ */
+class InvertedIndex {
+
+    /**
+     * 제목에 등장한 용어의 가중치 (본문 1회 = 1)
+     */
+    static final int TITLE_WEIGHT = 3;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, String[]> documentTerms = new HashMap<>();
+    private long postingCount;
+
+    /**
+     * 게시글 색인 (이미 색인된 게시글이면 교체)
+     */
+    void put(long postId, String title, String content) {
+        remove(postId);
+
+        Map<String, Integer> weights = new HashMap<>();
+        BigramTokenizer.forEachTerm(title, term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.forEachTerm(content, term -> weights.merge(term, 1, Integer::sum));
+
+        String[] terms = new String[weights.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            PostingList postingList = postings.computeIfAbsent(entry.getKey(), PostingList::new);
+            postingList.put(postId, entry.getValue());
+            // 포스팅 리스트가 가진 용어 문자열을 공유해 게시글별 중복 문자열을 만들지 않음
+            terms[i++] = postingList.term();
+        }
+
+        documentTerms.put(postId, terms);
+        postingCount += terms.length;
+    }
+
+    /**
+     * 게시글 색인 제거
+     */
+    void remove(long postId) {
+        String[] terms = documentTerms.remove(postId);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            PostingList postingList = postings.get(term);
+            if (postingList != null && postingList.remove(postId) && postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        postingCount -= terms.length;
+    }
+
+    /**
+     * 모든 검색 용어를 포함하는 게시글 검색 (AND)
+     * 점수 = Σ 가중치 × idf, 상위 limit개만 힙으로 추려 정렬
+     * @param queryTerms 검색 용어
+     * @param limit 반환할 최대 개수
+     * @return 검색 결과
+     */
+    SearchResult search(Collection<String> queryTerms, int limit) {
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return SearchResult.empty();
+        }
+
+        List<PostingList> lists = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            PostingList postingList = postings.get(term);
+            if (postingList == null) {
+                return SearchResult.empty();
+            }
+            lists.add(postingList);
+        }
+        // 가장 짧은 포스팅 리스트를 기준으로 교집합을 구함
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        double[] idf = new double[lists.size()];
+        for (int j = 0; j < lists.size(); j++) {
+            idf[j] = Math.log(1.0 + (double) documentTerms.size() / lists.get(j).size());
+        }
+
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(SearchHit.RANKING.reversed());
+        PostingList smallest = lists.get(0);
+        int totalHits = 0;
+
+        candidates:
+        for (int i = 0; i < smallest.size(); i++) {
+            long postId = smallest.postIdAt(i);
+            double score = smallest.weightAt(i) * idf[0];
+
+            for (int j = 1; j < lists.size(); j++) {
+                int weight = lists.get(j).weightOf(postId);
+                if (weight == 0) {
+                    continue candidates;
+                }
+                score += weight * idf[j];
+            }
+
+            totalHits++;
+            top.offer(new SearchHit(postId, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(SearchHit.RANKING);
+        return new SearchResult(totalHits, hits);
+    }
+
+    int documentCount() {
+        return documentTerms.size();
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    long postingCount() {
+        return postingCount;
+    }
+}
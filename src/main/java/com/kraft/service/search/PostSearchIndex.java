@@ -0,0 +1,231 @@
+package com.kraft.service.search;
+
+import com.kraft.domain.post.PostChangedEvent;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSearchDocument;
+import com.kraft.domain.post.PostsImportedEvent;
+import com.kraft.domain.user.UserWithdrawnEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 검색 색인 (애플리케이션 내 메모리 역색인)
+ * - 시작 시 전체 게시글로 구축하고, 이후에는 게시글 변경/회원 탈퇴 이벤트로 증분 갱신
+ * - 탈퇴한 작성자의 게시글은 목록/검색 결과에서 빠지므로 색인에도 넣지 않음 (검색 총 건수와 페이지 내용을 맞춤)
+ * - 검색은 읽기 잠금, 갱신은 쓰기 잠금으로 보호
+ * - 색인 크기와 재구축 시간을 메트릭으로 노출
+ * - 검색 방식이 INDEX일 때만 등록
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kraft.search.mode", havingValue = "index", matchIfMissing = true)
+public class PostSearchIndex {
+
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean building = new AtomicBoolean();
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+    private final Timer rebuildTimer;
+
+    private InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+
+    public PostSearchIndex(PostRepository postRepository, MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.rebuildTimer = Timer.builder("post.search.index.rebuild")
+                .description("게시글 검색 색인 전체 재구축 시간")
+                .register(meterRegistry);
+
+        Gauge.builder("post.search.index.documents", this, PostSearchIndex::documentCount)
+                .description("색인된 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("post.search.index.terms", this, PostSearchIndex::termCount)
+                .description("색인 용어 수")
+                .register(meterRegistry);
+        Gauge.builder("post.search.index.postings", this, PostSearchIndex::postingCount)
+                .description("전체 포스팅 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 전체 게시글로 색인 재구축
+     * 새 색인을 따로 만든 뒤 교체하며, 구축 중 변경된 게시글은 교체 후 다시 반영
+     */
+    public void rebuild() {
+        if (!building.compareAndSet(false, true)) {
+            log.info("검색 색인 재구축이 이미 진행 중입니다");
+            return;
+        }
+
+        List<Long> changed;
+        try {
+            changedDuringBuild.clear();
+            InvertedIndex rebuilt = rebuildTimer.record((Supplier<InvertedIndex>) this::loadIndex);
+            writeLocked(() -> index = rebuilt);
+            ready = true;
+
+            log.info("검색 색인 재구축 완료: documents={}, terms={}, postings={}",
+                    rebuilt.documentCount(), rebuilt.termCount(), rebuilt.postingCount());
+        } finally {
+            building.set(false);
+            changed = new ArrayList<>(changedDuringBuild);
+            changedDuringBuild.clear();
+        }
+
+        changed.forEach(this::reindex);
+    }
+
+    /**
+     * 게시글 검색
+     * @param keyword 검색어
+     * @param limit 반환할 상위 결과 수
+     * @return 검색 결과 (색인 준비 전이거나 색인으로 처리할 수 없는 검색어면 empty)
+     */
+    public Optional<SearchResult> search(String keyword, int limit) {
+        if (!ready || !BigramTokenizer.isIndexable(keyword)) {
+            return Optional.empty();
+        }
+
+        Set<String> terms = BigramTokenizer.terms(keyword);
+        lock.readLock().lock();
+        try {
+            return Optional.of(index.search(terms, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 변경 시 색인 증분 갱신 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (building.get()) {
+            changedDuringBuild.add(event.postId());
+        }
+
+        try {
+            if (event.type() == PostChangedEvent.Type.DELETED) {
+                writeLocked(() -> index.remove(event.postId()));
+            } else {
+                reindex(event.postId());
+            }
+        } catch (RuntimeException e) {
+            // 이미 커밋된 요청을 실패시키지 않도록 로그만 남김 (다음 재구축 때 복구)
+            log.warn("검색 색인 갱신 실패: postId={}, type={}", event.postId(), event.type(), e);
+        }
+    }
+
+    /**
+     * 대량 가져오기 청크를 한 번의 IN 조회로 색인에 추가 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostsImported(PostsImportedEvent event) {
+        if (building.get()) {
+            changedDuringBuild.addAll(event.postIds());
+        }
+
+        try {
+            List<PostSearchDocument> documents = postRepository.findSearchDocumentsByIdIn(event.postIds());
+            writeLocked(() -> documents.forEach(doc -> index.put(doc.id(), doc.title(), doc.content())));
+        } catch (RuntimeException e) {
+            log.warn("가져온 게시글 색인 실패: posts={}", event.postIds().size(), e);
+        }
+    }
+
+    /**
+     * 회원 탈퇴 시 작성 게시글을 색인에서 제거 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserWithdrawn(UserWithdrawnEvent event) {
+        try {
+            List<Long> postIds = postRepository.findIdsByAuthorId(event.userId());
+            if (building.get()) {
+                changedDuringBuild.addAll(postIds);
+            }
+            writeLocked(() -> postIds.forEach(index::remove));
+            log.debug("탈퇴 회원 게시글 색인 제거: userId={}, posts={}", event.userId(), postIds.size());
+        } catch (RuntimeException e) {
+            log.warn("탈퇴 회원 게시글 색인 제거 실패: userId={}", event.userId(), e);
+        }
+    }
+
+    public int documentCount() {
+        return readLocked(() -> index.documentCount());
+    }
+
+    public int termCount() {
+        return readLocked(() -> index.termCount());
+    }
+
+    public long postingCount() {
+        return readLocked(() -> index.postingCount());
+    }
+
+    private void reindex(Long postId) {
+        Optional<PostSearchDocument> document = postRepository.findSearchDocumentById(postId);
+        writeLocked(() -> document.ifPresentOrElse(
+                doc -> index.put(doc.id(), doc.title(), doc.content()),
+                () -> index.remove(postId)
+        ));
+    }
+
+    private InvertedIndex loadIndex() {
+        InvertedIndex rebuilt = new InvertedIndex();
+        long lastId = 0L;
+
+        while (true) {
+            List<PostSearchDocument> batch = postRepository.findSearchDocuments(lastId, Limit.of(BUILD_BATCH_SIZE));
+            batch.forEach(doc -> rebuilt.put(doc.id(), doc.title(), doc.content()));
+
+            if (batch.size() < BUILD_BATCH_SIZE) {
+                return rebuilt;
+            }
+            lastId = batch.get(batch.size() - 1).id();
+        }
+    }
+
+    private void writeLocked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <T> T readLocked(Supplier<T> supplier) {
+        lock.readLock().lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
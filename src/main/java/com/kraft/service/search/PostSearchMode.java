@@ -0,0 +1,22 @@
+package com.kraft.service.search;
+
+/**
+ * 게시글 검색 방식 (kraft.search.mode)
+ */
+public enum PostSearchMode {
+
+    /**
+     * LIKE '%keyword%' 검색 (최신순)
+     */
+    LIKE,
+
+    /**
+     * 애플리케이션 메모리 역색인 검색 (관련도순)
+     */
+    INDEX,
+
+    /**
+     * MariaDB FULLTEXT MATCH ... AGAINST 불리언 모드 검색 (관련도순)
+     */
+    FULLTEXT
+}
@@ -0,0 +1,126 @@
+package com.kraft.service.search;
+
+import com.kraft.domain.post.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 설정된 검색 방식(kraft.search.mode)으로 게시글 검색
+ * - INDEX: 메모리 역색인, FULLTEXT: MariaDB MATCH ... AGAINST
+ * - 결과가 empty면 호출 측에서 LIKE 검색으로 처리 (FULLTEXT 검색식 오류도 포함)
+ *   FULLTEXT 오류는 진행 중인 트랜잭션을 rollback-only로 만들므로 호출 측은 트랜잭션 밖에서 호출해야 함 (PostService.searchPosts)
+ * - FULLTEXT는 MariaDB/MySQL에서만 사용하며, 그 밖의 DB(H2 등)에서는 LIKE로 대체
+ */
+@Slf4j
+@Component
+public class PostSearcher {
+
+    private final PostRepository postRepository;
+    private final ObjectProvider<PostSearchIndex> postSearchIndex;
+    private final PostSearchMode mode;
+
+    @Autowired
+    public PostSearcher(
+            PostRepository postRepository,
+            ObjectProvider<PostSearchIndex> postSearchIndex,
+            DataSource dataSource,
+            @Value("${kraft.search.mode:index}") String mode
+    ) {
+        this(postRepository, postSearchIndex,
+                resolveMode(PostSearchMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)), dataSource));
+        log.info("게시글 검색 방식: {}", this.mode);
+    }
+
+    /**
+     * 검색 방식을 그대로 사용 (DB 종류 확인 없음, 테스트용)
+     */
+    PostSearcher(PostRepository postRepository, ObjectProvider<PostSearchIndex> postSearchIndex, PostSearchMode mode) {
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.mode = mode;
+    }
+
+    public PostSearchMode mode() {
+        return mode;
+    }
+
+    /**
+     * 게시글 검색
+     * @param keyword 검색어
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 검색 결과 페이지 (LIKE 검색으로 처리해야 하면 empty)
+     */
+    public Optional<SearchPage> search(String keyword, int page, int size) {
+        long offset = (long) page * size;
+        return switch (mode) {
+            case INDEX -> searchIndex(keyword, offset, size);
+            case FULLTEXT -> searchFullText(keyword, offset, size);
+            case LIKE -> Optional.empty();
+        };
+    }
+
+    private Optional<SearchPage> searchIndex(String keyword, long offset, int size) {
+        PostSearchIndex index = postSearchIndex.getIfAvailable();
+        if (index == null) {
+            return Optional.empty();
+        }
+
+        int limit = (int) Math.min(offset + size, Integer.MAX_VALUE);
+        return index.search(keyword, limit)
+                .map(result -> new SearchPage(
+                        result.totalHits(),
+                        result.hits().stream().skip(offset).map(SearchHit::postId).toList()
+                ));
+    }
+
+    private Optional<SearchPage> searchFullText(String keyword, long offset, int size) {
+        String query = BooleanModeQuery.of(keyword);
+        if (query == null) {
+            return Optional.empty();
+        }
+
+        try {
+            long totalHits = postRepository.countByFullText(query);
+            List<Long> postIds = totalHits > offset
+                    ? postRepository.searchIdsByFullText(query, size, offset)
+                    : List.of();
+            return Optional.of(new SearchPage(totalHits, postIds));
+        } catch (DataAccessException e) {
+            // 검색식을 다시 조립해도 DB가 거부하면(불용어만 남은 구문 등) 500 대신 LIKE 검색으로 처리
+            log.warn("FULLTEXT 검색 실패, LIKE 검색으로 대체: query={}", query, e);
+            return Optional.empty();
+        }
+    }
+
+    private static PostSearchMode resolveMode(PostSearchMode configured, DataSource dataSource) {
+        if (configured != PostSearchMode.FULLTEXT || supportsFullText(dataSource)) {
+            return configured;
+        }
+        log.warn("FULLTEXT 검색을 지원하지 않는 DB이므로 LIKE 검색을 사용합니다");
+        return PostSearchMode.LIKE;
+    }
+
+    private static boolean supportsFullText(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            String normalized = product.toLowerCase(Locale.ROOT);
+            return normalized.contains("mariadb") || normalized.contains("mysql");
+        } catch (MetaDataAccessException e) {
+            log.warn("DB 종류 확인 실패", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.kraft.service.search;
+
+import java.util.Arrays;
+
+/**
+ * 용어 하나의 포스팅 리스트
+ * - 게시글 ID 오름차순으로 정렬된 원시 배열로 보관해 박싱/노드 객체 오버헤드를 없앰
+ * - 신규 게시글은 ID가 가장 크므로 대부분 배열 끝에 추가됨
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final String term;
+    private long[] postIds = new long[INITIAL_CAPACITY];
+    private int[] weights = new int[INITIAL_CAPACITY];
+    private int size;
+
+    PostingList(String term) {
+        this.term = term;
+    }
+
+    String term() {
+        return term;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long postIdAt(int index) {
+        return postIds[index];
+    }
+
+    int weightAt(int index) {
+        return weights[index];
+    }
+
+    /**
+     * 게시글의 가중치 조회
+     * @return 가중치 (포함되지 않으면 0)
+     */
+    int weightOf(long postId) {
+        int index = Arrays.binarySearch(postIds, 0, size, postId);
+        return index >= 0 ? weights[index] : 0;
+    }
+
+    /**
+     * 게시글 추가 (이미 있으면 가중치 갱신)
+     */
+    void put(long postId, int weight) {
+        if (size == 0 || postIds[size - 1] < postId) {
+            ensureCapacity();
+            postIds[size] = postId;
+            weights[size] = weight;
+            size++;
+            return;
+        }
+
+        int index = Arrays.binarySearch(postIds, 0, size, postId);
+        if (index >= 0) {
+            weights[index] = weight;
+            return;
+        }
+
+        int insertAt = -index - 1;
+        ensureCapacity();
+        System.arraycopy(postIds, insertAt, postIds, insertAt + 1, size - insertAt);
+        System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+        postIds[insertAt] = postId;
+        weights[insertAt] = weight;
+        size++;
+    }
+
+    /**
+     * 게시글 제거
+     * @return 제거 여부
+     */
+    boolean remove(long postId) {
+        int index = Arrays.binarySearch(postIds, 0, size, postId);
+        if (index < 0) {
+            return false;
+        }
+
+        int moved = size - index - 1;
+        System.arraycopy(postIds, index + 1, postIds, index, moved);
+        System.arraycopy(weights, index + 1, weights, index, moved);
+        size--;
+        return true;
+    }
+
+    private void ensureCapacity() {
+        if (size == postIds.length) {
+            int capacity = postIds.length + (postIds.length >> 1) + 1;
+            postIds = Arrays.copyOf(postIds, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+    }
+}
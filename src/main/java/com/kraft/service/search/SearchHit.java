@@ -0,0 +1,18 @@
+package com.kraft.service.search;
+
+import java.util.Comparator;
+
+/**
+ * 검색 결과 항목 (게시글 ID, 관련도 점수)
+ */
+public record SearchHit(
+        long postId,
+        double score
+) {
+    /**
+     * 관련도 내림차순, 동점이면 최신 게시글 우선
+     */
+    public static final Comparator<SearchHit> RANKING = Comparator
+            .comparingDouble(SearchHit::score).reversed()
+            .thenComparing(Comparator.comparingLong(SearchHit::postId).reversed());
+}
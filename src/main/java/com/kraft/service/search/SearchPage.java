@@ -0,0 +1,14 @@
+package com.kraft.service.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 페이지
+ * @param totalHits 전체 일치 게시글 수
+ * @param postIds 요청 페이지의 게시글 ID (관련도순)
+ */
+public record SearchPage(
+        long totalHits,
+        List<Long> postIds
+) {
+}
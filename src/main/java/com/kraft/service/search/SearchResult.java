@@ -0,0 +1,17 @@
+package com.kraft.service.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과
+ * @param totalHits 전체 일치 게시글 수
+ * @param hits 관련도 순 상위 결과 (요청한 개수까지만)
+ */
+public record SearchResult(
+        int totalHits,
+        List<SearchHit> hits
+) {
+    public static SearchResult empty() {
+        return new SearchResult(0, List.of());
+    }
+}
@@ -0,0 +1,40 @@
+package com.kraft.service.transfer;
+
+import java.util.Arrays;
+
+/**
+ * 내보내기 형식
+ */
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * 요청 파라미터로 형식 결정 (대소문자 무시)
+     * @param value ndjson 또는 csv
+     * @return 내보내기 형식
+     */
+    public static ExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value));
+    }
+}
@@ -0,0 +1,152 @@
+package com.kraft.service.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.kraft.domain.comment.CommentExportRow;
+import com.kraft.domain.comment.CommentRepository;
+import com.kraft.domain.post.PostExportRow;
+import com.kraft.domain.post.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 게시글/댓글 내보내기 (NDJSON, CSV)
+ * - 읽기 전용 트랜잭션 안에서 전진 전용 커서 스트림(fetch size 500)을 한 행씩 읽어 바로 출력
+ * - 엔티티 대신 컬럼 프로젝션을 읽으므로 영속성 컨텍스트가 커지지 않고, 행 수와 무관하게 힙 사용량이 일정
+ * - 출력은 버퍼가 찰 때마다 클라이언트로 흘려보냄
+ */
+@Slf4j
+@Component
+public class PostExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final List<String> POST_COLUMNS = List.of(
+            "id", "title", "content", "authorName", "categoryName", "viewCount", "commentCount", "createAt", "updateAt");
+    private static final List<String> COMMENT_COLUMNS = List.of(
+            "id", "postId", "parentId", "authorName", "content", "path", "createAt", "updateAt");
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate exportTransaction;
+
+    public PostExporter(PostRepository postRepository,
+                        CommentRepository commentRepository,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 게시글 전체 내보내기 (작성자명, 카테고리명 포함)
+     * @param format 출력 형식
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 내보낸 행 수
+     */
+    public long exportPosts(ExportFormat format, OutputStream out) {
+        return export("posts", format, out, postRepository::streamAllForExport, PostExportRow.class, POST_COLUMNS,
+                row -> Arrays.asList(row.id(), row.title(), row.content(), row.authorName(), row.categoryName(),
+                        row.viewCount(), row.commentCount(), row.createAt(), row.updateAt()));
+    }
+
+    /**
+     * 댓글 전체 내보내기 (작성자명 포함)
+     * @param format 출력 형식
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 내보낸 행 수
+     */
+    public long exportComments(ExportFormat format, OutputStream out) {
+        return export("comments", format, out, commentRepository::streamAllForExport, CommentExportRow.class, COMMENT_COLUMNS,
+                row -> Arrays.asList(row.id(), row.postId(), row.parentId(), row.authorName(), row.content(),
+                        row.path(), row.createAt(), row.updateAt()));
+    }
+
+    private <T> long export(String name,
+                            ExportFormat format,
+                            OutputStream out,
+                            Supplier<Stream<T>> source,
+                            Class<T> rowType,
+                            List<String> columns,
+                            Function<T, List<Object>> csvValues) {
+        long started = System.currentTimeMillis();
+        ObjectWriter jsonWriter = objectMapper.writerFor(rowType);
+        BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+
+        Long exported = exportTransaction.execute(status -> {
+            long count = 0;
+            try (Stream<T> rows = source.get()) {
+                if (format == ExportFormat.CSV) {
+                    writeLine(buffered, csvLine(columns));
+                }
+                for (T row : (Iterable<T>) rows::iterator) {
+                    if (format == ExportFormat.CSV) {
+                        writeLine(buffered, csvLine(csvValues.apply(row)));
+                    } else {
+                        buffered.write(jsonWriter.writeValueAsBytes(row));
+                        buffered.write('\n');
+                    }
+                    count++;
+                }
+                buffered.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count;
+        });
+
+        log.info("내보내기 완료: target={}, format={}, rows={}, elapsedMs={}",
+                name, format, exported, System.currentTimeMillis() - started);
+        return exported == null ? 0 : exported;
+    }
+
+    private void writeLine(OutputStream out, String line) throws IOException {
+        out.write(line.getBytes(StandardCharsets.UTF_8));
+        out.write('\n');
+    }
+
+    /**
+     * RFC 4180 형식 한 줄 (쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싸고 따옴표는 두 번 씀, null은 빈 값)
+     * 스프레드시트가 수식으로 해석하는 문자(=, +, -, @, 탭, CR)로 시작하는 문자열은 앞에 '를 붙이고 따옴표로 감쌈 (CSV 수식 주입 방지)
+     */
+    static String csvLine(List<?> values) {
+        return values.stream()
+                .map(value -> {
+                    if (value == null) {
+                        return "";
+                    }
+                    String text = value.toString();
+                    if (value instanceof CharSequence && isFormulaLike(text)) {
+                        return "\"'" + text.replace("\"", "\"\"") + '"';
+                    }
+                    if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                        return text;
+                    }
+                    return '"' + text.replace("\"", "\"\"") + '"';
+                })
+                .collect(Collectors.joining(","));
+    }
+
+    private static boolean isFormulaLike(String text) {
+        return !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.kraft.service.transfer;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 게시글 가져오기 NDJSON 한 줄
+ * 예: {"title":"제목","content":"내용","author":"user1","category":"공지사항"}
+ * - author: 작성자 로그인 ID
+ * - category: 카테고리명 (생략 가능)
+ */
+public record PostImportRecord(
+        @NotBlank(message = "제목은 필수입니다")
+        @Size(max = 500, message = "제목은 500자 이하여야 합니다")
+        String title,
+
+        @NotBlank(message = "내용은 필수입니다")
+        String content,
+
+        @NotBlank(message = "작성자는 필수입니다")
+        String author,
+
+        String category
+) {
+}
@@ -0,0 +1,297 @@
+package com.kraft.service.transfer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraft.domain.category.Category;
+import com.kraft.domain.category.CategoryRepository;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostsImportedEvent;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserIdentity;
+import com.kraft.domain.user.UserRepository;
+import com.kraft.web.dto.post.PostImportResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 대량 가져오기 (NDJSON)
+ * - 요청 본문을 한 줄씩 읽어 Jackson 스트리밍 파서로 해석하므로 파일 전체를 메모리에 올리지 않음
+ * - 줄마다 Bean Validation으로 검증하고, 작성자(로그인 ID)/카테고리(이름)는 메모리 맵으로 ID 변환
+ *   (카테고리는 시작 시 전체 로딩, 작성자는 청크마다 처음 보는 이름만 IN 조회)
+ * - chunkSize개씩 별도 트랜잭션으로 저장하며, Snowflake ID라 hibernate.jdbc.batch_size 단위로 INSERT가 묶임
+ * - 파생 데이터(검색 색인, 순위, 캐시)는 청크마다 PostsImportedEvent 하나로 갱신 (행 단위 이벤트 없음)
+ * - 실패한 줄은 건너뛰고 줄 번호와 사유를 maxErrors개까지 결과에 담음, 진행 상황은 청크마다 로그로 남김
+ */
+@Slf4j
+@Component
+public class PostImporter {
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonFactory jsonFactory;
+    private final TransactionTemplate chunkTransaction;
+
+    @Value("${kraft.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${kraft.import.max-errors:1000}")
+    private int maxErrors;
+
+    public PostImporter(UserRepository userRepository,
+                        CategoryRepository categoryRepository,
+                        EntityManager entityManager,
+                        Validator validator,
+                        ApplicationEventPublisher eventPublisher,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.jsonFactory = objectMapper.getFactory();
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * NDJSON 스트림 가져오기 (빈 줄은 무시)
+     * @param body 요청 본문 (UTF-8)
+     * @return 처리 결과
+     */
+    public PostImportResponseDto importPosts(InputStream body) throws IOException {
+        Map<String, Long> categoryIds = categoryRepository.findAll().stream()
+                .collect(Collectors.toMap(Category::getName, Category::getId));
+        Map<String, Long> authorIds = new HashMap<>();
+        Set<String> unknownAuthors = new HashSet<>();
+        Progress progress = new Progress(maxErrors);
+
+        List<ParsedLine> chunk = new ArrayList<>(chunkSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                progress.processed++;
+                try {
+                    chunk.add(new ParsedLine(lineNumber, validate(parse(line))));
+                } catch (IllegalArgumentException e) {
+                    progress.fail(lineNumber, e.getMessage());
+                } catch (JsonProcessingException e) {
+                    progress.fail(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+                }
+
+                if (chunk.size() == chunkSize) {
+                    saveChunk(chunk, categoryIds, authorIds, unknownAuthors, progress);
+                    chunk.clear();
+                }
+            }
+        }
+        saveChunk(chunk, categoryIds, authorIds, unknownAuthors, progress);
+
+        log.info("게시글 가져오기 완료: processed={}, imported={}, failed={}",
+                progress.processed, progress.imported, progress.failed);
+        return progress.toResponse();
+    }
+
+    private void saveChunk(List<ParsedLine> chunk,
+                           Map<String, Long> categoryIds,
+                           Map<String, Long> authorIds,
+                           Set<String> unknownAuthors,
+                           Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        resolveAuthors(chunk, authorIds, unknownAuthors);
+
+        List<ResolvedLine> resolved = new ArrayList<>(chunk.size());
+        for (ParsedLine parsed : chunk) {
+            PostImportRecord record = parsed.record();
+            Long authorId = authorIds.get(record.author());
+            Long categoryId = record.category() == null ? null : categoryIds.get(record.category());
+
+            if (authorId == null) {
+                progress.fail(parsed.lineNumber(), "존재하지 않는 작성자입니다: " + record.author());
+            } else if (record.category() != null && categoryId == null) {
+                progress.fail(parsed.lineNumber(), "존재하지 않는 카테고리입니다: " + record.category());
+            } else {
+                resolved.add(new ResolvedLine(parsed.lineNumber(), record, authorId, categoryId));
+            }
+        }
+        if (resolved.isEmpty()) {
+            return;
+        }
+
+        try {
+            chunkTransaction.executeWithoutResult(status -> insert(resolved));
+            progress.imported += resolved.size();
+        } catch (DataAccessException | PersistenceException e) {
+            // 청크 전체가 롤백되므로 청크의 모든 줄을 실패로 기록
+            log.warn("게시글 가져오기 청크 저장 실패: lines={}~{}",
+                    resolved.get(0).lineNumber(), resolved.get(resolved.size() - 1).lineNumber(), e);
+            resolved.forEach(line -> progress.fail(line.lineNumber(), "저장 실패: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+        }
+
+        log.info("게시글 가져오기 진행: processed={}, imported={}, failed={}",
+                progress.processed, progress.imported, progress.failed);
+    }
+
+    /**
+     * 청크 저장 후 청크 전체를 이벤트 하나로 발행 (커밋 이후 리스너가 청크마다 한 번만 실행됨)
+     */
+    private void insert(List<ResolvedLine> lines) {
+        List<Long> postIds = new ArrayList<>(lines.size());
+        Map<Long, Long> categoryCounts = new HashMap<>();
+        for (ResolvedLine line : lines) {
+            Post post = Post.builder()
+                    .title(line.record().title())
+                    .content(line.record().content())
+                    .author(entityManager.getReference(User.class, line.authorId()))
+                    .category(line.categoryId() == null ? null : entityManager.getReference(Category.class, line.categoryId()))
+                    .build();
+            entityManager.persist(post);
+            postIds.add(post.getId());
+            if (line.categoryId() != null) {
+                categoryCounts.merge(line.categoryId(), 1L, Long::sum);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        eventPublisher.publishEvent(new PostsImportedEvent(postIds, categoryCounts));
+    }
+
+    /**
+     * 청크에서 처음 보는 작성자 이름만 한 번에 조회해 맵에 추가
+     */
+    private void resolveAuthors(List<ParsedLine> chunk, Map<String, Long> authorIds, Set<String> unknownAuthors) {
+        Set<String> names = chunk.stream()
+                .map(line -> line.record().author())
+                .filter(name -> !authorIds.containsKey(name) && !unknownAuthors.contains(name))
+                .collect(Collectors.toSet());
+        if (names.isEmpty()) {
+            return;
+        }
+
+        for (UserIdentity user : userRepository.findIdentitiesByNameIn(names)) {
+            authorIds.put(user.name(), user.id());
+            names.remove(user.name());
+        }
+        unknownAuthors.addAll(names);
+    }
+
+    /**
+     * 한 줄(JSON 객체 하나)을 스트리밍 파서로 해석 (알 수 없는 필드는 무시)
+     */
+    private PostImportRecord parse(String line) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("JSON 객체가 아닙니다");
+            }
+
+            String title = null;
+            String content = null;
+            String author = null;
+            String category = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "title" -> title = textValue(parser, field);
+                    case "content" -> content = textValue(parser, field);
+                    case "author" -> author = textValue(parser, field);
+                    case "category" -> category = textValue(parser, field);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (parser.nextToken() != null) {
+                throw new IllegalArgumentException("한 줄에는 JSON 객체 하나만 올 수 있습니다");
+            }
+            return new PostImportRecord(title, content, author, category);
+        }
+    }
+
+    private String textValue(JsonParser parser, String field) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> parser.getText();
+            default -> throw new IllegalArgumentException(field + " 값은 문자열이어야 합니다");
+        };
+    }
+
+    private PostImportRecord validate(PostImportRecord record) {
+        Set<ConstraintViolation<PostImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return record;
+    }
+
+    private record ParsedLine(long lineNumber, PostImportRecord record) {
+    }
+
+    private record ResolvedLine(long lineNumber, PostImportRecord record, Long authorId, Long categoryId) {
+    }
+
+    /**
+     * 진행 상황 집계 (오류는 maxErrors개까지만 보관)
+     */
+    private static final class Progress {
+
+        private final int maxErrors;
+        private final List<PostImportResponseDto.LineError> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        private Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long lineNumber, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new PostImportResponseDto.LineError(lineNumber, message));
+            }
+        }
+
+        private PostImportResponseDto toResponse() {
+            return new PostImportResponseDto(processed, imported, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
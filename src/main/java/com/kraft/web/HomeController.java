@@ -3,22 +3,35 @@ package com.kraft.web;
 import com.kraft.config.auth.LoginUser;
 import com.kraft.config.auth.dto.SessionUser;
 import com.kraft.service.PostService;
+import com.kraft.web.dto.common.CursorResponse;
 import com.kraft.web.dto.post.PostResponseDto;
+import com.kraft.web.dto.post.PostsListResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @RequiredArgsConstructor
 @Controller
 public class HomeController {
 
+    private static final int HOME_PAGE_SIZE = 20;
+
     private final PostService postsService;
 
+    /**
+     * 홈 화면 (최신 게시글 HOME_PAGE_SIZE개씩)
+     * 첫 페이지는 캐시에서 읽고, "더 보기"는 커서(?after=)로 다음 페이지를 렌더링
+     */
     @GetMapping("/")
-    public String index(Model model, @LoginUser SessionUser user) {
-        model.addAttribute("posts", postsService.findAllDesc());
+    public String index(Model model, @LoginUser SessionUser user, @RequestParam(required = false) String after) {
+        CursorResponse<PostsListResponseDto> page = postsService.findLatest(after, HOME_PAGE_SIZE);
+        model.addAttribute("posts", page.content());
+        if (page.hasNext()) {
+            model.addAttribute("nextCursor", page.nextCursor());
+        }
         if (user != null) {
             model.addAttribute("userName", user.name());
         }
@@ -0,0 +1,95 @@
+package com.kraft.web.api;
+
+import com.kraft.service.cache.HotPostTracker;
+import com.kraft.service.transfer.ExportFormat;
+import com.kraft.service.transfer.PostExporter;
+import com.kraft.service.transfer.PostImporter;
+import com.kraft.web.dto.post.HotPostsResponseDto;
+import com.kraft.web.dto.post.PostImportResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 관리자 API 컨트롤러 (데이터 가져오기/내보내기, 운영 현황)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@PreAuthorize("hasRole('ADMIN')")
+@RequestMapping("/api/v1/admin")
+public class AdminApiController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final PostImporter postImporter;
+    private final PostExporter postExporter;
+    private final HotPostTracker hotPostTracker;
+
+    /**
+     * 게시글 대량 가져오기 (한 줄에 게시글 하나인 NDJSON, 본문을 스트리밍으로 처리)
+     * POST /api/v1/admin/posts/import
+     */
+    @PostMapping(value = "/posts/import", consumes = {NDJSON, MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<PostImportResponseDto> importPosts(InputStream body) throws IOException {
+        PostImportResponseDto result = postImporter.importPosts(body);
+        log.info("게시글 가져오기 API 호출: imported={}, failed={}", result.imported(), result.failed());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 게시글 전체 내보내기 (작성자명, 카테고리명 포함)
+     * GET /api/v1/admin/export/posts?format=ndjson|csv
+     */
+    @GetMapping("/export/posts")
+    public ResponseEntity<StreamingResponseBody> exportPosts(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return streaming("posts", exportFormat, out -> postExporter.exportPosts(exportFormat, out));
+    }
+
+    /**
+     * 댓글 전체 내보내기 (작성자명 포함)
+     * GET /api/v1/admin/export/comments?format=ndjson|csv
+     */
+    @GetMapping("/export/comments")
+    public ResponseEntity<StreamingResponseBody> exportComments(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return streaming("comments", exportFormat, out -> postExporter.exportComments(exportFormat, out));
+    }
+
+    /**
+     * 자주 요청된 게시글 (이 노드의 마지막 집계 구간 기준, 캐시 미리 채우기/고정 대상 확인용)
+     * GET /api/v1/admin/hot-posts
+     */
+    @GetMapping("/hot-posts")
+    public ResponseEntity<HotPostsResponseDto> getHotPosts() {
+        return ResponseEntity.ok(hotPostTracker.snapshot());
+    }
+
+    /**
+     * 응답 본문을 요청 스레드 밖에서 행 단위로 써 내려가는 첨부 파일 응답
+     */
+    private ResponseEntity<StreamingResponseBody> streaming(String name, ExportFormat format, StreamingResponseBody body) {
+        log.info("내보내기 API 호출: target={}, format={}", name, format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -5,7 +5,10 @@ import com.kraft.service.PostService;
 import com.kraft.web.dto.category.CategoryResponseDto;
 import com.kraft.web.dto.category.CategorySaveRequestDto;
 import com.kraft.web.dto.category.CategoryUpdateRequestDto;
+import com.kraft.web.dto.common.CursorResponse;
+import com.kraft.web.dto.common.IdResponse;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.SliceResponse;
 import com.kraft.web.dto.post.PostsListResponseDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -55,10 +58,10 @@ public class CategoryApiController {
      */
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
-    public ResponseEntity<Long> createCategory(@RequestBody @Valid CategorySaveRequestDto requestDto) {
+    public ResponseEntity<IdResponse> createCategory(@RequestBody @Valid CategorySaveRequestDto requestDto) {
         Long categoryId = categoryService.save(requestDto);
         log.info("카테고리 생성 API 호출: categoryId={}, name={}", categoryId, requestDto.getName());
-        return ResponseEntity.status(HttpStatus.CREATED).body(categoryId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(IdResponse.of(categoryId));
     }
 
     /**
@@ -67,13 +70,13 @@ public class CategoryApiController {
      */
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}")
-    public ResponseEntity<Long> updateCategory(
+    public ResponseEntity<IdResponse> updateCategory(
             @PathVariable Long id,
             @RequestBody @Valid CategoryUpdateRequestDto requestDto
     ) {
         Long updatedId = categoryService.update(id, requestDto);
         log.info("카테고리 수정 API 호출: categoryId={}", updatedId);
-        return ResponseEntity.ok(updatedId);
+        return ResponseEntity.ok(IdResponse.of(updatedId));
     }
 
     /**
@@ -102,5 +105,32 @@ public class CategoryApiController {
         log.info("카테고리별 게시글 조회 API 호출: categoryId={}, results={}", id, response.totalElements());
         return ResponseEntity.ok(response);
     }
-}
 
+    /**
+     * 특정 카테고리의 게시글 목록 조회 (전체 개수 없음)
+     * GET /api/v1/categories/{id}/posts?page=0&size=10&includeTotal=false
+     */
+    @GetMapping(value = "/{id}/posts", params = "includeTotal=false")
+    public ResponseEntity<SliceResponse<PostsListResponseDto>> getPostsByCategorySlice(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        SliceResponse<PostsListResponseDto> response = postService.findByCategoryIdSlice(id, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 특정 카테고리의 게시글 커서 조회 (무한 스크롤용)
+     * GET /api/v1/categories/{id}/posts/cursor?after={nextCursor}&size=10
+     */
+    @GetMapping("/{id}/posts/cursor")
+    public ResponseEntity<CursorResponse<PostsListResponseDto>> getPostsByCategoryCursor(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorResponse<PostsListResponseDto> response = postService.findByCategoryIdByCursor(id, after, size);
+        return ResponseEntity.ok(response);
+    }
+}
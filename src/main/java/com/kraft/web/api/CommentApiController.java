@@ -6,7 +6,10 @@ import com.kraft.service.CommentService;
 import com.kraft.web.dto.comment.CommentResponseDto;
 import com.kraft.web.dto.comment.CommentSaveRequestDto;
 import com.kraft.web.dto.comment.CommentUpdateRequestDto;
+import com.kraft.web.dto.common.CursorResponse;
+import com.kraft.web.dto.common.IdResponse;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.SliceResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,7 +36,7 @@ public class CommentApiController {
      * POST /api/v1/posts/{postId}/comments
      */
     @PostMapping
-    public ResponseEntity<Long> createComment(
+    public ResponseEntity<IdResponse> createComment(
             @PathVariable Long postId,
             @RequestBody @Valid CommentSaveRequestDto requestDto,
             @LoginUser SessionUser sessionUser
@@ -41,7 +44,7 @@ public class CommentApiController {
         Long commentId = commentService.save(postId, requestDto, sessionUser);
         log.info("댓글 작성 API 호출: postId={}, commentId={}, authorId={}",
                 postId, commentId, sessionUser.id());
-        return ResponseEntity.status(HttpStatus.CREATED).body(commentId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(IdResponse.of(commentId));
     }
 
     /**
@@ -49,7 +52,7 @@ public class CommentApiController {
      * POST /api/v1/posts/{postId}/comments/{parentId}/replies
      */
     @PostMapping("/{parentId}/replies")
-    public ResponseEntity<Long> createReply(
+    public ResponseEntity<IdResponse> createReply(
             @PathVariable Long postId,
             @PathVariable Long parentId,
             @RequestBody @Valid CommentSaveRequestDto requestDto,
@@ -58,7 +61,7 @@ public class CommentApiController {
         Long replyId = commentService.saveReply(postId, parentId, requestDto, sessionUser);
         log.info("답글 작성 API 호출: postId={}, parentId={}, replyId={}",
                 postId, parentId, replyId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(replyId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(IdResponse.of(replyId));
     }
 
     /**
@@ -66,7 +69,7 @@ public class CommentApiController {
      * PUT /api/v1/posts/{postId}/comments/{commentId}
      */
     @PutMapping("/{commentId}")
-    public ResponseEntity<Long> updateComment(
+    public ResponseEntity<IdResponse> updateComment(
             @PathVariable Long postId,
             @PathVariable Long commentId,
             @RequestBody @Valid CommentUpdateRequestDto requestDto,
@@ -74,7 +77,7 @@ public class CommentApiController {
     ) {
         Long updatedId = commentService.update(commentId, requestDto, sessionUser);
         log.info("댓글 수정 API 호출: commentId={}", updatedId);
-        return ResponseEntity.ok(updatedId);
+        return ResponseEntity.ok(IdResponse.of(updatedId));
     }
 
     /**
@@ -102,6 +105,22 @@ public class CommentApiController {
         return ResponseEntity.ok(comments);
     }
 
+    /**
+     * 특정 게시글의 댓글 트리 커서 페이지네이션 조회 (최상위 댓글 기준, 답글 포함)
+     * GET /api/v1/posts/{postId}/comments/thread?depth=3&replies=5&after={nextCursor}&size=20
+     */
+    @GetMapping("/thread")
+    public ResponseEntity<CursorResponse<CommentResponseDto>> getCommentThread(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Integer depth,
+            @RequestParam(required = false) Integer replies,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<CommentResponseDto> thread = commentService.findThreadByPostId(postId, depth, replies, after, size);
+        return ResponseEntity.ok(thread);
+    }
+
     /**
      * 특정 게시글의 부모 댓글만 조회 (대댓글 제외)
      * GET /api/v1/posts/{postId}/comments/parents
@@ -129,6 +148,20 @@ public class CommentApiController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 특정 게시글의 부모 댓글 페이징 조회 (전체 개수 없음)
+     * GET /api/v1/posts/{postId}/comments/page?page=0&size=10&includeTotal=false
+     */
+    @GetMapping(value = "/page", params = "includeTotal=false")
+    public ResponseEntity<SliceResponse<CommentResponseDto>> getParentCommentsSlice(
+            @PathVariable Long postId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        SliceResponse<CommentResponseDto> response = commentService.findParentCommentsSlice(postId, page, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 특정 댓글의 답글 목록 조회
      * GET /api/v1/posts/{postId}/comments/{parentId}/replies
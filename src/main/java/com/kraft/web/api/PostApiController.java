@@ -3,11 +3,16 @@ package com.kraft.web.api;
 import com.kraft.config.auth.LoginUser;
 import com.kraft.config.auth.dto.SessionUser;
 import com.kraft.service.PostService;
+import com.kraft.web.dto.common.CursorResponse;
+import com.kraft.web.dto.common.IdResponse;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.SliceResponse;
 import com.kraft.web.dto.post.PostResponseDto;
 import com.kraft.web.dto.post.PostSaveRequestDto;
 import com.kraft.web.dto.post.PostUpdateRequestDto;
 import com.kraft.web.dto.post.PostsListResponseDto;
+import com.kraft.web.dto.post.TrendingPostResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,23 +31,23 @@ public class PostApiController {
     private final PostService postService;
 
     @PostMapping
-    public ResponseEntity<Long> createPost(
+    public ResponseEntity<IdResponse> createPost(
             @RequestBody @Valid PostSaveRequestDto requestDto,
             @LoginUser SessionUser sessionUser
     ) {
         Long postId = postService.save(requestDto, sessionUser);
         log.info("게시글 작성 API 호출 성공: postId={}, authorId={}", postId, sessionUser.id());
-        return ResponseEntity.status(HttpStatus.CREATED).body(postId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(IdResponse.of(postId));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Long> updatePost(
+    public ResponseEntity<IdResponse> updatePost(
             @PathVariable Long id,
             @RequestBody @Valid PostUpdateRequestDto requestDto
     ) {
         Long updatedId = postService.update(id, requestDto);
         log.info("게시글 수정 API 호출 성공: postId={}", updatedId);
-        return ResponseEntity.ok(updatedId);
+        return ResponseEntity.ok(IdResponse.of(updatedId));
     }
 
     @DeleteMapping("/{id}")
@@ -52,16 +57,31 @@ public class PostApiController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 게시글 단건 조회 (같은 방문자의 하루 중 재조회는 조회수를 올리지 않음)
+     * 방문자는 로그인 사용자 ID → 요청에 실린 기존 세션 ID → 클라이언트 IP 순으로 구분
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponseDto> getPost(@PathVariable Long id) {
-        PostResponseDto post = postService.findByIdAndIncrementView(id);
+    public ResponseEntity<PostResponseDto> getPost(
+            @PathVariable Long id,
+            @LoginUser SessionUser sessionUser,
+            HttpServletRequest request
+    ) {
+        PostResponseDto post = postService.findByIdAndIncrementView(id, viewerKey(sessionUser, request));
         return ResponseEntity.ok(post);
     }
 
+    /**
+     * 최신 게시글 목록 (첫 페이지는 캐시, 다음 페이지는 커서 조회)
+     * GET /api/v1/posts/list?after={nextCursor}&size=20
+     */
     @GetMapping("/list")
-    public ResponseEntity<List<PostsListResponseDto>> getPostList() {
-        List<PostsListResponseDto> posts = postService.findAllDesc();
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<CursorResponse<PostsListResponseDto>> getPostList(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<PostsListResponseDto> response = postService.findLatest(after, size);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -80,6 +100,34 @@ public class PostApiController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 페이지네이션 게시글 목록 조회 (전체 개수 없음, 무한 스크롤용)
+     * GET /api/v1/posts?page=0&size=10&sort=id&direction=DESC&includeTotal=false
+     */
+    @GetMapping(params = "includeTotal=false")
+    public ResponseEntity<SliceResponse<PostsListResponseDto>> getPostsSlice(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "DESC") String direction
+    ) {
+        SliceResponse<PostsListResponseDto> response = postService.findAllSlice(page, size, sort, direction);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 커서 기반 게시글 목록 조회 (무한 스크롤용)
+     * GET /api/v1/posts/cursor?after={nextCursor}&size=10
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<PostsListResponseDto>> getPostsByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorResponse<PostsListResponseDto> response = postService.findAllByCursor(after, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 특정 사용자의 게시글 목록 조회
      * GET /api/v1/posts/author/{authorId}
@@ -108,6 +156,22 @@ public class PostApiController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 게시글 검색 (전체 개수 없음)
+     * GET /api/v1/posts/search?keyword=검색어&page=0&size=10&includeTotal=false
+     */
+    @GetMapping(value = "/search", params = "includeTotal=false")
+    public ResponseEntity<SliceResponse<PostsListResponseDto>> searchPostsSlice(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        SliceResponse<PostsListResponseDto> response = postService.searchPostsSlice(keyword, page, size);
+        log.info("게시글 검색 API 호출: keyword={}, results={}, hasNext={}",
+                keyword, response.content().size(), response.hasNext());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 인기 게시글 조회 (조회수 기준)
      * GET /api/v1/posts/popular?page=0&size=10
@@ -121,4 +185,55 @@ public class PostApiController {
         log.info("인기 게시글 API 호출: page={}, results={}", page, response.totalElements());
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 인기 게시글 조회 (조회수 기준, 전체 개수 없음)
+     * GET /api/v1/posts/popular?page=0&size=10&includeTotal=false
+     */
+    @GetMapping(value = "/popular", params = "includeTotal=false")
+    public ResponseEntity<SliceResponse<PostsListResponseDto>> getPopularPostsSlice(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        SliceResponse<PostsListResponseDto> response = postService.findPopularSlice(page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 트렌딩 게시글 조회 (최근 구간 조회수, 시간 감쇠 점수순)
+     * GET /api/v1/posts/trending?window=day&size=10 (window: hour, day, week)
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingPostResponseDto>> getTrendingPosts(
+            @RequestParam(defaultValue = "day") String window,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<TrendingPostResponseDto> response = postService.findTrending(window, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 커서 기반 인기 게시글 조회 (조회수 기준)
+     * GET /api/v1/posts/popular/cursor?after={nextCursor}&size=10
+     */
+    @GetMapping("/popular/cursor")
+    public ResponseEntity<CursorResponse<PostsListResponseDto>> getPopularPostsByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorResponse<PostsListResponseDto> response = postService.findPopularByCursor(after, size);
+        return ResponseEntity.ok(response);
+    }
+
+    private static String viewerKey(SessionUser sessionUser, HttpServletRequest request) {
+        if (sessionUser != null) {
+            return "user:" + sessionUser.id();
+        }
+        // 쿠키로 기존 세션을 보낸 경우만 세션으로 구분 (이번 요청에서 새로 만든 세션은 매번 달라짐)
+        if (request.isRequestedSessionIdValid()) {
+            return "session:" + request.getRequestedSessionId();
+        }
+        // 프록시 뒤에서는 X-Forwarded-For로 복원한 클라이언트 IP (server.forward-headers-strategy)
+        return "ip:" + request.getRemoteAddr();
+    }
 }
@@ -1,12 +1,14 @@
 package com.kraft.web.dto.category;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.kraft.domain.category.Category;
 
 /**
  * 카테고리 응답 DTO
  */
 public record CategoryResponseDto(
-        Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
         String name,
         String description,
         int displayOrder
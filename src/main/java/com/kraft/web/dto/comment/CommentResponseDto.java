@@ -1,5 +1,7 @@
 package com.kraft.web.dto.comment;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.kraft.domain.comment.Comment;
 
 import java.time.LocalDateTime;
@@ -11,11 +13,11 @@ import java.util.stream.Collectors;
  * Record 클래스로 불변성과 간결성 보장
  */
 public record CommentResponseDto(
-        Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
         String content,
         String authorName,
-        Long authorId,
-        Long parentId,
+        @JsonSerialize(using = ToStringSerializer.class) Long authorId,
+        @JsonSerialize(using = ToStringSerializer.class) Long parentId,
         int replyCount,
         List<CommentResponseDto> replies,
         LocalDateTime createdAt,
@@ -23,6 +25,7 @@ public record CommentResponseDto(
 ) {
     /**
      * 정적 팩토리 메서드 - Comment 엔티티에서 생성 (답글 제외)
+     * 답글 수는 비정규화 컬럼(reply_count)을 사용하므로 답글 컬렉션을 로딩하지 않음
      */
     public static CommentResponseDto from(Comment comment) {
         return new CommentResponseDto(
@@ -31,7 +34,7 @@ public record CommentResponseDto(
                 comment.getAuthor().getName(),
                 comment.getAuthor().getId(),
                 comment.getParent() != null ? comment.getParent().getId() : null,
-                comment.getReplies().size(),
+                comment.getReplyCount(),
                 null, // 답글은 별도 조회
                 comment.getCreateAt(),
                 comment.getUpdateAt()
@@ -58,5 +61,13 @@ public record CommentResponseDto(
                 comment.getUpdateAt()
         );
     }
-}
 
+    /**
+     * 답글 목록만 바꾼 복사본 (댓글 트리 조립용)
+     */
+    public CommentResponseDto withReplies(List<CommentResponseDto> replies) {
+        return new CommentResponseDto(
+                id, content, authorName, authorId, parentId, replyCount, replies, createdAt, updatedAt
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.kraft.web.dto.common;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지네이션 응답 DTO
+ * 전체 개수를 세지 않으므로 얼마나 깊이 스크롤하든 조회 비용이 일정함
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorResponse<>(
+                content,
+                size,
+                nextCursor,
+                nextCursor != null
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.kraft.web.dto.common;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * 생성/수정한 리소스의 ID 응답 DTO
+ * Snowflake ID는 2^53을 넘어 JavaScript 숫자로 읽으면 값이 바뀌므로 다른 응답의 ID처럼 문자열로 직렬화
+ */
+public record IdResponse(
+        @JsonSerialize(using = ToStringSerializer.class) Long id
+) {
+    public static IdResponse of(Long id) {
+        return new IdResponse(id);
+    }
+}
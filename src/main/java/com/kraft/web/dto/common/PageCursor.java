@@ -0,0 +1,59 @@
+package com.kraft.web.dto.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션 위치 정보 (정렬 키, ID)
+ * 클라이언트에는 Base64(URL-safe) 문자열로 인코딩된 불투명 토큰으로 전달
+ */
+public record PageCursor(
+        long sortKey,
+        long id
+) {
+    private static final String SEPARATOR = ":";
+
+    /**
+     * 첫 페이지를 의미하는 커서 (내림차순 정렬 기준)
+     */
+    public static PageCursor first() {
+        return new PageCursor(Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public static PageCursor of(long sortKey, long id) {
+        return new PageCursor(sortKey, id);
+    }
+
+    /**
+     * 커서 토큰 디코딩
+     * @param token 커서 토큰 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 커서
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return first();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+            }
+            return new PageCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+        }
+    }
+
+    /**
+     * 커서 토큰 인코딩
+     * @return 커서 토큰
+     */
+    public String encode() {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 /**
  * 페이지네이션 응답 DTO
  * Record 클래스로 불변성과 간결성 보장
+ * totalExact가 false면 totalElements/totalPages는 캐시된 개수로 계산한 추정값
  */
 public record PageResponse<T>(
         List<T> content,
@@ -15,7 +16,8 @@ public record PageResponse<T>(
         boolean first,
         boolean last,
         boolean hasNext,
-        boolean hasPrevious
+        boolean hasPrevious,
+        boolean totalExact
 ) {
     public static <T> PageResponse<T> of(
             List<T> content,
@@ -23,6 +25,17 @@ public record PageResponse<T>(
             int pageSize,
             long totalElements,
             int totalPages
+    ) {
+        return of(content, pageNumber, pageSize, totalElements, totalPages, true);
+    }
+
+    public static <T> PageResponse<T> of(
+            List<T> content,
+            int pageNumber,
+            int pageSize,
+            long totalElements,
+            int totalPages,
+            boolean totalExact
     ) {
         return new PageResponse<>(
                 content,
@@ -33,8 +46,8 @@ public record PageResponse<T>(
                 pageNumber == 0,
                 pageNumber == totalPages - 1,
                 pageNumber < totalPages - 1,
-                pageNumber > 0
+                pageNumber > 0,
+                totalExact
         );
     }
 }
-
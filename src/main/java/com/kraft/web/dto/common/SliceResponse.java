@@ -0,0 +1,39 @@
+package com.kraft.web.dto.common;
+
+import java.util.List;
+
+/**
+ * 전체 개수 없는 페이지 응답 DTO (includeTotal=false)
+ * size + 1개를 조회해 다음 페이지 여부만 판단하므로 COUNT 쿼리를 실행하지 않음
+ */
+public record SliceResponse<T>(
+        List<T> content,
+        int pageNumber,
+        int pageSize,
+        boolean first,
+        boolean hasNext,
+        boolean hasPrevious
+) {
+    public static <T> SliceResponse<T> of(
+            List<T> content,
+            int pageNumber,
+            int pageSize,
+            boolean hasNext
+    ) {
+        return new SliceResponse<>(
+                content,
+                pageNumber,
+                pageSize,
+                pageNumber == 0,
+                hasNext,
+                pageNumber > 0
+        );
+    }
+
+    /**
+     * 전체 개수를 이미 알고 있는 페이지 응답을 변환 (개수 정보는 버림)
+     */
+    public static <T> SliceResponse<T> from(PageResponse<T> page) {
+        return of(page.content(), page.pageNumber(), page.pageSize(), page.hasNext());
+    }
+}
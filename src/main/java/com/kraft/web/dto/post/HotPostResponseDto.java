@@ -0,0 +1,18 @@
+package com.kraft.web.dto.post;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * 자주 요청된 게시글 응답 DTO (관리자용)
+ * @param count 집계 구간 안의 추정 요청 수 (실제 이상)
+ * @param error 최대 과대 추정치 (실제 요청 수 >= count - error)
+ * @param ratePerSecond 초당 추정 요청 수
+ */
+public record HotPostResponseDto(
+        @JsonSerialize(using = ToStringSerializer.class) Long postId,
+        long count,
+        long error,
+        double ratePerSecond
+) {
+}
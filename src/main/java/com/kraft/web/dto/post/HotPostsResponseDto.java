@@ -0,0 +1,23 @@
+package com.kraft.web.dto.post;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 자주 요청된 게시글 현황 응답 DTO (관리자용, 마지막으로 끝난 집계 구간 기준)
+ * @param windowEnd 집계 구간 종료 시각
+ * @param windowSeconds 집계 구간 길이 (초)
+ * @param reads 게시글 상세 조회 상위 목록
+ * @param totalReads 구간 전체 상세 조회 수
+ * @param cacheMisses L1 캐시 미스(L2/DB 조회) 상위 목록
+ * @param totalCacheMisses 구간 전체 L1 캐시 미스 수
+ */
+public record HotPostsResponseDto(
+        LocalDateTime windowEnd,
+        double windowSeconds,
+        List<HotPostResponseDto> reads,
+        long totalReads,
+        List<HotPostResponseDto> cacheMisses,
+        long totalCacheMisses
+) {
+}
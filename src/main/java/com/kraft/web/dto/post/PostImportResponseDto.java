@@ -0,0 +1,24 @@
+package com.kraft.web.dto.post;
+
+import java.util.List;
+
+/**
+ * 게시글 대량 가져오기 결과 DTO
+ * errors는 최대 개수까지만 담고, 넘치면 errorsTruncated = true (failed에는 모두 집계)
+ */
+public record PostImportResponseDto(
+        long processed,
+        long imported,
+        long failed,
+        List<LineError> errors,
+        boolean errorsTruncated
+) {
+    /**
+     * 실패한 줄 (1부터 시작하는 줄 번호)
+     */
+    public record LineError(
+            long line,
+            String message
+    ) {
+    }
+}
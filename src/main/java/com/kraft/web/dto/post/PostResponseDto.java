@@ -1,18 +1,26 @@
 package com.kraft.web.dto.post;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.kraft.domain.post.Post;
 
 /**
  * 게시글 응답 DTO
  * Record 클래스로 불변성과 간결성 보장
+ * uniqueViewers는 조회 시점의 오늘 순 방문자 추정치 (캐시에는 null로 저장되고, 알 수 없으면 null)
  */
 public record PostResponseDto(
-        Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
         String title,
         String content,
         String author,
-        Long viewCount
+        Long viewCount,
+        Long uniqueViewers
 ) {
+    public PostResponseDto(Long id, String title, String content, String author, Long viewCount) {
+        this(id, title, content, author, viewCount, null);
+    }
+
     /**
      * 정적 팩토리 메서드 - Post 엔티티에서 생성
      */
@@ -25,4 +33,31 @@ public record PostResponseDto(
                 post.getViewCount()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 정적 팩토리 메서드 - 조회수를 별도로 지정 (미반영 조회수 합산용)
+     */
+    public static PostResponseDto from(Post post, long viewCount) {
+        return new PostResponseDto(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getAuthor().getName(),
+                viewCount
+        );
+    }
+
+    /**
+     * 조회수만 바꾼 복사본
+     */
+    public PostResponseDto withViewCount(long viewCount) {
+        return new PostResponseDto(id, title, content, author, viewCount, uniqueViewers);
+    }
+
+    /**
+     * 조회수와 순 방문자 추정치를 바꾼 복사본
+     */
+    public PostResponseDto withViews(long viewCount, Long uniqueViewers) {
+        return new PostResponseDto(id, title, content, author, viewCount, uniqueViewers);
+    }
+}
@@ -1,6 +1,9 @@
 package com.kraft.web.dto.post;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostSummary;
 
 import java.time.LocalDateTime;
 
@@ -9,7 +12,7 @@ import java.time.LocalDateTime;
  * Record 클래스로 불변성과 간결성 보장
  */
 public record PostsListResponseDto(
-        Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
         String title,
         String author,
         Long viewCount,
@@ -27,4 +30,17 @@ public record PostsListResponseDto(
                 post.getUpdateAt()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 정적 팩토리 메서드 - 목록 프로젝션에서 생성
+     */
+    public static PostsListResponseDto from(PostSummary summary) {
+        return new PostsListResponseDto(
+                summary.id(),
+                summary.title(),
+                summary.authorName(),
+                summary.viewCount(),
+                summary.updateAt()
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.kraft.web.dto.post;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.kraft.domain.post.PostSummary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트렌딩 게시글 응답 DTO
+ * @param windowViews 집계 구간 안의 조회수
+ * @param hotScore 시간 감쇠를 적용한 점수 (정렬 기준)
+ */
+public record TrendingPostResponseDto(
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
+        String title,
+        String author,
+        Long viewCount,
+        LocalDateTime updateAt,
+        long windowViews,
+        double hotScore
+) {
+    public static TrendingPostResponseDto of(PostSummary summary, long windowViews, double hotScore) {
+        return new TrendingPostResponseDto(
+                summary.id(),
+                summary.title(),
+                summary.authorName(),
+                summary.viewCount(),
+                summary.updateAt(),
+                windowViews,
+                hotScore
+        );
+    }
+}
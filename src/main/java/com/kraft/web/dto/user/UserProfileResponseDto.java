@@ -1,5 +1,7 @@
 package com.kraft.web.dto.user;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.kraft.domain.user.User;
 
 /**
@@ -7,7 +9,7 @@ import com.kraft.domain.user.User;
  * Record 클래스로 불변성과 간결성 보장
  */
 public record UserProfileResponseDto(
-        Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
         String name,
         String email
 ) {
@@ -0,0 +1,109 @@
+package db.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * V11: 기존 댓글의 경로(comments.path) 채우기
+ * - 댓글 ID 범위를 CHUNK_SIZE씩 나눠 청크마다 커밋 (큰 테이블에서도 긴 트랜잭션/잠금 없이 진행)
+ * - 청크 안에서는 최상위 댓글 → 한 단계 아래 답글 순으로 더 이상 갱신할 행이 없을 때까지 반복
+ * - 답글은 부모보다 ID가 크므로 한 번의 순회로 대부분 채워지고,
+ *   예외적으로 남은 행이 있으면 진척이 없을 때까지 다시 순회
+ * - 이미 경로가 있는 행은 건너뛰므로 중단 후 재실행해도 안전
+ */
+@Slf4j
+public class V11__Backfill_comment_path extends BaseJavaMigration {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String FILL_ROOTS =
+            "UPDATE comments SET path = LPAD(id, 19, '0') " +
+            "WHERE parent_id IS NULL AND path IS NULL AND id BETWEEN ? AND ?";
+
+    private static final String FILL_REPLIES =
+            "UPDATE comments c JOIN comments p ON p.id = c.parent_id " +
+            "SET c.path = CONCAT(p.path, LPAD(c.id, 19, '0')) " +
+            "WHERE c.path IS NULL AND p.path IS NOT NULL AND c.id BETWEEN ? AND ?";
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+        try {
+            long[] range = idRange(connection);
+            if (range == null) {
+                return;
+            }
+
+            long filled = 0;
+            long remaining;
+            long passFilled;
+            do {
+                passFilled = fillPass(connection, range[0], range[1]);
+                filled += passFilled;
+                remaining = countMissing(connection);
+            } while (remaining > 0 && passFilled > 0);
+
+            log.info("댓글 경로 채우기 완료: filled={}, remaining={}", filled, remaining);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private long fillPass(Connection connection, long minId, long maxId) throws SQLException {
+        long filled = 0;
+        try (PreparedStatement roots = connection.prepareStatement(FILL_ROOTS);
+             PreparedStatement replies = connection.prepareStatement(FILL_REPLIES)) {
+            for (long from = minId; from <= maxId; from += CHUNK_SIZE) {
+                long to = Math.min(from + CHUNK_SIZE - 1, maxId);
+                filled += update(roots, from, to);
+
+                int updated;
+                do {
+                    updated = update(replies, from, to);
+                    filled += updated;
+                } while (updated > 0);
+            }
+        }
+        return filled;
+    }
+
+    private int update(PreparedStatement statement, long from, long to) throws SQLException {
+        statement.setLong(1, from);
+        statement.setLong(2, to);
+        return statement.executeUpdate();
+    }
+
+    private long[] idRange(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT MIN(id), MAX(id) FROM comments")) {
+            rs.next();
+            long min = rs.getLong(1);
+            if (rs.wasNull()) {
+                return null;
+            }
+            return new long[]{min, rs.getLong(2)};
+        }
+    }
+
+    private long countMissing(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM comments WHERE path IS NULL")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
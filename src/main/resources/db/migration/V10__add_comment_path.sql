@@ -0,0 +1,9 @@
+-- V10: 댓글 경로(Materialized Path) 컬럼 추가
+-- 최상위 댓글부터 자신까지의 ID를 19자리 0 채움 문자열로 이어 붙인 값 (CommentPath)
+-- 고정 폭 ASCII 문자열이므로 바이너리 정렬 = 스레드 표시 순서, 하위 트리는 접두사 범위 스캔
+-- 기존 행은 V11(Java 마이그레이션)이 청크 단위로 채움
+
+ALTER TABLE comments
+ADD COLUMN path VARCHAR(760) CHARACTER SET ascii COLLATE ascii_bin NULL;
+
+CREATE INDEX idx_comment_post_path ON comments(post_id, path);
@@ -0,0 +1,9 @@
+-- V12: 게시글/사용자 소프트 삭제 컬럼 추가
+-- 삭제 요청은 deleted_at만 채우고(상수 시간), 실제 행과 댓글은 TombstonePurger가 청크 단위로 정리
+
+ALTER TABLE posts ADD COLUMN deleted_at DATETIME(6) NULL;
+ALTER TABLE users ADD COLUMN deleted_at DATETIME(6) NULL;
+
+-- 정리 대상(deleted_at IS NOT NULL) 조회용
+CREATE INDEX idx_post_deleted_at ON posts(deleted_at);
+CREATE INDEX idx_user_deleted_at ON users(deleted_at);
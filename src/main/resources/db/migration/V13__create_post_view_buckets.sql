@@ -0,0 +1,12 @@
+-- V13: 게시글 시간대별 조회수 테이블 생성 (트렌딩 게시글)
+-- 노드마다 메모리에 모은 시간(epoch hour)별 조회수를 주기적으로 저장하고, 시작 시 최근 1주일치를 다시 읽음
+-- 노드별로 자기 행만 쓰므로 (node_id, post_id, slot_hour) 기본 키에 쓰기 경합이 없음
+
+CREATE TABLE post_view_buckets (
+    node_id INT NOT NULL,
+    post_id BIGINT NOT NULL,
+    slot_hour BIGINT NOT NULL,
+    views BIGINT NOT NULL,
+    PRIMARY KEY (node_id, post_id, slot_hour),
+    INDEX idx_post_view_bucket_slot_hour (slot_hour)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
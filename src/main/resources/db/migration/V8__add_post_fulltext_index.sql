@@ -0,0 +1,5 @@
+-- V8: 게시글 FULLTEXT 인덱스 추가 (kraft.search.mode=fulltext)
+-- MariaDB는 MySQL의 ngram 파서를 지원하지 않으므로 기본 파서 + 불리언 모드 접두 검색(+단어*)을 사용
+-- 2글자 한국어 어절도 색인되도록 innodb_ft_min_token_size=2 설정 필요 (docker/mariadb/conf.d/custom.cnf)
+
+ALTER TABLE posts ADD FULLTEXT INDEX ft_post_title_content (title, content);
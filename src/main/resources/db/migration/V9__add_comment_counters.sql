@@ -0,0 +1,18 @@
+-- V9: 댓글 수 / 답글 수 비정규화 컬럼 추가
+-- 댓글 작성/삭제 트랜잭션에서 함께 갱신하고, CommentCountReconciler가 주기적으로 오차를 보정
+
+ALTER TABLE posts ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE comments ADD COLUMN reply_count INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 채우기
+UPDATE posts p
+SET p.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id);
+
+UPDATE comments c
+JOIN (
+    SELECT parent_id, COUNT(*) AS cnt
+    FROM comments
+    WHERE parent_id IS NOT NULL
+    GROUP BY parent_id
+) r ON r.parent_id = c.id
+SET c.reply_count = r.cnt;
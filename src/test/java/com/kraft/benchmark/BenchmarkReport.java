@@ -0,0 +1,32 @@
+package com.kraft.benchmark;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 벤치마크 결과 기록
+ * 로그와 함께 build/reports/benchmarks/{name}.txt에 남겨 실행 후 수치를 그대로 옮겨 적을 수 있게 함
+ */
+final class BenchmarkReport {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkReport.class);
+    private static final Path DIRECTORY = Path.of("build", "reports", "benchmarks");
+
+    private BenchmarkReport() {
+    }
+
+    static void write(String name, List<String> lines) {
+        lines.forEach(line -> log.info("[{}] {}", name, line));
+        try {
+            Files.createDirectories(DIRECTORY);
+            Files.write(DIRECTORY.resolve(name + ".txt"), lines);
+        } catch (IOException e) {
+            log.warn("벤치마크 결과 파일 기록 실패: {}", name, e);
+        }
+    }
+}
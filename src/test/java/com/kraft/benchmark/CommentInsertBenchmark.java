@@ -0,0 +1,136 @@
+package com.kraft.benchmark;
+
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 INSERT 벤치마크: 행 단위 INSERT vs JDBC 배치 INSERT (Snowflake ID)
+ * IDENTITY 키는 INSERT마다 생성 키를 받아야 해서 Hibernate가 배치를 끄므로,
+ * 배치 크기 1(행마다 한 번 왕복)을 도입 전 기준으로 삼아 처리량(rows/sec)을 비교해
+ * build/reports/benchmarks/comment-insert.txt에 기록
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CommentInsertBenchmark {
+
+    private static final int COMMENTS = 100_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long authorId;
+    private Long postId;
+
+    @BeforeAll
+    void setUp() {
+        User author = userRepository.save(User.of("benchmark", "encoded", "benchmark@example.com"));
+        Post post = postRepository.save(Post.builder().title("Title").content("Content").author(author).build());
+        authorId = author.getId();
+        postId = post.getId();
+    }
+
+    @AfterEach
+    void clearComments() {
+        jdbcTemplate.update("DELETE FROM comments");
+    }
+
+    @AfterAll
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Snowflake ID로 JDBC 배치를 켜면 댓글 10만 건 INSERT 문장 수와 시간이 줄어든다")
+    void compareRowByRowAndBatchedInserts() {
+        insert("warmup", BATCH_SIZE, FLUSH_INTERVAL * 10);
+        clearComments();
+
+        Result rowByRow = insert("row-by-row (before)", 1, COMMENTS);
+        clearComments();
+        Result batched = insert("jdbc batch " + BATCH_SIZE + " (after)", BATCH_SIZE, COMMENTS);
+
+        BenchmarkReport.write("comment-insert", List.of(
+                rowByRow.toString(),
+                batched.toString(),
+                String.format("batch vs row-by-row: throughput x%.2f, statements %.1f%% of row-by-row",
+                        batched.rowsPerSecond() / rowByRow.rowsPerSecond(),
+                        100.0 * batched.statements() / rowByRow.statements())));
+
+        assertThat(batched.statements()).isLessThan(rowByRow.statements() / 10);
+    }
+
+    private Result insert(String name, int batchSize, int comments) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long started = System.nanoTime();
+        for (int inserted = 0; inserted < comments; inserted += FLUSH_INTERVAL) {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                Post post = entityManager.getReference(Post.class, postId);
+                User author = entityManager.getReference(User.class, authorId);
+
+                for (int i = 0; i < FLUSH_INTERVAL; i++) {
+                    Comment comment = Comment.builder().content("Comment " + i).post(post).author(author).build();
+                    entityManager.persist(comment);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        long elapsed = System.nanoTime() - started;
+
+        return new Result(name, comments * 1_000_000_000.0 / elapsed, statistics.getPrepareStatementCount());
+    }
+
+    private record Result(String name, double rowsPerSecond, long statements) {
+
+        @Override
+        public String toString() {
+            return String.format("[%s] %,.0f rows/sec, %,d statements", name, rowsPerSecond, statements);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.kraft.benchmark;
+
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import com.kraft.web.dto.post.PostsListResponseDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조회 벤치마크: 엔티티 조회(JOIN FETCH) vs 컬럼 프로젝션
+ * 처리량(rows/sec)과 스레드 할당량(bytes/row)을 비교 출력 (build/reports/benchmarks/post-list-projection.txt)
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostListProjectionBenchmark {
+
+    private static final int POSTS = 5_000;
+    private static final int CONTENT_LENGTH = 4_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    /**
+     * 프로젝션 도입 전 목록 조회 방식 (엔티티 + 작성자 JOIN FETCH 후 DTO 변환)
+     */
+    private static final String ENTITY_QUERY = "SELECT p FROM Post p JOIN FETCH p.author ORDER BY p.id DESC";
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void setUp() {
+        User author = userRepository.save(User.of("benchmark", "encoded", "benchmark@example.com"));
+        String content = "본문".repeat(CONTENT_LENGTH / 2);
+
+        List<Post> posts = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(Post.builder().title("Title " + i).content(content).author(author).build());
+        }
+        postRepository.saveAll(posts);
+    }
+
+    @AfterAll
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("컬럼 프로젝션 목록 조회가 엔티티 목록 조회보다 할당량이 적다")
+    void compareEntityAndProjection() {
+        Result entity = measure("entity", () -> entityManager.createQuery(ENTITY_QUERY, Post.class)
+                .getResultList().stream()
+                .map(PostsListResponseDto::from)
+                .toList());
+        Result projection = measure("projection", () -> postRepository.findLatestAfter(Long.MAX_VALUE, Limit.of(POSTS)).stream()
+                .map(PostsListResponseDto::from)
+                .toList());
+
+        BenchmarkReport.write("post-list-projection", List.of(
+                entity.toString(),
+                projection.toString(),
+                String.format("projection vs entity: throughput x%.2f, allocation %.0f%% of entity",
+                        projection.rowsPerSecond() / entity.rowsPerSecond(),
+                        100 * projection.bytesPerRow() / entity.bytesPerRow())));
+
+        assertThat(projection.bytesPerRow()).isLessThan(entity.bytesPerRow());
+    }
+
+    private Result measure(String name, Supplier<List<PostsListResponseDto>> query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            transactionTemplate.execute(status -> query.get());
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long rows = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            // 라운드마다 새 트랜잭션(영속성 컨텍스트)으로 조회해 1차 캐시 재사용을 배제
+            List<PostsListResponseDto> result = transactionTemplate.execute(status -> query.get());
+            rows += result.size();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Result(name, rows * 1_000_000_000.0 / elapsed, (double) allocated / rows);
+    }
+
+    private record Result(String name, double rowsPerSecond, double bytesPerRow) {
+
+        @Override
+        public String toString() {
+            return String.format("[%s] %,.0f rows/sec, %,.0f bytes/row", name, rowsPerSecond, bytesPerRow);
+        }
+    }
+}
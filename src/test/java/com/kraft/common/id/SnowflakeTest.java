@@ -0,0 +1,55 @@
+package com.kraft.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeTest {
+
+    private static final long NOW = Snowflake.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("같은 밀리초에 시퀀스를 모두 써도 ID는 계속 증가한다")
+    void nextId_isMonotonicWhenSequenceOverflows() {
+        // given
+        Snowflake snowflake = new Snowflake(7, () -> NOW);
+
+        // when & then
+        long previous = snowflake.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long id = snowflake.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(Snowflake.nodeIdOf(id)).isEqualTo(7);
+            previous = id;
+        }
+        assertThat(Snowflake.timestampOf(previous)).isGreaterThan(NOW);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 이전보다 큰 ID를 발급한다")
+    void nextId_isMonotonicWhenClockMovesBackwards() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        Snowflake snowflake = new Snowflake(1, clock::get);
+        long before = snowflake.nextId();
+
+        // when
+        clock.set(NOW - 5_000);
+        long after = snowflake.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+        assertThat(Snowflake.timestampOf(before)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 생성할 수 없다")
+    void invalidNodeId() {
+        assertThatThrownBy(() -> new Snowflake(Snowflake.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
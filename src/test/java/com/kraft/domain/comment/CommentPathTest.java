@@ -0,0 +1,48 @@
+package com.kraft.domain.comment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentPathTest {
+
+    @Test
+    @DisplayName("경로 문자열 정렬은 부모 다음에 하위 답글이 오는 스레드 순서와 같다")
+    void sortOrderIsThreadOrder() {
+        // given
+        String first = CommentPath.root(2L);
+        String second = CommentPath.root(10L);
+        String reply = CommentPath.child(first, 11L);
+        String nested = CommentPath.child(reply, 12L);
+        String laterReply = CommentPath.child(first, 100L);
+
+        List<String> paths = new ArrayList<>(List.of(second, laterReply, nested, first, reply));
+
+        // when
+        paths.sort(null);
+
+        // then
+        assertThat(paths).containsExactly(first, reply, nested, laterReply, second);
+        assertThat(CommentPath.depthOf(nested)).isEqualTo(3);
+        assertThat(nested).startsWith(first);
+    }
+
+    @Test
+    @DisplayName("최대 깊이를 넘는 답글 경로는 만들 수 없다")
+    void childBeyondMaxDepth() {
+        String path = CommentPath.root(1L);
+        for (long id = 2; id <= CommentPath.MAX_DEPTH; id++) {
+            path = CommentPath.child(path, id);
+        }
+        String deepest = path;
+
+        assertThat(deepest).hasSize(CommentPath.MAX_LENGTH);
+        assertThatThrownBy(() -> CommentPath.child(deepest, 999L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -8,8 +8,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -111,15 +112,15 @@ class CommentRepositoryTest {
         entityManager.flush();
 
         // when
-        Page<Comment> page = commentRepository.findParentCommentsByPostId(
+        Slice<Comment> page = commentRepository.findParentCommentsByPostId(
                 post.getId(),
                 PageRequest.of(0, 3)
         );
 
         // then
         assertThat(page.getContent()).hasSize(3);
-        assertThat(page.getTotalElements()).isEqualTo(6); // 기존 1개 + 5개
-        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(commentRepository.countParentCommentsByPostId(post.getId())).isEqualTo(6); // 기존 1개 + 5개
     }
 
     @Test
@@ -197,5 +198,79 @@ class CommentRepositoryTest {
         // then
         assertThat(count).isEqualTo(3); // 부모 1개, 일반 1개, 답글 1개
     }
-}
 
+    @Test
+    @DisplayName("경로순으로 스레드와 하위 트리를 조회할 수 있다")
+    void findThreadAndSubtreeByPath() {
+        // given
+        Comment reply = persistReply(parentComment, "Reply");
+        Comment nested = persistReply(reply, "Nested");
+        Comment other = Comment.builder().content("Other").post(post).author(author).build();
+        entityManager.persist(other);
+        Comment lateReply = persistReply(parentComment, "Late Reply");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Comment> thread = commentRepository.findThreadByPostId(post.getId());
+        List<Comment> subtree = commentRepository.findSubtree(post.getId(), reply.getPath());
+
+        // then
+        assertThat(thread).extracting(Comment::getContent)
+                .containsExactly("Parent Comment", "Reply", "Nested", "Late Reply", "Other");
+        assertThat(subtree).extracting(Comment::getId)
+                .containsExactly(reply.getId(), nested.getId());
+        assertThat(lateReply.getPath()).startsWith(parentComment.getPath());
+    }
+
+    @Test
+    @DisplayName("최상위 댓글을 경로 keyset으로 고르고 그 구간만 깊이 제한을 걸어 조회한다")
+    void findRootPathsAndThreadRange() {
+        // given
+        Comment reply = persistReply(parentComment, "Reply");
+        persistReply(reply, "Nested");
+        Comment second = Comment.builder().content("Second").post(post).author(author).build();
+        entityManager.persist(second);
+        Comment third = Comment.builder().content("Third").post(post).author(author).build();
+        entityManager.persist(third);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<String> firstPage = commentRepository.findRootPathsAfter(post.getId(), "", Limit.of(2));
+        List<String> nextPage = commentRepository.findRootPathsAfter(post.getId(), firstPage.get(1), Limit.of(2));
+        List<Comment> thread = commentRepository.findThreadRange(post.getId(), firstPage.get(0),
+                CommentPath.subtreeUpperBound(firstPage.get(1)), CommentPath.maxLengthFor(1));
+
+        // then
+        assertThat(firstPage).containsExactly(parentComment.getPath(), second.getPath());
+        assertThat(nextPage).containsExactly(third.getPath());
+        assertThat(thread).extracting(Comment::getContent)
+                .containsExactly("Parent Comment", "Reply", "Second");
+    }
+
+    @Test
+    @DisplayName("persist로 ID가 발급되면 경로도 함께 정해져 INSERT에 담긴다")
+    void persist_assignsPathWithId() {
+        // given
+        Comment reply = Comment.builder().content("Reply").post(post).author(author).parent(parentComment).build();
+
+        // when
+        entityManager.persist(reply);
+
+        // then
+        assertThat(parentComment.getPath()).isEqualTo(CommentPath.root(parentComment.getId()));
+        assertThat(reply.getPath()).isEqualTo(CommentPath.child(parentComment.getPath(), reply.getId()));
+    }
+
+    private Comment persistReply(Comment parent, String content) {
+        Comment reply = Comment.builder()
+                .content(content)
+                .post(post)
+                .author(author)
+                .parent(parent)
+                .build();
+        entityManager.persist(reply);
+        return reply;
+    }
+}
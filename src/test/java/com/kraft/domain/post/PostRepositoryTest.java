@@ -8,6 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -54,7 +55,7 @@ class PostRepositoryTest {
 
     @Test
     @DisplayName("게시글 목록을 ID 역순으로 조회할 수 있다")
-    void findAllDesc() {
+    void findLatestAfter_firstPage() {
         // given
         Post post1 = Post.builder()
                 .title("First")
@@ -77,13 +78,14 @@ class PostRepositoryTest {
         postRepository.save(post3);
 
         // when
-        List<Post> posts = postRepository.findAllDesc();
+        List<PostSummary> posts = postRepository.findLatestAfter(Long.MAX_VALUE, Limit.of(10));
 
         // then
         assertThat(posts).hasSize(3);
-        assertThat(posts.get(0).getTitle()).isEqualTo("Third");
-        assertThat(posts.get(1).getTitle()).isEqualTo("Second");
-        assertThat(posts.get(2).getTitle()).isEqualTo("First");
+        assertThat(posts.get(0).title()).isEqualTo("Third");
+        assertThat(posts.get(1).title()).isEqualTo("Second");
+        assertThat(posts.get(2).title()).isEqualTo("First");
+        assertThat(posts.get(0).authorName()).isEqualTo("author");
     }
 
     @Test
@@ -124,5 +126,46 @@ class PostRepositoryTest {
         // then
         assertThat(postRepository.findById(saved.getId())).isEmpty();
     }
-}
 
+    @Test
+    @DisplayName("마지막 ID 이후의 게시글을 커서로 조회할 수 있다")
+    void findLatestAfter() {
+        // given
+        Post first = postRepository.save(Post.builder().title("First").content("Content 1").author(author).build());
+        Post second = postRepository.save(Post.builder().title("Second").content("Content 2").author(author).build());
+        Post third = postRepository.save(Post.builder().title("Third").content("Content 3").author(author).build());
+
+        // when
+        List<PostSummary> firstPage = postRepository.findLatestAfter(Long.MAX_VALUE, Limit.of(2));
+        List<PostSummary> secondPage = postRepository.findLatestAfter(second.getId(), Limit.of(2));
+
+        // then
+        assertThat(firstPage).extracting(PostSummary::title).containsExactly("Third", "Second");
+        assertThat(secondPage).extracting(PostSummary::title).containsExactly("First");
+    }
+
+    @Test
+    @DisplayName("조회수와 ID 기준으로 인기 게시글을 커서로 조회할 수 있다")
+    void findPopularAfter() {
+        // given
+        Post popular = Post.builder().title("Popular").content("Content").author(author).build();
+        popular.incrementViewCount();
+        popular.incrementViewCount();
+        Post tiedOld = Post.builder().title("Tied Old").content("Content").author(author).build();
+        tiedOld.incrementViewCount();
+        Post tiedNew = Post.builder().title("Tied New").content("Content").author(author).build();
+        tiedNew.incrementViewCount();
+        postRepository.save(popular);
+        postRepository.save(tiedOld);
+        postRepository.save(tiedNew);
+
+        // when
+        List<PostSummary> firstPage = postRepository.findPopularAfter(Long.MAX_VALUE, Long.MAX_VALUE, Limit.of(2));
+        PostSummary last = firstPage.get(firstPage.size() - 1);
+        List<PostSummary> secondPage = postRepository.findPopularAfter(last.viewCount(), last.id(), Limit.of(2));
+
+        // then
+        assertThat(firstPage).extracting(PostSummary::title).containsExactly("Popular", "Tied New");
+        assertThat(secondPage).extracting(PostSummary::title).containsExactly("Tied Old");
+    }
+}
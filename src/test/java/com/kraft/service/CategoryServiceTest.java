@@ -1,7 +1,10 @@
 package com.kraft.service;
 
 import com.kraft.domain.category.Category;
+import com.kraft.domain.category.CategoryChangedEvent;
 import com.kraft.domain.category.CategoryRepository;
+import com.kraft.service.cache.CategoryCache;
+import com.kraft.service.cache.CategorySnapshot;
 import com.kraft.web.dto.category.CategoryResponseDto;
 import com.kraft.web.dto.category.CategorySaveRequestDto;
 import com.kraft.web.dto.category.CategoryUpdateRequestDto;
@@ -13,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +34,12 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryCache categoryCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -37,17 +47,10 @@ class CategoryServiceTest {
     @DisplayName("모든 카테고리를 조회할 수 있다")
     void findAll() {
         // given
-        Category category1 = Category.builder()
-                .name("공지사항")
-                .displayOrder(0)
-                .build();
-        Category category2 = Category.builder()
-                .name("일반")
-                .displayOrder(1)
-                .build();
-
-        given(categoryRepository.findAllOrderByDisplayOrder())
-                .willReturn(Arrays.asList(category1, category2));
+        given(categoryCache.snapshot()).willReturn(CategorySnapshot.of(1L, Arrays.asList(
+                new CategoryResponseDto(1L, "공지사항", null, 0),
+                new CategoryResponseDto(2L, "일반", null, 1)
+        )));
 
         // when
         List<CategoryResponseDto> result = categoryService.findAll();
@@ -62,13 +65,9 @@ class CategoryServiceTest {
     @DisplayName("ID로 카테고리를 조회할 수 있다")
     void findById() {
         // given
-        Category category = Category.builder()
-                .name("질문")
-                .description("질문 카테고리")
-                .displayOrder(2)
-                .build();
-
-        given(categoryRepository.findById(1L)).willReturn(Optional.of(category));
+        given(categoryCache.snapshot()).willReturn(CategorySnapshot.of(1L, List.of(
+                new CategoryResponseDto(1L, "질문", "질문 카테고리", 2)
+        )));
 
         // when
         CategoryResponseDto result = categoryService.findById(1L);
@@ -82,12 +81,9 @@ class CategoryServiceTest {
     @DisplayName("이름으로 카테고리를 조회할 수 있다")
     void findByName() {
         // given
-        Category category = Category.builder()
-                .name("자유")
-                .displayOrder(3)
-                .build();
-
-        given(categoryRepository.findByName("자유")).willReturn(Optional.of(category));
+        given(categoryCache.snapshot()).willReturn(CategorySnapshot.of(1L, List.of(
+                new CategoryResponseDto(3L, "자유", null, 3)
+        )));
 
         // when
         CategoryResponseDto result = categoryService.findByName("자유");
@@ -206,13 +202,14 @@ class CategoryServiceTest {
 
         // then
         verify(categoryRepository).delete(category);
+        verify(eventPublisher).publishEvent(new CategoryChangedEvent(1L));
     }
 
     @Test
     @DisplayName("존재하지 않는 카테고리를 조회하면 예외가 발생한다")
     void findById_notFound() {
         // given
-        given(categoryRepository.findById(999L)).willReturn(Optional.empty());
+        given(categoryCache.snapshot()).willReturn(CategorySnapshot.of(1L, List.of()));
 
         // when & then
         assertThatThrownBy(() -> categoryService.findById(999L))
@@ -0,0 +1,154 @@
+package com.kraft.service;
+
+import com.kraft.common.id.Snowflake;
+import com.kraft.config.auth.dto.SessionUser;
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.comment.CommentPath;
+import com.kraft.domain.comment.CommentRepository;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 일괄 삭제 쿼리 수 테스트 (hibernate.generate_statistics 사용)
+ */
+@SpringBootTest
+class CommentBulkDeleterTest {
+
+    private static final int FIRST_LEVEL_REPLIES = 100;
+    private static final int SECOND_LEVEL_REPLIES = 99;
+
+    // JDBC로 직접 넣는 답글 ID (애플리케이션 노드 ID와 겹치지 않는 노드 사용)
+    private final Snowflake ids = new Snowflake(Snowflake.MAX_NODE_ID);
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentBulkDeleter commentBulkDeleter;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${kraft.comment.delete.chunk-size:500}")
+    private int chunkSize;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("답글 10,000개가 달린 댓글 삭제는 청크 수에 비례하는 문장만 실행한다")
+    void deleteSubtree_statementCountIsBoundedByChunks() {
+        // given
+        User author = userRepository.save(User.of("bulk", "encoded", "bulk@example.com"));
+        Post post = postRepository.save(Post.builder().title("Title").content("Content").author(author).build());
+        Comment root = commentRepository.save(Comment.builder().content("Root").post(post).author(author).build());
+        Comment untouched = commentRepository.save(Comment.builder().content("Other").post(post).author(author).build());
+        jdbcTemplate.update("UPDATE comments SET path = ? WHERE id = ?", CommentPath.root(root.getId()), root.getId());
+        jdbcTemplate.update("UPDATE comments SET path = ? WHERE id = ?", CommentPath.root(untouched.getId()), untouched.getId());
+
+        List<Node> firstLevel = insertReplies(post.getId(), author.getId(),
+                List.of(new Node(root.getId(), CommentPath.root(root.getId()))), FIRST_LEVEL_REPLIES);
+        insertReplies(post.getId(), author.getId(), firstLevel, SECOND_LEVEL_REPLIES);
+
+        long subtreeSize = 1 + FIRST_LEVEL_REPLIES + (long) FIRST_LEVEL_REPLIES * SECOND_LEVEL_REPLIES;
+        jdbcTemplate.update("UPDATE posts SET comment_count = ? WHERE id = ?", subtreeSize + 1, post.getId());
+
+        // when
+        statistics.clear();
+        commentService.delete(root.getId(), new SessionUser(author));
+
+        // then
+        long chunks = (subtreeSize + chunkSize - 1) / chunkSize;
+        // 대상 조회 1 + 청크당 (ID 조회, DELETE, 댓글 수 차감) 3
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1 + 3 * chunks);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+
+        assertThat(commentRepository.countByPostId(post.getId())).isEqualTo(1);
+        assertThat(commentRepository.findById(untouched.getId())).isPresent();
+        assertThat(postRepository.findCommentCountById(post.getId())).contains(1L);
+    }
+
+    @Test
+    @DisplayName("게시글의 모든 댓글을 청크 단위로 지운다")
+    void deleteAllByPostId() {
+        // given
+        User author = userRepository.save(User.of("bulk", "encoded", "bulk@example.com"));
+        Post post = postRepository.save(Post.builder().title("Title").content("Content").author(author).build());
+        Comment root = commentRepository.save(Comment.builder().content("Root").post(post).author(author).build());
+        jdbcTemplate.update("UPDATE comments SET path = ? WHERE id = ?", CommentPath.root(root.getId()), root.getId());
+        insertReplies(post.getId(), author.getId(),
+                List.of(new Node(root.getId(), CommentPath.root(root.getId()))), chunkSize + 1);
+
+        // when
+        long deleted = commentBulkDeleter.deleteAllByPostId(post.getId());
+
+        // then
+        assertThat(deleted).isEqualTo(chunkSize + 2);
+        assertThat(commentRepository.countByPostId(post.getId())).isZero();
+    }
+
+    private List<Node> insertReplies(Long postId, Long authorId, List<Node> parents, int perParent) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Node> replies = new ArrayList<>(parents.size() * perParent);
+        List<Object[]> rows = new ArrayList<>(parents.size() * perParent);
+        for (Node parent : parents) {
+            for (int i = 0; i < perParent; i++) {
+                long id = ids.nextId();
+                String path = CommentPath.child(parent.path(), id);
+                replies.add(new Node(id, path));
+                rows.add(new Object[]{id, "Reply", postId, authorId, parent.id(), path, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comments (id, content, post_id, author_id, parent_id, path, reply_count, create_at, update_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)", rows);
+        return replies;
+    }
+
+    private record Node(Long id, String path) {
+    }
+}
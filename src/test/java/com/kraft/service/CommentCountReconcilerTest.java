@@ -0,0 +1,66 @@
+package com.kraft.service;
+
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.comment.CommentRepository;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CommentCountReconcilerTest {
+
+    @Autowired
+    private CommentCountReconciler reconciler;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments WHERE parent_id IS NOT NULL");
+        commentRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("저장된 댓글 수/답글 수가 실제 개수와 다르면 보정한다")
+    void reconcile_repairsDrift() {
+        // given
+        User author = userRepository.save(User.of("reconciler", "encoded", "reconciler@example.com"));
+        Post post = postRepository.save(Post.builder().title("Title").content("Content").author(author).build());
+        Comment parent = commentRepository.save(Comment.builder().content("Parent").post(post).author(author).build());
+        commentRepository.save(Comment.builder().content("Reply").post(post).author(author).parent(parent).build());
+
+        // 카운터를 갱신하지 않고 저장했으므로 comment_count=0, reply_count=0 (실제는 2, 1)
+        jdbcTemplate.update("UPDATE posts SET comment_count = 7 WHERE id = ?", post.getId());
+
+        // when
+        long fixed = reconciler.reconcile();
+
+        // then
+        assertThat(fixed).isEqualTo(2);
+        assertThat(postRepository.findCommentCountById(post.getId())).contains(2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT reply_count FROM comments WHERE id = ?", Integer.class, parent.getId()))
+                .isEqualTo(1);
+        assertThat(reconciler.reconcile()).isZero();
+    }
+}
@@ -2,23 +2,31 @@ package com.kraft.service;
 
 import com.kraft.config.auth.dto.SessionUser;
 import com.kraft.domain.comment.Comment;
+import com.kraft.domain.comment.CommentDeleteTarget;
+import com.kraft.domain.comment.CommentPath;
 import com.kraft.domain.comment.CommentRepository;
 import com.kraft.domain.post.Post;
 import com.kraft.domain.post.PostRepository;
 import com.kraft.domain.user.Role;
 import com.kraft.domain.user.User;
 import com.kraft.domain.user.UserRepository;
+import com.kraft.service.cache.CountCache;
+import com.kraft.service.cache.CountKey;
 import com.kraft.web.dto.comment.CommentResponseDto;
 import com.kraft.web.dto.comment.CommentSaveRequestDto;
 import com.kraft.web.dto.comment.CommentUpdateRequestDto;
+import com.kraft.web.dto.common.CursorResponse;
+import com.kraft.web.dto.common.PageCursor;
 import com.kraft.common.exception.ResourceNotFoundException;
 import com.kraft.common.exception.UnauthorizedException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
@@ -29,6 +37,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +52,12 @@ class CommentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CommentBulkDeleter commentBulkDeleter;
+
+    @Mock
+    private CountCache countCache;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -62,21 +77,50 @@ class CommentServiceTest {
                 .content("Test Comment")
                 .build();
 
-        Comment comment = Comment.builder()
-                .content("Test Comment")
-                .post(post)
-                .author(author)
-                .build();
-
         given(postRepository.findById(1L)).willReturn(Optional.of(post));
         given(userRepository.findById(sessionUser.id())).willReturn(Optional.of(author));
-        given(commentRepository.save(any(Comment.class))).willReturn(comment);
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> persisted(invocation.getArgument(0), 1L));
 
         // when
         Long commentId = commentService.save(1L, requestDto, sessionUser);
 
         // then
         verify(commentRepository).save(any(Comment.class));
+        verify(postRepository).incrementCommentCount(1L, 1);
+        verify(countCache).adjustAfterCommit(CountKey.parentComments(1L), 1);
+        assertThat(commentId).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("답글 경로는 부모 경로 뒤에 자신의 ID를 붙인 값이다")
+    void saveReply_assignsChildPath() {
+        // given
+        User author = User.of("author", "encoded", "author@example.com");
+        ReflectionTestUtils.setField(author, "id", 1L);
+        Post post = Post.builder().title("Post").content("Content").author(author).build();
+        ReflectionTestUtils.setField(post, "id", 10L);
+        Comment parent = Comment.builder().content("Parent").post(post).author(author).build();
+        persisted(parent, 100L);
+
+        CommentSaveRequestDto requestDto = CommentSaveRequestDto.builder()
+                .content("Reply")
+                .build();
+
+        given(postRepository.findById(10L)).willReturn(Optional.of(post));
+        given(commentRepository.findById(100L)).willReturn(Optional.of(parent));
+        given(userRepository.findById(1L)).willReturn(Optional.of(author));
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> persisted(invocation.getArgument(0), 101L));
+
+        // when
+        Long replyId = commentService.saveReply(10L, 100L, requestDto, new SessionUser(author));
+
+        // then
+        ArgumentCaptor<Comment> reply = ArgumentCaptor.forClass(Comment.class);
+        verify(commentRepository).save(reply.capture());
+        assertThat(replyId).isEqualTo(101L);
+        assertThat(reply.getValue().getPath()).isEqualTo(CommentPath.root(100L) + "0000000000000000101");
+        verify(commentRepository).incrementReplyCount(100L, 1);
+        verify(postRepository).incrementCommentCount(10L, 1);
     }
 
     @Test
@@ -155,37 +199,37 @@ class CommentServiceTest {
     }
 
     @Test
-    @DisplayName("댓글 삭제에 성공한다")
+    @DisplayName("댓글 삭제는 엔티티를 로딩하지 않고 하위 트리를 일괄 삭제한다")
     void delete_success() {
         // given
-        User author = User.builder()
-                .name("author")
-                .password("encoded")
-                .email("author@example.com")
-                .build();
-        ReflectionTestUtils.setField(author, "id", 1L);
-
-        Post post = Post.builder()
-                .title("Test Post")
-                .content("Test Content")
-                .author(author)
-                .build();
-
-        Comment comment = Comment.builder()
-                .content("Test Comment")
-                .post(post)
-                .author(author)
-                .build();
-
+        CommentDeleteTarget target = new CommentDeleteTarget(1L, 10L, null, 1L, CommentPath.root(1L));
         SessionUser sessionUser = new SessionUser(1L, "author", "author@example.com", Role.USER);
 
-        given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
+        given(commentRepository.findDeleteTargetById(1L)).willReturn(Optional.of(target));
+        given(commentBulkDeleter.deleteSubtree(target)).willReturn(3L);
 
         // when
         commentService.delete(1L, sessionUser);
 
         // then
-        verify(commentRepository).delete(comment);
+        verify(commentBulkDeleter).deleteSubtree(target);
+        verify(commentRepository, never()).findById(any());
+        verify(countCache).adjust(CountKey.parentComments(10L), -1);
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 댓글을 삭제할 수 없다")
+    void delete_notAuthor() {
+        // given
+        CommentDeleteTarget target = new CommentDeleteTarget(1L, 10L, null, 2L, CommentPath.root(1L));
+        SessionUser sessionUser = new SessionUser(1L, "author", "author@example.com", Role.USER);
+
+        given(commentRepository.findDeleteTargetById(1L)).willReturn(Optional.of(target));
+
+        // when & then
+        assertThatThrownBy(() -> commentService.delete(1L, sessionUser))
+                .isInstanceOf(UnauthorizedException.class);
+        verify(commentBulkDeleter, never()).deleteSubtree(any());
     }
 
     @Test
@@ -222,6 +266,52 @@ class CommentServiceTest {
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    @DisplayName("댓글 트리는 최상위 댓글 한 페이지 구간만 깊이 제한을 걸어 조회한다")
+    void findThreadByPostId_pagesRootsWithDepthCap() {
+        // given
+        ReflectionTestUtils.setField(commentService, "threadMaxDepth", 3);
+        ReflectionTestUtils.setField(commentService, "threadReplyPreview", 5);
+        User author = User.of("author", "encoded", "author@example.com");
+        Post post = Post.builder().title("Test Post").content("Test Content").author(author).build();
+        Comment first = persisted(Comment.builder().content("First").post(post).author(author).build(), 1L);
+        Comment reply = persisted(Comment.builder().content("Reply").post(post).author(author).parent(first).build(), 4L);
+        Comment second = persisted(Comment.builder().content("Second").post(post).author(author).build(), 2L);
+
+        given(commentRepository.findRootPathsAfter(any(), any(), any()))
+                .willReturn(List.of(CommentPath.root(1L), CommentPath.root(2L), CommentPath.root(3L)));
+        given(commentRepository.findThreadRange(1L, CommentPath.root(1L),
+                CommentPath.subtreeUpperBound(CommentPath.root(2L)), CommentPath.SEGMENT_LENGTH * 2))
+                .willReturn(List.of(first, reply, second));
+
+        // when
+        CursorResponse<CommentResponseDto> result = commentService.findThreadByPostId(1L, 1, null, null, 2);
+
+        // then
+        assertThat(result.content()).extracting(CommentResponseDto::content).containsExactly("First", "Second");
+        assertThat(result.content().get(0).replies()).extracting(CommentResponseDto::content)
+                .containsExactly("Reply");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(PageCursor.decode(result.nextCursor()).id()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("다음 커서로 이전 페이지 마지막 최상위 댓글 뒤부터 조회한다")
+    void findThreadByPostId_afterCursor() {
+        // given
+        given(commentRepository.findRootPathsAfter(any(), any(), any())).willReturn(List.of());
+        given(postRepository.existsById(1L)).willReturn(true);
+        String after = PageCursor.of(2L, 2L).encode();
+
+        // when
+        CursorResponse<CommentResponseDto> result = commentService.findThreadByPostId(1L, null, null, after, 20);
+
+        // then
+        verify(commentRepository).findRootPathsAfter(1L, CommentPath.root(2L), Limit.of(21));
+        assertThat(result.content()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("존재하지 않는 댓글을 수정하면 예외가 발생한다")
     void update_notFound() {
@@ -239,5 +329,13 @@ class CommentServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("댓글");
     }
-}
 
+    /**
+     * persist 흉내: SnowflakeIdGenerator처럼 ID 발급을 알린 뒤 ID를 채움
+     */
+    private static Comment persisted(Comment comment, long id) {
+        comment.onSnowflakeId(id);
+        ReflectionTestUtils.setField(comment, "id", id);
+        return comment;
+    }
+}
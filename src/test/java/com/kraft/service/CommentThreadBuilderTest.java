@@ -0,0 +1,78 @@
+package com.kraft.service;
+
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.user.User;
+import com.kraft.web.dto.comment.CommentResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentThreadBuilderTest {
+
+    private User author;
+    private Post post;
+    private final List<Comment> comments = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        author = User.of("author", "encoded", "author@example.com");
+        post = Post.builder().title("Title").content("Content").author(author).build();
+    }
+
+    @Test
+    @DisplayName("ID 순 댓글 목록을 부모-답글 트리로 조립한다")
+    void build_tree() {
+        // given
+        Comment first = comment(1L, null);
+        Comment second = comment(2L, null);
+        comment(3L, first);
+        comment(4L, second);
+        comment(5L, first);
+
+        // when
+        List<CommentResponseDto> thread = CommentThreadBuilder.build(comments, 3, 10);
+
+        // then
+        assertThat(thread).extracting(CommentResponseDto::id).containsExactly(1L, 2L);
+        assertThat(thread.get(0).replies()).extracting(CommentResponseDto::id).containsExactly(3L, 5L);
+        assertThat(thread.get(1).replies()).extracting(CommentResponseDto::id).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("최대 깊이와 부모당 답글 수를 넘는 답글은 생략한다")
+    void build_limits() {
+        // given
+        Comment root = comment(1L, null);
+        Comment reply = comment(2L, root);
+        comment(3L, reply);
+        comment(4L, root);
+        comment(5L, root);
+
+        // when
+        List<CommentResponseDto> thread = CommentThreadBuilder.build(comments, 1, 2);
+
+        // then
+        CommentResponseDto rootDto = thread.get(0);
+        assertThat(rootDto.replies()).extracting(CommentResponseDto::id).containsExactly(2L, 4L);
+        assertThat(rootDto.replies().get(0).replies()).isNull(); // 깊이 1을 넘는 답글은 포함하지 않음
+    }
+
+    private Comment comment(Long id, Comment parent) {
+        Comment comment = Comment.builder()
+                .content("Comment " + id)
+                .post(post)
+                .author(author)
+                .parent(parent)
+                .build();
+        ReflectionTestUtils.setField(comment, "id", id);
+        comments.add(comment);
+        return comment;
+    }
+}
@@ -1,28 +1,51 @@
 package com.kraft.service;
 
+import com.kraft.common.exception.ResourceNotFoundException;
 import com.kraft.domain.post.Post;
 import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
 import com.kraft.domain.user.User;
+import com.kraft.service.cache.CountCache;
+import com.kraft.service.cache.HotPostTracker;
+import com.kraft.service.cache.PostCache;
+import com.kraft.service.cache.PostListCache;
+import com.kraft.service.cache.RecentPostsBuffer;
+import com.kraft.service.ranking.PopularPostRanking;
+import com.kraft.web.dto.common.CursorResponse;
+import com.kraft.web.dto.common.PageCursor;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.SliceResponse;
 import com.kraft.web.dto.post.PostResponseDto;
 import com.kraft.web.dto.post.PostsListResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class PostServicePaginationTest {
@@ -30,6 +53,30 @@ class PostServicePaginationTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private UniqueViewers uniqueViewers;
+
+    @Mock
+    private HotPostTracker hotPostTracker;
+
+    @Mock
+    private PostCache postCache;
+
+    @Mock
+    private PostListCache postListCache;
+
+    @Mock
+    private RecentPostsBuffer recentPostsBuffer;
+
+    @Mock
+    private PopularPostRanking popularPostRanking;
+
+    @Spy
+    private CountCache countCache = new CountCache(new SimpleMeterRegistry(), 100, 60);
+
     @InjectMocks
     private PostService postService;
 
@@ -37,27 +84,17 @@ class PostServicePaginationTest {
     @DisplayName("페이지네이션으로 게시글 목록을 조회할 수 있다")
     void findAllWithPagination_success() {
         // given
-        User author = User.of("author", "encoded", "author@example.com");
-
-        Post post1 = Post.builder()
-                .title("Title 1")
-                .content("Content 1")
-                .author(author)
-                .build();
-
-        Post post2 = Post.builder()
-                .title("Title 2")
-                .content("Content 2")
-                .author(author)
-                .build();
+        PostSummary post1 = new PostSummary(1L, "Title 1", "author", 0L, null);
+        PostSummary post2 = new PostSummary(2L, "Title 2", "author", 0L, null);
 
-        Page<Post> postPage = new PageImpl<>(
+        Slice<PostSummary> postSlice = new SliceImpl<>(
                 Arrays.asList(post2, post1),
                 PageRequest.of(0, 10),
-                2
+                false
         );
 
-        given(postRepository.findAllWithAuthor(any(Pageable.class))).willReturn(postPage);
+        given(postRepository.findAllSummaries(any(Pageable.class))).willReturn(postSlice);
+        given(postRepository.countVisible()).willReturn(2L);
 
         // when
         PageResponse<PostsListResponseDto> result =
@@ -73,27 +110,23 @@ class PostServicePaginationTest {
         assertThat(result.last()).isTrue();
         assertThat(result.hasNext()).isFalse();
         assertThat(result.hasPrevious()).isFalse();
+        assertThat(result.totalExact()).isTrue();
     }
 
     @Test
     @DisplayName("두 번째 페이지를 조회할 수 있다")
     void findAllWithPagination_secondPage() {
         // given
-        User author = User.of("author", "encoded", "author@example.com");
-
-        Post post3 = Post.builder()
-                .title("Title 3")
-                .content("Content 3")
-                .author(author)
-                .build();
+        PostSummary post3 = new PostSummary(3L, "Title 3", "author", 0L, null);
 
-        Page<Post> postPage = new PageImpl<>(
+        Slice<PostSummary> postSlice = new SliceImpl<>(
                 Arrays.asList(post3),
                 PageRequest.of(1, 10),
-                21 // 총 21개
+                true
         );
 
-        given(postRepository.findAllWithAuthor(any(Pageable.class))).willReturn(postPage);
+        given(postRepository.findAllSummaries(any(Pageable.class))).willReturn(postSlice);
+        given(postRepository.countVisible()).willReturn(21L); // 총 21개
 
         // when
         PageResponse<PostsListResponseDto> result =
@@ -109,22 +142,49 @@ class PostServicePaginationTest {
     }
 
     @Test
-    @DisplayName("특정 사용자의 게시글 목록을 조회할 수 있다")
-    void findByAuthorId_success() {
+    @DisplayName("전체 개수는 한 번만 세고 이후에는 캐시된 추정값을 사용한다")
+    void findAllWithPagination_cachedCount() {
         // given
-        User author = User.of("author", "encoded", "author@example.com");
+        PostSummary post = new PostSummary(30L, "Title 30", "author", 0L, null);
+        given(postRepository.findAllSummaries(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(post), PageRequest.of(1, 1, Sort.by("id")), true));
+        given(postRepository.countVisible()).willReturn(30L);
 
-        Post post1 = Post.builder()
-                .title("Title 1")
-                .content("Content 1")
-                .author(author)
-                .build();
+        // when
+        PageResponse<PostsListResponseDto> first = postService.findAllWithPagination(1, 1, "id", "ASC");
+        PageResponse<PostsListResponseDto> second = postService.findAllWithPagination(1, 1, "id", "ASC");
 
-        Post post2 = Post.builder()
-                .title("Title 2")
-                .content("Content 2")
-                .author(author)
-                .build();
+        // then
+        assertThat(first.totalExact()).isTrue();
+        assertThat(second.totalExact()).isFalse();
+        assertThat(second.totalElements()).isEqualTo(30);
+        verify(postRepository, times(1)).countVisible();
+    }
+
+    @Test
+    @DisplayName("전체 개수 없는 슬라이스 조회는 COUNT 쿼리를 실행하지 않는다")
+    void findAllSlice_skipsCount() {
+        // given
+        PostSummary post = new PostSummary(3L, "Title 3", "author", 0L, null);
+        given(postRepository.findAllSummaries(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(post), PageRequest.of(1, 1), true));
+
+        // when
+        SliceResponse<PostsListResponseDto> result = postService.findAllSlice(1, 1, "id", "DESC");
+
+        // then
+        assertThat(result.content()).extracting(PostsListResponseDto::id).containsExactly(3L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.hasPrevious()).isTrue();
+        verify(postRepository, never()).countVisible();
+    }
+
+    @Test
+    @DisplayName("특정 사용자의 게시글 목록을 조회할 수 있다")
+    void findByAuthorId_success() {
+        // given
+        PostSummary post1 = new PostSummary(1L, "Title 1", "author", 0L, null);
+        PostSummary post2 = new PostSummary(2L, "Title 2", "author", 0L, null);
 
         given(postRepository.findByAuthorId(1L)).willReturn(Arrays.asList(post2, post1));
 
@@ -146,46 +206,71 @@ class PostServicePaginationTest {
                 .author(author)
                 .build();
 
-        given(postRepository.findById(1L)).willReturn(java.util.Optional.of(post));
+        given(postCache.get(eq(1L), any())).willAnswer(invocation -> {
+            Function<Long, PostResponseDto> loader = invocation.getArgument(1);
+            return loader.apply(1L);
+        });
+        given(postRepository.findByIdWithAuthor(1L)).willReturn(java.util.Optional.of(post));
+        given(uniqueViewers.visit(1L, "user:1")).willReturn(new UniqueViewers.Visit(true, 1L));
+        given(viewCountBuffer.increment(1L)).willReturn(1L);
 
         // when
-        PostResponseDto result = postService.findByIdAndIncrementView(1L);
+        PostResponseDto result = postService.findByIdAndIncrementView(1L, "user:1");
 
         // then
         assertThat(result.viewCount()).isEqualTo(1L);
-        assertThat(post.getViewCount()).isEqualTo(1L);
+        assertThat(result.uniqueViewers()).isEqualTo(1L);
+        assertThat(post.getViewCount()).isEqualTo(0L); // 엔티티는 변경하지 않고 버퍼에 누적
+        verify(viewCountBuffer).increment(1L);
     }
 
     @Test
-    @DisplayName("인기 게시글을 조회할 수 있다")
-    void findPopularPosts_success() {
+    @DisplayName("같은 방문자가 다시 조회하면 조회수를 올리지 않는다")
+    void findByIdAndIncrementView_repeatViewer() {
         // given
-        User author = User.of("author", "encoded", "author@example.com");
+        given(postCache.get(eq(1L), any())).willReturn(new PostResponseDto(1L, "Title", "Content", "author", 10L));
+        given(uniqueViewers.visit(1L, "user:1")).willReturn(new UniqueViewers.Visit(false, 1L));
+        given(viewCountBuffer.pendingCount(1L)).willReturn(1L);
 
-        Post post1 = Post.builder()
-                .title("Popular Post")
-                .content("Content")
-                .author(author)
-                .build();
+        // when
+        PostResponseDto result = postService.findByIdAndIncrementView(1L, "user:1");
 
-        // 조회수 증가 시뮬레이션
-        post1.incrementViewCount();
-        post1.incrementViewCount();
-        post1.incrementViewCount();
+        // then
+        assertThat(result.viewCount()).isEqualTo(11L);
+        verify(viewCountBuffer, never()).increment(1L);
+    }
 
-        Post post2 = Post.builder()
-                .title("Normal Post")
-                .content("Content")
-                .author(author)
-                .build();
+    @Test
+    @DisplayName("없는 게시글 조회는 자주 조회된 게시글 집계에 넣지 않는다")
+    void findByIdAndIncrementView_notFound() {
+        // given
+        given(postCache.get(eq(999L), any())).willAnswer(invocation -> {
+            Function<Long, PostResponseDto> loader = invocation.getArgument(1);
+            return loader.apply(999L);
+        });
+        given(postRepository.findByIdWithAuthor(999L)).willReturn(Optional.empty());
+
+        // expect
+        assertThatThrownBy(() -> postService.findByIdAndIncrementView(999L, "user:1"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(hotPostTracker, never()).recordRead(999L);
+        verify(viewCountBuffer, never()).increment(999L);
+    }
 
-        Page<Post> postPage = new PageImpl<>(
+    @Test
+    @DisplayName("인기 게시글을 조회할 수 있다")
+    void findPopularPosts_success() {
+        // given
+        PostSummary post1 = new PostSummary(1L, "Popular Post", "author", 3L, null);
+        PostSummary post2 = new PostSummary(2L, "Normal Post", "author", 0L, null);
+
+        Slice<PostSummary> postSlice = new SliceImpl<>(
                 Arrays.asList(post1, post2),
                 PageRequest.of(0, 10),
-                2
+                false
         );
 
-        given(postRepository.findPopularPosts(any(Pageable.class))).willReturn(postPage);
+        given(postRepository.findPopularPosts(any(Pageable.class))).willReturn(postSlice);
 
         // when
         PageResponse<PostsListResponseDto> result = postService.findPopularPosts(0, 10);
@@ -194,4 +279,135 @@ class PostServicePaginationTest {
         assertThat(result.content()).hasSize(2);
         assertThat(result.content().get(0).viewCount()).isEqualTo(3L);
     }
+
+    @Test
+    @DisplayName("인기 게시글 순위로 응답할 수 있으면 DB를 조회하지 않는다")
+    void findPopularPosts_fromRanking() {
+        // given
+        PageResponse<PostsListResponseDto> ranked = PageResponse.of(
+                List.of(new PostsListResponseDto(1L, "Popular Post", "author", 30L, null)), 0, 10, 1, 1);
+        given(popularPostRanking.page(0, 10)).willReturn(Optional.of(ranked));
+
+        // when
+        PageResponse<PostsListResponseDto> result = postService.findPopularPosts(0, 10);
+
+        // then
+        assertThat(result).isSameAs(ranked);
+        verify(postRepository, never()).findPopularPosts(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("커서 페이지네이션은 size + 1개를 조회해 다음 커서를 계산한다")
+    void findAllByCursor_hasNext() {
+        // given
+        PostSummary post3 = new PostSummary(3L, "Title 3", "author", 0L, null);
+        PostSummary post2 = new PostSummary(2L, "Title 2", "author", 0L, null);
+        PostSummary post1 = new PostSummary(1L, "Title 1", "author", 0L, null);
+
+        given(postRepository.findLatestAfter(eq(Long.MAX_VALUE), any(Limit.class)))
+                .willReturn(Arrays.asList(post3, post2, post1));
+
+        // when
+        CursorResponse<PostsListResponseDto> result = postService.findAllByCursor(null, 2);
+
+        // then
+        assertThat(result.content()).extracting(PostsListResponseDto::id).containsExactly(3L, 2L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(PageCursor.decode(result.nextCursor()).id()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("마지막 커서 페이지는 다음 커서가 없다")
+    void findAllByCursor_lastPage() {
+        // given
+        PostSummary post1 = new PostSummary(1L, "Title 1", "author", 0L, null);
+        String after = PageCursor.of(2L, 2L).encode();
+
+        given(postRepository.findLatestAfter(eq(2L), any(Limit.class))).willReturn(List.of(post1));
+
+        // when
+        CursorResponse<PostsListResponseDto> result = postService.findAllByCursor(after, 2);
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 커서로 조회하면 예외가 발생한다")
+    void findAllByCursor_invalidCursor() {
+        assertThatThrownBy(() -> postService.findAllByCursor("not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("커서");
+    }
+
+    @Test
+    @DisplayName("커서 조회 페이지 크기는 1 ~ 100 사이여야 한다")
+    void findByCursor_invalidSize() {
+        assertThatThrownBy(() -> postService.findAllByCursor(null, Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("페이지 크기");
+        assertThatThrownBy(() -> postService.findPopularByCursor(null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> postService.findByCategoryIdByCursor(1L, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(postRepository, never()).findLatestAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("최신순 첫 페이지는 최신 게시글 버퍼로 응답하고 DB를 조회하지 않는다")
+    void findAllWithPagination_firstPageFromRecentBuffer() {
+        // given
+        PageResponse<PostsListResponseDto> recent = PageResponse.of(
+                List.of(new PostsListResponseDto(2L, "Title 2", "author", 0L, null)), 0, 10, 1, 1);
+        given(recentPostsBuffer.firstPage(10)).willReturn(Optional.of(recent));
+
+        // when
+        PageResponse<PostsListResponseDto> result = postService.findAllWithPagination(0, 10, "id", "desc");
+
+        // then
+        assertThat(result).isSameAs(recent);
+        verify(postRepository, never()).findAllSummaries(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("최신 게시글 첫 페이지는 첫 페이지 캐시에서 읽는다")
+    void findLatest_firstPageFromCache() {
+        // given
+        CursorResponse<PostsListResponseDto> cached = CursorResponse.of(
+                List.of(new PostsListResponseDto(1L, "Title 1", "author", 0L, null)), 20, null);
+        given(postListCache.firstPage(eq(20), any())).willReturn(cached);
+
+        // when
+        CursorResponse<PostsListResponseDto> result = postService.findLatest(null, 20);
+
+        // then
+        assertThat(result).isSameAs(cached);
+        verify(postRepository, never()).findLatestAfter(any(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("최신 게시글 다음 페이지는 캐시 없이 커서로 조회한다")
+    void findLatest_nextPageByCursor() {
+        // given
+        PostSummary post1 = new PostSummary(1L, "Title 1", "author", 0L, null);
+        String after = PageCursor.of(2L, 2L).encode();
+        given(postRepository.findLatestAfter(eq(2L), any(Limit.class))).willReturn(List.of(post1));
+
+        // when
+        CursorResponse<PostsListResponseDto> result = postService.findLatest(after, 20);
+
+        // then
+        assertThat(result.content()).extracting(PostsListResponseDto::id).containsExactly(1L);
+        verify(postListCache, never()).firstPage(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("최신 게시글 목록은 한 번에 100개를 넘게 조회할 수 없다")
+    void findLatest_sizeTooLarge() {
+        assertThatThrownBy(() -> postService.findLatest(null, 101))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("100");
+    }
 }
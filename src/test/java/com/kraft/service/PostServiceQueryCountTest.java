@@ -0,0 +1,89 @@
+package com.kraft.service;
+
+import com.kraft.config.auth.dto.SessionUser;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import com.kraft.web.dto.post.PostSaveRequestDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 작성 쿼리 수 테스트 (hibernate.generate_statistics 사용)
+ */
+@SpringBootTest
+class PostServiceQueryCountTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("게시글 작성 쿼리 수는 작성자의 기존 게시글 수와 무관하다")
+    void save_isConstantRegardlessOfAuthorHistory() {
+        // given
+        User newcomer = userRepository.save(User.of("newcomer", "encoded", "newcomer@example.com"));
+        User prolific = userRepository.save(User.of("prolific", "encoded", "prolific@example.com"));
+
+        List<Post> history = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            history.add(Post.builder().title("Title " + i).content("Content").author(prolific).build());
+        }
+        postRepository.saveAll(history);
+
+        // when
+        long newcomerStatements = countStatements(newcomer);
+        long prolificStatements = countStatements(prolific);
+
+        // then
+        assertThat(prolificStatements).isEqualTo(newcomerStatements);
+        assertThat(statistics.getEntityLoadCount()).isZero();        // users 행을 조회하지 않음
+        assertThat(statistics.getCollectionLoadCount()).isZero();    // 작성자의 게시글 목록을 로딩하지 않음
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    private long countStatements(User author) {
+        PostSaveRequestDto requestDto = PostSaveRequestDto.builder()
+                .title("New Title")
+                .content("New Content")
+                .build();
+
+        statistics.clear();
+        postService.save(requestDto, new SessionUser(author));
+        return statistics.getPrepareStatementCount();
+    }
+}
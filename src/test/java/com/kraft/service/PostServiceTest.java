@@ -2,9 +2,14 @@ package com.kraft.service;
 
 import com.kraft.config.auth.dto.SessionUser;
 import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostChangedEvent;
 import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
 import com.kraft.domain.user.User;
 import com.kraft.domain.user.UserRepository;
+import com.kraft.service.search.PostSearcher;
+import com.kraft.service.search.SearchPage;
+import com.kraft.web.dto.common.PageResponse;
 import com.kraft.web.dto.post.PostResponseDto;
 import com.kraft.web.dto.post.PostSaveRequestDto;
 import com.kraft.web.dto.post.PostUpdateRequestDto;
@@ -16,8 +21,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +31,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +43,12 @@ class PostServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostSearcher postSearcher;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PostService postService;
 
@@ -51,8 +64,9 @@ class PostServiceTest {
                 .content("Test Content")
                 .build();
 
-        given(userRepository.findById(sessionUser.id())).willReturn(Optional.of(author));
-        given(postRepository.save(any(Post.class))).willAnswer(invocation -> {
+        given(userRepository.existsById(sessionUser.id())).willReturn(true);
+        given(userRepository.getReferenceById(sessionUser.id())).willReturn(author);
+        given(postRepository.saveAndFlush(any(Post.class))).willAnswer(invocation -> {
             Post post = invocation.getArgument(0);
             return Post.builder()
                     .title(post.getTitle())
@@ -65,8 +79,9 @@ class PostServiceTest {
         Long postId = postService.save(requestDto, sessionUser);
 
         // then
-        verify(userRepository).findById(sessionUser.id());
-        verify(postRepository).save(any(Post.class));
+        verify(userRepository).getReferenceById(sessionUser.id());
+        verify(postRepository).saveAndFlush(any(Post.class));
+        assertThat(author.getPosts()).isEmpty(); // 작성자의 게시글 컬렉션은 건드리지 않음
     }
 
     @Test
@@ -81,12 +96,35 @@ class PostServiceTest {
                 .content("Test Content")
                 .build();
 
-        given(userRepository.findById(sessionUser.id())).willReturn(Optional.empty());
+        given(userRepository.existsById(sessionUser.id())).willReturn(true);
+        given(userRepository.getReferenceById(sessionUser.id())).willReturn(author);
+        given(postRepository.saveAndFlush(any(Post.class)))
+                .willThrow(new DataIntegrityViolationException("fk_post_author"));
+
+        // expect
+        assertThatThrownBy(() -> postService.save(requestDto, sessionUser))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("사용자");
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자는 남은 세션으로 게시글을 작성할 수 없다")
+    void save_withdrawnUser() {
+        // given
+        User author = User.of("author", "encoded", "author@example.com");
+        SessionUser sessionUser = new SessionUser(author);
+        PostSaveRequestDto requestDto = PostSaveRequestDto.builder()
+                .title("Test Title")
+                .content("Test Content")
+                .build();
+
+        given(userRepository.existsById(sessionUser.id())).willReturn(false);
 
         // expect
         assertThatThrownBy(() -> postService.save(requestDto, sessionUser))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("사용자");
+        verify(postRepository, never()).saveAndFlush(any(Post.class));
     }
 
     @Test
@@ -114,10 +152,11 @@ class PostServiceTest {
         assertThat(result).isEqualTo(1L);
         assertThat(post.getTitle()).isEqualTo("Updated Title");
         assertThat(post.getContent()).isEqualTo("Updated Content");
+        verify(eventPublisher).publishEvent(PostChangedEvent.updated(1L));
     }
 
     @Test
-    @DisplayName("게시글 삭제에 성공한다")
+    @DisplayName("게시글 삭제는 삭제 표시만 한다")
     void delete_success() {
         // given
         User author = User.of("author", "encoded", "author@example.com");
@@ -133,7 +172,27 @@ class PostServiceTest {
         postService.delete(1L);
 
         // then
-        verify(postRepository).delete(post);
+        assertThat(post.isDeleted()).isTrue();
+        verify(postRepository, never()).delete(any(Post.class));
+        verify(eventPublisher).publishEvent(PostChangedEvent.deleted(1L));
+    }
+
+    @Test
+    @DisplayName("관련도 검색 결과가 있으면 관련도 순서대로 게시글을 반환한다")
+    void searchPosts_usesIndexRanking() {
+        // given
+        PostSummary first = new PostSummary(1L, "스프링 부트", "author", 0L, null);
+        PostSummary second = new PostSummary(2L, "스프링", "author", 0L, null);
+
+        given(postSearcher.search("스프링", 0, 10)).willReturn(Optional.of(new SearchPage(2, List.of(2L, 1L))));
+        given(postRepository.findSummariesByIdIn(List.of(2L, 1L))).willReturn(List.of(first, second));
+
+        // when
+        PageResponse<PostsListResponseDto> page = postService.searchPosts("스프링", 0, 10);
+
+        // then
+        assertThat(page.totalElements()).isEqualTo(2);
+        assertThat(page.content()).extracting(PostsListResponseDto::id).containsExactly(2L, 1L);
     }
 
     @Test
@@ -158,25 +217,6 @@ class PostServiceTest {
         assertThat(result.author()).isEqualTo("author");
     }
 
-    @Test
-    @DisplayName("게시글 목록 조회에 성공한다")
-    void findAllDesc_success() {
-        // given
-        User author = User.of("author", "encoded", "author@example.com");
-        Post post1 = Post.builder().title("Title 1").content("Content 1").author(author).build();
-        Post post2 = Post.builder().title("Title 2").content("Content 2").author(author).build();
-
-        given(postRepository.findAllDesc()).willReturn(Arrays.asList(post2, post1));
-
-        // when
-        List<PostsListResponseDto> result = postService.findAllDesc();
-
-        // then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).title()).isEqualTo("Title 2");
-        assertThat(result.get(1).title()).isEqualTo("Title 1");
-    }
-
     @Test
     @DisplayName("존재하지 않는 게시글 조회하면 예외가 발생한다")
     void findById_notFound() {
@@ -0,0 +1,179 @@
+package com.kraft.service;
+
+import com.kraft.common.exception.ResourceNotFoundException;
+import com.kraft.config.auth.dto.SessionUser;
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.comment.CommentRepository;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import com.kraft.service.search.PostSearchIndex;
+import com.kraft.service.search.SearchResult;
+import com.kraft.web.dto.comment.CommentSaveRequestDto;
+import com.kraft.web.dto.post.PostSaveRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TombstonePurgerTest {
+
+    @Autowired
+    private TombstonePurger purger;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @AfterEach
+    void tearDown() {
+        // 삭제 표시된 행은 @SQLRestriction 때문에 deleteAllInBatch로 지워지지 않으므로 JDBC로 정리
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 게시글은 즉시 조회에서 빠지고 정리 작업이 댓글과 함께 삭제한다")
+    void deletedPost_isHiddenThenPurged() {
+        // given
+        User author = userRepository.save(User.of("purgeAuthor", "encoded", "purge-author@example.com"));
+        Post post = postRepository.save(Post.builder().title("Title").content("Content").author(author).build());
+        Long commentId = commentService.save(post.getId(), comment("Comment"), new SessionUser(author));
+        commentService.saveReply(post.getId(), commentId, comment("Reply"), new SessionUser(author));
+
+        // when
+        postService.delete(post.getId());
+
+        // then
+        assertThat(postRepository.findById(post.getId())).isEmpty();
+        assertThat(postRepository.findLatestAfter(Long.MAX_VALUE, Limit.of(10))).isEmpty();
+        assertThat(commentRepository.findThreadByPostId(post.getId())).isEmpty();
+        assertThat(countRows("posts")).isEqualTo(1);
+
+        assertThat(purger.purge()).isEqualTo(1);
+        assertThat(countRows("posts")).isZero();
+        assertThat(countRows("comments")).isZero();
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 게시글은 검색 색인에서 빠지고 재구축에도 들어가지 않는다")
+    void deletedUser_removedFromSearchIndex() {
+        // given
+        User leaving = userRepository.save(User.of("indexLeaving", "encoded", "index-leaving@example.com"));
+        User staying = userRepository.save(User.of("indexStaying", "encoded", "index-staying@example.com"));
+        postRepository.save(Post.builder().title("색인탈퇴검증 떠남").content("Content").author(leaving).build());
+        postRepository.save(Post.builder().title("색인탈퇴검증 남음").content("Content").author(staying).build());
+        postSearchIndex.rebuild();
+        assertThat(postSearchIndex.search("색인탈퇴검증", 10)).map(SearchResult::totalHits).contains(2);
+
+        // when
+        userService.delete(leaving.getId());
+
+        // then
+        assertThat(postSearchIndex.search("색인탈퇴검증", 10)).map(SearchResult::totalHits).contains(1);
+        postSearchIndex.rebuild();
+        assertThat(postSearchIndex.search("색인탈퇴검증", 10)).map(SearchResult::totalHits).contains(1);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자는 남은 세션으로 게시글을 작성할 수 없다")
+    void deletedUser_cannotWritePost() {
+        // given
+        User leaving = userRepository.save(User.of("sessionLeaving", "encoded", "session-leaving@example.com"));
+        SessionUser session = new SessionUser(leaving);
+        userService.delete(leaving.getId());
+
+        // expect
+        assertThatThrownBy(() -> postService.save(
+                PostSaveRequestDto.builder().title("Title").content("Content").build(), session))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(countRows("posts")).isZero();
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 로그인 ID와 이메일로 정리 전에도 다시 가입할 수 있다")
+    void deletedUser_releasesNameAndEmail() {
+        // given
+        Long leavingId = userService.register("rejoiner", "password1234", "rejoiner@example.com");
+        userService.delete(leavingId);
+
+        // when
+        Long rejoinedId = userService.register("rejoiner", "password1234", "rejoiner@example.com");
+
+        // then
+        assertThat(rejoinedId).isNotEqualTo(leavingId);
+        assertThat(userService.findByName("rejoiner").getId()).isEqualTo(rejoinedId);
+        assertThat(countRows("users")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("탈퇴 표시된 사용자의 게시글과 댓글은 즉시 조회에서 빠지고 정리 작업이 삭제한다")
+    void deletedUser_isHiddenThenPurged() {
+        // given
+        User leaving = userRepository.save(User.of("leaving", "encoded", "leaving@example.com"));
+        User staying = userRepository.save(User.of("staying", "encoded", "staying@example.com"));
+        postRepository.save(Post.builder().title("Leaving Post").content("Content").author(leaving).build());
+        Post stayingPost = postRepository.save(Post.builder().title("Staying Post").content("Content").author(staying).build());
+
+        Long leavingComment = commentService.save(stayingPost.getId(), comment("Bye"), new SessionUser(leaving));
+        commentService.saveReply(stayingPost.getId(), leavingComment, comment("Reply"), new SessionUser(staying));
+        commentService.save(stayingPost.getId(), comment("Stay"), new SessionUser(staying));
+
+        // when
+        userService.delete(leaving.getId());
+
+        // then
+        assertThat(userRepository.findById(leaving.getId())).isEmpty();
+        assertThat(postRepository.findLatestAfter(Long.MAX_VALUE, Limit.of(10)))
+                .extracting(PostSummary::title).containsExactly("Staying Post");
+        assertThat(commentRepository.findThreadByPostId(stayingPost.getId()))
+                .extracting(Comment::getContent)
+                .doesNotContain("Bye");
+
+        assertThat(purger.purge()).isEqualTo(1);
+        assertThat(countRows("users")).isEqualTo(1);
+        assertThat(countRows("posts")).isEqualTo(1);
+        assertThat(commentRepository.findThreadByPostId(stayingPost.getId()))
+                .extracting(Comment::getContent)
+                .containsExactly("Stay");
+        assertThat(postRepository.findCommentCountById(stayingPost.getId())).contains(1L);
+    }
+
+    private CommentSaveRequestDto comment(String content) {
+        return CommentSaveRequestDto.builder().content(content).build();
+    }
+
+    private long countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
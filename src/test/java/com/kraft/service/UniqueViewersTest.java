@@ -0,0 +1,119 @@
+package com.kraft.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class UniqueViewersTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Redis를 쓰지 않으면 노드별로 같은 방문자의 재조회를 거르고 추정치는 없다")
+    void visit_localFallback() {
+        // given
+        UniqueViewers uniqueViewers = new UniqueViewers(null, meterRegistry, false, 48, 100);
+
+        // when
+        UniqueViewers.Visit first = uniqueViewers.visit(1L, "user:1");
+        UniqueViewers.Visit repeat = uniqueViewers.visit(1L, "user:1");
+        UniqueViewers.Visit otherPost = uniqueViewers.visit(2L, "user:1");
+
+        // then
+        assertThat(first.first()).isTrue();
+        assertThat(first.uniqueViewers()).isNull();
+        assertThat(repeat.first()).isFalse();
+        assertThat(otherPost.first()).isTrue();
+        assertThat(meterRegistry.get("post.views").tag("result", "repeat").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("SADD가 0이면 재조회로 판정하고 PFCOUNT를 추정치로 응답한다")
+    @SuppressWarnings("unchecked")
+    void visit_redis() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        UniqueViewers uniqueViewers = new UniqueViewers(redisTemplate, meterRegistry, true, 48, 100);
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(List.of(1L, 1L, 3L, true, true))
+                .willReturn(List.of(0L, 0L, 3L, true, true));
+
+        // when
+        UniqueViewers.Visit first = uniqueViewers.visit(1L, "session:abc");
+        UniqueViewers.Visit repeat = uniqueViewers.visit(1L, "session:abc");
+
+        // then
+        assertThat(first).isEqualTo(new UniqueViewers.Visit(true, 3L));
+        assertThat(repeat).isEqualTo(new UniqueViewers.Visit(false, 3L));
+    }
+
+    @Test
+    @DisplayName("방문자가 많아 PFADD가 0을 반환해도 새 방문자는 모두 처음 방문으로 판정한다")
+    @SuppressWarnings("unchecked")
+    void visit_redisHighCardinality() {
+        // given: SADD는 실제 SET처럼, PFADD는 레지스터가 포화돼 항상 0을 반환하는 Redis
+        int viewers = 100_000;
+        Set<String> members = new HashSet<>();
+        List<Object> results = new ArrayList<>();
+        StringRedisConnection connection = mock(StringRedisConnection.class, invocation -> {
+            switch (invocation.getMethod().getName()) {
+                case "sAdd" -> results.add(members.add(invocation.getArgument(0) + " " + invocation.getArgument(1)) ? 1L : 0L);
+                case "pfAdd" -> results.add(0L);
+                case "pfCount" -> results.add((long) members.size());
+                case "expire" -> results.add(true);
+                default -> throw new UnsupportedOperationException(invocation.getMethod().getName());
+            }
+            return null;
+        });
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willAnswer(invocation -> {
+            results.clear();
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return new ArrayList<>(results);
+        });
+        UniqueViewers uniqueViewers = new UniqueViewers(redisTemplate, meterRegistry, true, 48, 100);
+
+        // when
+        for (int i = 0; i < viewers; i++) {
+            uniqueViewers.visit(1L, "session:" + i);
+        }
+        for (int i = 0; i < viewers; i += 10) {
+            uniqueViewers.visit(1L, "session:" + i);
+        }
+
+        // then
+        assertThat(meterRegistry.get("post.views").tag("result", "first").counter().count()).isEqualTo(viewers);
+        assertThat(meterRegistry.get("post.views").tag("result", "repeat").counter().count()).isEqualTo(viewers / 10);
+    }
+
+    @Test
+    @DisplayName("Redis 오류면 노드별 중복 확인으로 대체한다")
+    @SuppressWarnings("unchecked")
+    void visit_redisFailure() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        UniqueViewers uniqueViewers = new UniqueViewers(redisTemplate, meterRegistry, true, 48, 100);
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willThrow(new IllegalStateException("down"));
+
+        // when
+        UniqueViewers.Visit first = uniqueViewers.visit(1L, "user:1");
+        UniqueViewers.Visit repeat = uniqueViewers.visit(1L, "user:1");
+
+        // then
+        assertThat(first.first()).isTrue();
+        assertThat(repeat.first()).isFalse();
+    }
+}
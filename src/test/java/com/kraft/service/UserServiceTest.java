@@ -3,6 +3,7 @@ package com.kraft.service;
 import com.kraft.domain.user.Role;
 import com.kraft.domain.user.User;
 import com.kraft.domain.user.UserRepository;
+import com.kraft.domain.user.UserWithdrawnEvent;
 import com.kraft.web.dto.user.UserProfileResponseDto;
 import com.kraft.common.exception.DuplicateResourceException;
 import com.kraft.common.exception.UnauthorizedException;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -20,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +34,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -155,7 +161,11 @@ class UserServiceTest {
         userService.delete(1L);
 
         // then
-        verify(userRepository).delete(user);
+        assertThat(user.getDeletedAt()).isNotNull();
+        assertThat(user.getName()).isNotEqualTo("testuser");
+        assertThat(user.getEmail()).isNotEqualTo("test@example.com");
+        verify(userRepository, never()).delete(any(User.class));
+        verify(eventPublisher).publishEvent(new UserWithdrawnEvent(1L));
     }
 }
 
@@ -0,0 +1,118 @@
+package com.kraft.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("N명이 동시에 조회하면 정확히 N만큼 조회수가 반영된다")
+    void concurrentReaders_flushExactlyN() throws Exception {
+        // given
+        ViewCountBuffer buffer = new ViewCountBuffer(jdbcTemplate, TransactionOperations.withoutTransaction(), event -> { });
+        AtomicLong flushed = new AtomicLong();
+        given(jdbcTemplate.batchUpdate(eq(ViewCountBuffer.FLUSH_SQL), anyList())).willAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            batch.forEach(args -> flushed.addAndGet((Long) args[0]));
+            return new int[batch.size()];
+        });
+
+        int threads = 16;
+        int viewsPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch readersDone = new CountDownLatch(threads);
+        AtomicBoolean reading = new AtomicBoolean(true);
+
+        // when - 조회와 동시에 반영 작업도 계속 실행
+        executor.submit(() -> {
+            start.await();
+            while (reading.get()) {
+                buffer.flush();
+            }
+            return null;
+        });
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < viewsPerThread; j++) {
+                    buffer.increment(1L);
+                }
+                readersDone.countDown();
+                return null;
+            });
+        }
+        start.countDown();
+        readersDone.await(30, TimeUnit.SECONDS);
+        reading.set(false);
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        buffer.flush();
+
+        // then
+        assertThat(flushed.get()).isEqualTo((long) threads * viewsPerThread);
+        assertThat(buffer.pendingCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 누적 조회수를 되돌려 다음 반영 때 재시도한다")
+    void flushFailure_requeuesPendingViews() {
+        // given
+        ViewCountBuffer buffer = new ViewCountBuffer(jdbcTemplate, TransactionOperations.withoutTransaction(), event -> { });
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        given(jdbcTemplate.batchUpdate(eq(ViewCountBuffer.FLUSH_SQL), anyList()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.pendingCount(1L)).isEqualTo(2L);
+        assertThat(buffer.pendingCount(2L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션을 시작하지 못해도 누적 조회수를 되돌린다")
+    void transactionFailure_requeuesPendingViews() {
+        // given
+        TransactionOperations unavailable = callback -> {
+            throw new CannotCreateTransactionException("connection refused");
+        };
+        ViewCountBuffer buffer = new ViewCountBuffer(jdbcTemplate, unavailable, event -> { });
+        buffer.increment(1L);
+        buffer.increment(1L);
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.pendingCount(1L)).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,103 @@
+package com.kraft.service.cache;
+
+import com.kraft.domain.category.Category;
+import com.kraft.domain.category.CategoryChangedEvent;
+import com.kraft.domain.category.CategoryRepository;
+import com.kraft.web.dto.category.CategoryResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCacheTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Test
+    @DisplayName("스냅샷은 한 번만 구성하고 이후 조회는 DB를 거치지 않는다")
+    void snapshot_loadsOnce() {
+        // given
+        CategoryCache categoryCache = new CategoryCache(categoryRepository, null, false);
+        given(categoryRepository.findAllOrderByDisplayOrder()).willReturn(List.of(category(1L, "공지사항")));
+
+        // when
+        categoryCache.snapshot();
+        CategorySnapshot snapshot = categoryCache.snapshot();
+
+        // then
+        assertThat(snapshot.findById(1L)).isPresent();
+        assertThat(snapshot.findByName("공지사항")).isPresent();
+        verify(categoryRepository, times(1)).findAllOrderByDisplayOrder();
+    }
+
+    @Test
+    @DisplayName("이름 조회는 DB 콜레이션처럼 대소문자를 구분하지 않는다")
+    void findByName_caseInsensitive() {
+        // given
+        CategorySnapshot snapshot = CategorySnapshot.of(1L, List.of(
+                new CategoryResponseDto(1L, "Notice", null, 0)));
+
+        // when & then
+        assertThat(snapshot.findByName("notice")).isPresent();
+        assertThat(snapshot.findByName("NOTICE")).isPresent();
+        assertThat(snapshot.findByName("news")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 알림을 놓쳐도 주기 재구성으로 DB 변경을 반영하고, 실패하면 기존 스냅샷을 유지한다")
+    void scheduledRefresh_catchesMissedChanges() {
+        // given
+        CategoryCache categoryCache = new CategoryCache(categoryRepository, null, false);
+        given(categoryRepository.findAllOrderByDisplayOrder())
+                .willReturn(List.of(category(1L, "공지사항")))
+                .willReturn(List.of(category(1L, "공지사항"), category(2L, "자유게시판")))
+                .willThrow(new IllegalStateException("db down"));
+        categoryCache.snapshot();
+
+        // when
+        categoryCache.scheduledRefresh();
+        categoryCache.scheduledRefresh();
+
+        // then
+        assertThat(categoryCache.snapshot().findById(2L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("카테고리가 변경되면 새 스냅샷으로 교체한다")
+    void onCategoryChanged_swapsSnapshot() {
+        // given
+        CategoryCache categoryCache = new CategoryCache(categoryRepository, null, false);
+        given(categoryRepository.findAllOrderByDisplayOrder())
+                .willReturn(List.of(category(1L, "공지사항")))
+                .willReturn(List.of(category(1L, "공지사항"), category(2L, "질문")));
+        CategorySnapshot before = categoryCache.snapshot();
+
+        // when
+        categoryCache.onCategoryChanged(new CategoryChangedEvent(2L));
+
+        // then
+        assertThat(before.all()).hasSize(1);
+        assertThat(categoryCache.snapshot().all()).hasSize(2);
+        assertThat(categoryCache.snapshot().version()).isGreaterThan(before.version());
+    }
+
+    private Category category(Long id, String name) {
+        Category category = Category.builder()
+                .name(name)
+                .displayOrder(0)
+                .build();
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+}
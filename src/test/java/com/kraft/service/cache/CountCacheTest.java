@@ -0,0 +1,84 @@
+package com.kraft.service.cache;
+
+import com.kraft.domain.post.PostChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountCacheTest {
+
+    private final CountCache countCache = new CountCache(new SimpleMeterRegistry(), 100, 60);
+
+    @Test
+    @DisplayName("처음에는 COUNT 쿼리로 정확한 값을, 이후에는 캐시된 추정값을 반환한다")
+    void get_countsOnce() {
+        // given
+        AtomicInteger queries = new AtomicInteger();
+
+        // when
+        TotalCount first = countCache.get(CountKey.posts(), () -> {
+            queries.incrementAndGet();
+            return 42;
+        });
+        TotalCount second = countCache.get(CountKey.posts(), () -> {
+            queries.incrementAndGet();
+            return 99;
+        });
+
+        // then
+        assertThat(first).isEqualTo(new TotalCount(42, true));
+        assertThat(second).isEqualTo(new TotalCount(42, false));
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("게시글 작성/삭제 커밋 시 전체와 카테고리별 개수를 증감한다")
+    void onPostChanged_adjustsCounts() {
+        // given
+        countCache.get(CountKey.posts(), () -> 10);
+        countCache.get(CountKey.categoryPosts(1L), () -> 3);
+
+        // when
+        countCache.onPostChanged(PostChangedEvent.created(100L, 1L));
+        countCache.onPostChanged(PostChangedEvent.created(101L));
+        countCache.onPostChanged(PostChangedEvent.deleted(50L, 1L));
+        countCache.onPostChanged(PostChangedEvent.updated(100L));
+
+        // then
+        assertThat(countCache.get(CountKey.posts(), () -> 0).value()).isEqualTo(11);
+        assertThat(countCache.get(CountKey.categoryPosts(1L), () -> 0).value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("보정 작업은 개수를 다시 세고 검색어별 개수는 버린다")
+    void reconcile() {
+        // given
+        AtomicLong actual = new AtomicLong(10);
+        countCache.get(CountKey.posts(), actual::get);
+        countCache.get(CountKey.search("spring"), () -> 5);
+        countCache.adjust(CountKey.posts(), 3);
+        actual.set(12);
+
+        // when
+        countCache.reconcile();
+
+        // then
+        assertThat(countCache.get(CountKey.posts(), () -> 0)).isEqualTo(new TotalCount(12, false));
+        assertThat(countCache.get(CountKey.search("spring"), () -> 7)).isEqualTo(new TotalCount(7, true));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지를 조회하면 추정값 대신 정확한 개수로 보정한다")
+    void totalCount_alignWith() {
+        TotalCount estimated = new TotalCount(100, false);
+
+        assertThat(estimated.alignWith(2, 10, 4, false)).isEqualTo(new TotalCount(24, true));
+        assertThat(estimated.alignWith(20, 10, 10, true)).isEqualTo(new TotalCount(211, false));
+        assertThat(estimated.alignWith(3, 10, 10, true)).isSameAs(estimated);
+    }
+}
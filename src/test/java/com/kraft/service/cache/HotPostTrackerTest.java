@@ -0,0 +1,101 @@
+package com.kraft.service.cache;
+
+import com.kraft.web.dto.post.HotPostResponseDto;
+import com.kraft.web.dto.post.HotPostsResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotPostTrackerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("카운터 수보다 키가 많아도 자주 나온 키는 남고 추정치는 실제 이상이다")
+    void spaceSaving_keepsHeavyHitters() {
+        // given
+        SpaceSaving summary = new SpaceSaving(8);
+
+        // when
+        for (long key = 100; key < 200; key++) {
+            summary.offer(key);
+            summary.offer(1L);
+            summary.offer(1L);
+            if (key % 2 == 0) {
+                summary.offer(2L);
+            }
+        }
+
+        // then
+        List<SpaceSaving.Estimate> top = summary.top(2);
+        assertThat(top).extracting(SpaceSaving.Estimate::key).containsExactly(1L, 2L);
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(200);
+        assertThat(top.get(1).count() - top.get(1).error()).isLessThanOrEqualTo(50);
+        assertThat(summary.total()).isEqualTo(350);
+    }
+
+    @Test
+    @DisplayName("스레드별 stripe에 나눠 기록해도 합친 추정치는 실제 빈도 이상이다")
+    void stripedSpaceSaving_mergesStripes() throws InterruptedException {
+        // given
+        StripedSpaceSaving summary = new StripedSpaceSaving(4, 4);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            long base = 100L + t * 10;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10; i++) {
+                    for (int j = 0; j < 5; j++) {
+                        summary.offer(1L);
+                    }
+                    summary.offer(base + i);
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        SpaceSaving.Estimate top = summary.top(1).get(0);
+        assertThat(top.key()).isEqualTo(1L);
+        assertThat(top.count()).isGreaterThanOrEqualTo(200);
+        assertThat(top.count() - top.error()).isLessThanOrEqualTo(200);
+        assertThat(summary.total()).isEqualTo(240);
+    }
+
+    @Test
+    @DisplayName("구간이 끝나면 상위 게시글과 초당 요청 수를 스냅샷으로 남기고 새로 집계한다")
+    void rotate_snapshotsTopPosts() {
+        // given
+        HotPostTracker tracker = new HotPostTracker(meterRegistry, 100, 2);
+        for (int i = 0; i < 5; i++) {
+            tracker.recordRead(1L);
+        }
+        tracker.recordRead(2L);
+        tracker.recordRead(3L);
+        tracker.recordRead(3L);
+        tracker.recordCacheMiss(1L);
+
+        // when
+        tracker.rotate();
+
+        // then
+        HotPostsResponseDto snapshot = tracker.snapshot();
+        assertThat(snapshot.reads()).extracting(HotPostResponseDto::postId).containsExactly(1L, 3L);
+        assertThat(snapshot.totalReads()).isEqualTo(8);
+        assertThat(snapshot.cacheMisses()).extracting(HotPostResponseDto::postId).containsExactly(1L);
+        assertThat(meterRegistry.get("post.hot.rate").tag("source", "read").tag("rank", "1").gauge().value())
+                .isEqualTo(snapshot.reads().get(0).ratePerSecond());
+
+        tracker.rotate();
+        assertThat(tracker.snapshot().reads()).isEmpty();
+    }
+}
@@ -0,0 +1,152 @@
+package com.kraft.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraft.common.exception.ResourceNotFoundException;
+import com.kraft.domain.post.PostChangedEvent;
+import com.kraft.service.ViewCountFlushedEvent;
+import com.kraft.web.dto.post.PostResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HotPostTracker hotPostTracker = new HotPostTracker(meterRegistry, 100, 10);
+    private final PostCache postCache = new PostCache(null, new ObjectMapper(), hotPostTracker, meterRegistry, false, 100, 60, 300);
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, PostResponseDto> loader = id -> {
+        loads.incrementAndGet();
+        return new PostResponseDto(id, "Title", "Content", "author", 10L);
+    };
+
+    @Test
+    @DisplayName("두 번째 조회부터는 L1 캐시에서 반환한다")
+    void get_cachesInLocal() {
+        // when
+        postCache.get(1L, loader);
+        postCache.get(1L, loader);
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "post.l1").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("게시글이 수정되면 캐시에서 제거한다")
+    void onPostChanged_evicts() {
+        // given
+        postCache.get(1L, loader);
+
+        // when
+        postCache.onPostChanged(PostChangedEvent.updated(1L));
+        postCache.get(1L, loader);
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회수가 반영되면 캐시된 조회수를 반영분만큼 올린다")
+    void onViewCountFlushed_adjustsViewCount() {
+        // given
+        postCache.get(1L, loader);
+
+        // when
+        postCache.onViewCountFlushed(new ViewCountFlushedEvent(Map.of(1L, 5L)));
+
+        // then
+        assertThat(postCache.get(1L, loader).viewCount()).isEqualTo(15L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 게시글의 동시 캐시 미스는 조회 한 번의 결과를 함께 받는다")
+    void get_coalescesConcurrentMisses() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Long, PostResponseDto> slowLoader = id -> {
+            loading.countDown();
+            awaitLatch(release);
+            return loader.apply(id);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<PostResponseDto> first = executor.submit(() -> postCache.get(1L, slowLoader));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<PostResponseDto> second = executor.submit(() -> postCache.get(1L, slowLoader));
+            Counter coalesced = meterRegistry.get("cache.loads.coalesced").tag("cache", "post").counter();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced.count() < 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // then
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+            assertThat(loads).hasValue(1);
+            assertThat(coalesced.count()).isEqualTo(1.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐시하지 않고 다음 미스에서 다시 조회한다")
+    void get_failureNotCached() {
+        // given
+        Function<Long, PostResponseDto> failing = id -> {
+            throw new ResourceNotFoundException("게시글", id);
+        };
+
+        // when & then
+        assertThatThrownBy(() -> postCache.get(1L, failing)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(postCache.get(1L, loader).id()).isEqualTo(1L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회 중에 조회수가 반영되면 조회 결과는 응답만 하고 캐시에 넣지 않는다")
+    void get_flushDuringLoadNotCached() {
+        // given
+        Function<Long, PostResponseDto> flushingLoader = id -> {
+            PostResponseDto loaded = loader.apply(id);
+            postCache.onViewCountFlushed(new ViewCountFlushedEvent(Map.of(id, 5L)));
+            return loaded;
+        };
+
+        // when
+        PostResponseDto first = postCache.get(1L, flushingLoader);
+        postCache.get(1L, loader);
+
+        // then
+        assertThat(first.viewCount()).isEqualTo(10L);
+        assertThat(loads).hasValue(2);
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
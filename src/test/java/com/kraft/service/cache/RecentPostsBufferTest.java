@@ -0,0 +1,118 @@
+package com.kraft.service.cache;
+
+import com.kraft.domain.post.PostChangedEvent;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.service.ViewCountFlushedEvent;
+import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.post.PostsListResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RecentPostsBufferTest {
+
+    private static final int CAPACITY = 5;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Test
+    @DisplayName("재적재 후 최신순 첫 페이지를 버퍼에서 응답한다")
+    void firstPage_servedFromBuffer() {
+        // given
+        RecentPostsBuffer buffer = seeded(10, 9, 8, 7, 6);
+
+        // when
+        Optional<PageResponse<PostsListResponseDto>> page = buffer.firstPage(3);
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().content()).extracting(PostsListResponseDto::id).containsExactly(10L, 9L, 8L);
+        assertThat(page.get().totalElements()).isEqualTo(10);
+        assertThat(page.get().totalPages()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("버퍼보다 큰 페이지는 DB 조회로 넘긴다")
+    void firstPage_largerThanBuffer() {
+        RecentPostsBuffer buffer = seeded(10, 9, 8, 7, 6);
+
+        assertThat(buffer.firstPage(CAPACITY + 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 게시글은 맨 앞에 들어가고 가장 오래된 항목이 밀려난다")
+    void onPostChanged_created() {
+        // given
+        RecentPostsBuffer buffer = seeded(10, 9, 8, 7, 6);
+        given(postRepository.findSummariesByIdIn(List.of(11L))).willReturn(List.of(summary(11)));
+
+        // when
+        buffer.onPostChanged(PostChangedEvent.created(11L));
+
+        // then
+        PageResponse<PostsListResponseDto> page = buffer.firstPage(CAPACITY).orElseThrow();
+        assertThat(page.content()).extracting(PostsListResponseDto::id).containsExactly(11L, 10L, 9L, 8L, 7L);
+        assertThat(page.totalElements()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 빠지고 빈 자리는 다음으로 오래된 게시글로 보충한다")
+    void onPostChanged_deleted() {
+        // given
+        RecentPostsBuffer buffer = seeded(10, 9, 8, 7, 6);
+        given(postRepository.findLatestAfter(eq(6L), any(Limit.class))).willReturn(List.of(summary(5)));
+
+        // when
+        buffer.onPostChanged(PostChangedEvent.deleted(8L));
+
+        // then
+        PageResponse<PostsListResponseDto> page = buffer.firstPage(CAPACITY).orElseThrow();
+        assertThat(page.content()).extracting(PostsListResponseDto::id).containsExactly(10L, 9L, 7L, 6L, 5L);
+        assertThat(page.totalElements()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("조회수 반영 시 버퍼의 조회수를 보정한다")
+    void onViewCountFlushed() {
+        // given
+        RecentPostsBuffer buffer = seeded(10, 9, 8, 7, 6);
+
+        // when
+        buffer.onViewCountFlushed(new ViewCountFlushedEvent(Map.of(9L, 3L)));
+
+        // then
+        assertThat(buffer.firstPage(2).orElseThrow().content())
+                .extracting(PostsListResponseDto::viewCount)
+                .containsExactly(0L, 3L);
+    }
+
+    private RecentPostsBuffer seeded(long... ids) {
+        RecentPostsBuffer buffer = new RecentPostsBuffer(postRepository, null, new SimpleMeterRegistry(), false, CAPACITY);
+        given(postRepository.findLatestAfter(eq(Long.MAX_VALUE), any(Limit.class)))
+                .willReturn(LongStream.of(ids).mapToObj(this::summary).toList());
+        given(postRepository.countVisible()).willReturn(10L);
+        buffer.reseed();
+        return buffer;
+    }
+
+    private PostSummary summary(long id) {
+        return new PostSummary(id, "Title " + id, "author", 0L, null);
+    }
+}
@@ -0,0 +1,127 @@
+package com.kraft.service.ranking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.post.PostsListResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PopularPostRankingTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private PopularPostRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new PopularPostRanking(postRepository, redisTemplate, objectMapper, new SimpleMeterRegistry(),
+                true, 600, 3600);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("준비되기 전에는 DB 조회로 넘긴다")
+    void page_notReady() {
+        assertThat(ranking.page(0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순위 순서대로 캐시된 목록 DTO를 읽고 조회수는 순위 점수로 응답한다")
+    void page_servedFromRanking() throws Exception {
+        // given
+        markReady();
+        Set<TypedTuple<String>> ranked = new LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>(PopularPostRanking.member(2L), 50.0),
+                new DefaultTypedTuple<>(PopularPostRanking.member(1L), 30.0)));
+        given(zSetOperations.reverseRangeWithScores(PopularPostRanking.RANKING_KEY, 0, 1)).willReturn(ranked);
+        given(zSetOperations.zCard(PopularPostRanking.RANKING_KEY)).willReturn(3L);
+        given(valueOperations.multiGet(List.of("kraft:ranking:summary:2", "kraft:ranking:summary:1")))
+                .willReturn(Arrays.asList(
+                        objectMapper.writeValueAsString(new PostsListResponseDto(2L, "Title 2", "author", 40L, null)),
+                        objectMapper.writeValueAsString(new PostsListResponseDto(1L, "Title 1", "author", 30L, null))));
+
+        // when
+        Optional<PageResponse<PostsListResponseDto>> page = ranking.page(0, 2);
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().content()).extracting(PostsListResponseDto::id).containsExactly(2L, 1L);
+        assertThat(page.get().content()).extracting(PostsListResponseDto::viewCount).containsExactly(50L, 30L);
+        assertThat(page.get().totalElements()).isEqualTo(3);
+        assertThat(page.get().totalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 목록 DTO만 DB에서 읽고, DB에도 없는 게시글은 순위에서 제거한다")
+    void page_loadsMissingSummaries() {
+        // given
+        markReady();
+        Set<TypedTuple<String>> ranked = new LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>(PopularPostRanking.member(2L), 50.0),
+                new DefaultTypedTuple<>(PopularPostRanking.member(1L), 30.0)));
+        given(zSetOperations.reverseRangeWithScores(PopularPostRanking.RANKING_KEY, 0, 1)).willReturn(ranked);
+        given(zSetOperations.zCard(PopularPostRanking.RANKING_KEY)).willReturn(2L);
+        given(valueOperations.multiGet(any())).willReturn(Arrays.asList(null, null));
+        given(postRepository.findSummariesByIdIn(List.of(2L, 1L)))
+                .willReturn(List.of(new PostSummary(2L, "Title 2", "author", 45L, null)));
+
+        // when
+        Optional<PageResponse<PostsListResponseDto>> page = ranking.page(0, 2);
+
+        // then
+        assertThat(page.orElseThrow().content()).extracting(PostsListResponseDto::id).containsExactly(2L);
+        verify(zSetOperations).remove(PopularPostRanking.RANKING_KEY, PopularPostRanking.member(1L));
+    }
+
+    @Test
+    @DisplayName("멤버는 19자리로 0을 채워 문자열 순서가 ID 순서와 같다")
+    void member_ordersLikeId() {
+        assertThat(PopularPostRanking.member(42L)).isEqualTo("0000000000000000042");
+        assertThat(PopularPostRanking.member(Long.MAX_VALUE)).isEqualTo(String.valueOf(Long.MAX_VALUE));
+        assertThat(PopularPostRanking.member(999L)).isLessThan(PopularPostRanking.member(1000L));
+        assertThat(Long.valueOf(PopularPostRanking.member(42L))).isEqualTo(42L);
+    }
+
+    private void markReady() {
+        given(redisTemplate.hasKey(PopularPostRanking.READY_KEY)).willReturn(true);
+        ranking.ensureBuilt();
+    }
+}
@@ -0,0 +1,117 @@
+package com.kraft.service.ranking;
+
+import com.kraft.domain.post.PostChangedEvent;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.service.ViewCountFlushedEvent;
+import com.kraft.web.dto.post.TrendingPostResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingPostsTest {
+
+    private static final long HOUR = PostViewSlots.HOUR_MS;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Test
+    @DisplayName("구간 조회수가 많은 게시글 순으로 스냅샷을 만든다")
+    void refresh_ranksByScore() {
+        // given
+        TrendingPosts trending = new TrendingPosts(postRepository, null, null, 0, false, 10);
+        given(postRepository.findSummariesByIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> new PostSummary(id, "Title " + id, "author", 0L, null)).toList();
+        });
+        trending.onViewCountFlushed(new ViewCountFlushedEvent(Map.of(1L, 3L, 2L, 10L, 3L, 5L)));
+
+        // when
+        trending.refresh();
+
+        // then
+        List<TrendingPostResponseDto> hour = trending.trending(TrendingWindow.HOUR, 10);
+        assertThat(hour).extracting(TrendingPostResponseDto::id).containsExactly(2L, 3L, 1L);
+        assertThat(hour).extracting(TrendingPostResponseDto::windowViews).containsExactly(10L, 5L, 3L);
+        assertThat(trending.trending(TrendingWindow.WEEK, 2)).extracting(TrendingPostResponseDto::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 다음 갱신을 기다리지 않고 스냅샷에서 빠진다")
+    void onPostChanged_deleted() {
+        // given
+        TrendingPosts trending = new TrendingPosts(postRepository, null, null, 0, false, 10);
+        given(postRepository.findSummariesByIdIn(anyCollection()))
+                .willReturn(List.of(new PostSummary(1L, "Title 1", "author", 0L, null)));
+        trending.onViewCountFlushed(new ViewCountFlushedEvent(Map.of(1L, 3L)));
+        trending.refresh();
+
+        // when
+        trending.onPostChanged(PostChangedEvent.deleted(1L));
+
+        // then
+        assertThat(trending.trending(TrendingWindow.DAY, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 구간이나 범위를 벗어난 개수는 거부한다")
+    void trending_invalidRequest() {
+        TrendingPosts trending = new TrendingPosts(postRepository, null, null, 0, false, 10);
+
+        assertThatThrownBy(() -> TrendingWindow.from("month")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trending.trending(TrendingWindow.DAY, 11)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("오래된 슬롯일수록 반감기에 따라 점수가 줄고 구간을 벗어나면 빠진다")
+    void postViewSlots_decay() {
+        // given
+        long now = 1_000 * HOUR + HOUR / 2;
+        PostViewSlots slots = new PostViewSlots();
+        slots.record(now - 6 * HOUR, 100);  // 6시간 전 슬롯: DAY 반감기(6시간)만큼 감쇠
+        slots.record(now - 30 * HOUR, 50);  // 1일 구간 밖
+
+        // when
+        PostViewSlots.Score day = slots.score(TrendingWindow.DAY, now);
+        PostViewSlots.Score week = slots.score(TrendingWindow.WEEK, now);
+
+        // then
+        assertThat(day.views()).isEqualTo(100);
+        assertThat(day.score()).isCloseTo(50.0, within(1.0));
+        assertThat(week.views()).isEqualTo(150);
+        assertThat(slots.score(TrendingWindow.HOUR, now).views()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장 이후 바뀐 시간 슬롯만 저장 대상이다")
+    void postViewSlots_pending() {
+        // given
+        long now = 1_000 * HOUR;
+        PostViewSlots slots = new PostViewSlots();
+        slots.load(1_000, 7, true, now);
+        slots.load(999, 4, false, now);
+
+        // when
+        List<PostViewSlots.PendingRow> before = slots.pending(1L);
+        slots.record(now, 3);
+        List<PostViewSlots.PendingRow> after = slots.pending(1L);
+
+        // then
+        assertThat(before).isEmpty();
+        assertThat(after).containsExactly(new PostViewSlots.PendingRow(1L, 1_000, 10));
+    }
+}
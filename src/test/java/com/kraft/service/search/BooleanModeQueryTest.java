@@ -0,0 +1,39 @@
+package com.kraft.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BooleanModeQueryTest {
+
+    @Test
+    @DisplayName("일반 검색어는 어절마다 필수 + 접두 일치 검색식으로 변환한다")
+    void plainKeyword() {
+        assertThat(BooleanModeQuery.of("스프링 Boot!")).isEqualTo("+스프링* +boot*");
+    }
+
+    @Test
+    @DisplayName("연산자가 포함된 검색어는 그대로 사용한다")
+    void operatorKeyword() {
+        assertThat(BooleanModeQuery.of(" +스프링 -자바 ")).isEqualTo("+스프링 -자바");
+        assertThat(BooleanModeQuery.of("\"스프링 부트\"")).isEqualTo("\"스프링 부트\"");
+    }
+
+    @Test
+    @DisplayName("잘못된 검색식은 문법 오류가 나지 않도록 고쳐서 사용한다")
+    void malformedOperatorKeyword() {
+        assertThat(BooleanModeQuery.of("\"스프링 부트")).isEqualTo("\"스프링 부트\"");
+        assertThat(BooleanModeQuery.of("+(스프링 <부트")).isEqualTo("+(스프링 <부트)");
+        assertThat(BooleanModeQuery.of("+-스프링 자바*")).isEqualTo("+스프링 자바*");
+        assertThat(BooleanModeQuery.of("스프링) ( +()")).isEqualTo("스프링");
+        assertThat(BooleanModeQuery.of("+- \"\" ()")).isNull();
+    }
+
+    @Test
+    @DisplayName("검색할 어절이 없으면 null을 반환한다")
+    void emptyKeyword() {
+        assertThat(BooleanModeQuery.of("  ")).isNull();
+        assertThat(BooleanModeQuery.of("!!")).isNull();
+    }
+}
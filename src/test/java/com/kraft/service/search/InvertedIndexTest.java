@@ -0,0 +1,77 @@
+package com.kraft.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    @DisplayName("한글은 2글자 단위, 영문은 소문자로 토큰화한다")
+    void tokenize() {
+        assertThat(BigramTokenizer.terms("스프링 Boot")).containsExactlyInAnyOrder("스프", "프링", "bo", "oo", "ot");
+        assertThat(BigramTokenizer.isIndexable("스프링")).isTrue();
+        assertThat(BigramTokenizer.isIndexable("자 바")).isFalse();
+    }
+
+    @Test
+    @DisplayName("모든 검색 용어를 포함한 게시글만 찾고 제목 일치를 우선한다")
+    void search_ranksTitleMatchesFirst() {
+        // given
+        index.put(1L, "일상 이야기", "오늘은 스프링 공부를 했다");
+        index.put(2L, "스프링 입문", "의존성 주입");
+        index.put(3L, "자바 기초", "컬렉션 정리");
+
+        // when
+        SearchResult result = index.search(BigramTokenizer.terms("스프링"), 10);
+
+        // then
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.hits()).extracting(SearchHit::postId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("limit보다 결과가 많아도 전체 건수는 유지하고 상위 결과만 반환한다")
+    void search_limit() {
+        // given
+        for (long id = 1; id <= 20; id++) {
+            index.put(id, "게시글 " + id, "본문");
+        }
+
+        // when
+        SearchResult result = index.search(BigramTokenizer.terms("게시글"), 5);
+
+        // then
+        assertThat(result.totalHits()).isEqualTo(20);
+        assertThat(result.hits()).hasSize(5);
+        assertThat(result.hits()).extracting(SearchHit::postId).containsExactly(20L, 19L, 18L, 17L, 16L);
+    }
+
+    @Test
+    @DisplayName("게시글 수정과 삭제가 색인에 반영된다")
+    void putAndRemove() {
+        // given
+        index.put(1L, "스프링 입문", "내용");
+
+        // when
+        index.put(1L, "자바 입문", "내용");
+
+        // then
+        assertThat(index.search(BigramTokenizer.terms("스프링"), 10).totalHits()).isZero();
+        assertThat(index.search(BigramTokenizer.terms("자바"), 10).totalHits()).isEqualTo(1);
+
+        // when
+        index.remove(1L);
+
+        // then
+        assertThat(index.documentCount()).isZero();
+        assertThat(index.termCount()).isZero();
+        assertThat(index.postingCount()).isZero();
+        assertThat(index.search(Set.of("자바"), 10).hits()).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package com.kraft.service.search;
+
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import com.kraft.service.PostService;
+import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.post.PostsListResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+class PostSearcherTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectProvider<PostSearchIndex> postSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private PostSearcher postSearcher;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("FULLTEXT 쿼리가 DB에서 실패해도 같은 요청이 LIKE 검색 결과로 응답한다")
+    void searchPosts_fullTextFailureFallsBackToLike() {
+        // given: H2는 MATCH ... AGAINST를 모르므로 실제 저장소 호출이 DB 오류로 실패함
+        User author = userRepository.save(User.of("searcher", "encoded", "searcher@example.com"));
+        postRepository.save(Post.builder().title("대체검색 확인").content("Content").author(author).build());
+        PostSearcher fullText = new PostSearcher(postRepository, postSearchIndex, PostSearchMode.FULLTEXT);
+        given(postSearcher.search(anyString(), anyInt(), anyInt())).willAnswer(invocation ->
+                fullText.search(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+
+        // when
+        PageResponse<PostsListResponseDto> page = postService.searchPosts("대체검색", 0, 10);
+
+        // then
+        assertThat(page.content()).extracting(PostsListResponseDto::title).containsExactly("대체검색 확인");
+    }
+}
@@ -0,0 +1,120 @@
+package com.kraft.service.transfer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraft.config.auth.dto.SessionUser;
+import com.kraft.domain.category.Category;
+import com.kraft.domain.category.CategoryRepository;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import com.kraft.service.CommentService;
+import com.kraft.web.dto.comment.CommentSaveRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PostExporterTest {
+
+    @Autowired
+    private PostExporter postExporter;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM categories");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("게시글을 작성자명/카테고리명과 함께 NDJSON으로 내보낸다")
+    void exportPosts_ndjson() throws Exception {
+        // given
+        User author = userRepository.save(User.of("exporter", "encoded", "exporter@example.com"));
+        Category category = categoryRepository.save(Category.builder().name("공지사항").build());
+        postRepository.save(Post.builder().title("First").content("Content").author(author).category(category).build());
+        postRepository.save(Post.builder().title("Second").content("Content").author(author).build());
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = postExporter.exportPosts(ExportFormat.NDJSON, out);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(exported).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").isTextual()).isTrue();
+        assertThat(first.get("title").asText()).isEqualTo("First");
+        assertThat(first.get("authorName").asText()).isEqualTo("exporter");
+        assertThat(first.get("categoryName").asText()).isEqualTo("공지사항");
+        assertThat(objectMapper.readTree(lines.get(1)).get("categoryName").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("댓글을 CSV로 내보내며 쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감싼다")
+    void exportComments_csv() {
+        // given
+        User author = userRepository.save(User.of("exporter", "encoded", "exporter@example.com"));
+        Post post = postRepository.save(Post.builder().title("Title").content("Content").author(author).build());
+        Long parentId = commentService.save(post.getId(), comment("Hello, \"world\"\nbye"), new SessionUser(author));
+        commentService.saveReply(post.getId(), parentId, comment("Reply"), new SessionUser(author));
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = postExporter.exportComments(ExportFormat.CSV, out);
+
+        // then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(exported).isEqualTo(2);
+        assertThat(csv).startsWith("id,postId,parentId,authorName,content,path,createAt,updateAt\n");
+        assertThat(csv).contains(parentId + "," + post.getId() + ",,exporter,\"Hello, \"\"world\"\"\nbye\",");
+        assertThat(csv).contains("," + post.getId() + "," + parentId + ",exporter,Reply,");
+    }
+
+    @Test
+    @DisplayName("CSV에서 수식으로 해석될 수 있는 문자열은 '를 붙여 따옴표로 감싼다")
+    void csvLine_escapesFormulaLikeText() {
+        // when
+        String line = PostExporter.csvLine(Arrays.asList("=HYPERLINK(\"x\")", "+1", "-1", "@SUM(A1)", -1L, "plain", null));
+
+        // then
+        assertThat(line).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\",\"'+1\",\"'-1\",\"'@SUM(A1)\",-1,plain,");
+    }
+
+    private CommentSaveRequestDto comment(String content) {
+        return CommentSaveRequestDto.builder().content(content).build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.kraft.service.transfer;
+
+import com.kraft.domain.category.Category;
+import com.kraft.domain.category.CategoryRepository;
+import com.kraft.domain.post.PostChangedEvent;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.domain.post.PostsImportedEvent;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import com.kraft.service.search.PostSearchIndex;
+import com.kraft.service.search.SearchResult;
+import com.kraft.web.dto.post.PostImportResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "kraft.import.chunk-size=2")
+@RecordApplicationEvents
+class PostImporterTest {
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private PostImporter postImporter;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM categories");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("NDJSON을 청크 단위로 저장하고 잘못된 줄은 줄 번호와 함께 건너뛴다")
+    void importPosts_savesValidLinesAndReportsErrors() throws Exception {
+        // given
+        userRepository.save(User.of("writer", "encoded", "writer@example.com"));
+        categoryRepository.save(Category.builder().name("공지사항").build());
+        String body = String.join("\n",
+                "{\"title\":\"First\",\"content\":\"Content\",\"author\":\"writer\",\"category\":\"공지사항\"}",
+                "{\"title\":\"Second\",\"content\":\"Content\",\"author\":\"writer\",\"source\":{\"id\":7}}",
+                "",
+                "{\"title\":\"\",\"content\":\"Content\",\"author\":\"writer\"}",
+                "{\"title\":\"Broken\"",
+                "{\"title\":\"Ghost\",\"content\":\"Content\",\"author\":\"nobody\"}",
+                "{\"title\":\"Third\",\"content\":\"Content\",\"author\":\"writer\",\"category\":\"없는 카테고리\"}",
+                "{\"title\":\"Fourth\",\"content\":\"Content\",\"author\":\"writer\"}");
+
+        // when
+        PostImportResponseDto result = postImporter.importPosts(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.processed()).isEqualTo(7);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.failed()).isEqualTo(4);
+        assertThat(result.errorsTruncated()).isFalse();
+        assertThat(result.errors())
+                .extracting(PostImportResponseDto.LineError::line)
+                .containsExactlyInAnyOrder(4L, 5L, 6L, 7L);
+
+        assertThat(postRepository.findLatestAfter(Long.MAX_VALUE, Limit.of(10)))
+                .extracting(PostSummary::title)
+                .containsExactlyInAnyOrder("First", "Second", "Fourth");
+    }
+
+    @Test
+    @DisplayName("가져온 게시글은 행마다가 아니라 청크마다 이벤트 하나로 색인과 캐시에 반영된다")
+    void importPosts_publishesOneEventPerChunk() throws Exception {
+        // given
+        userRepository.save(User.of("writer", "encoded", "writer@example.com"));
+        String line = "{\"title\":\"청크이벤트검증\",\"content\":\"Content\",\"author\":\"writer\"}";
+        String body = String.join("\n", line, line, line, line, line);
+
+        // when
+        PostImportResponseDto result = postImporter.importPosts(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.imported()).isEqualTo(5);
+        assertThat(events.stream(PostChangedEvent.class)).isEmpty();
+        assertThat(events.stream(PostsImportedEvent.class))
+                .extracting(event -> event.postIds().size())
+                .containsExactly(2, 2, 1);
+        assertThat(postSearchIndex.search("청크이벤트검증", 10)).map(SearchResult::totalHits).contains(5);
+    }
+}
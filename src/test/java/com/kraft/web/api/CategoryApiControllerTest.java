@@ -100,7 +100,7 @@ class CategoryApiControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isCreated())
-                .andExpect(content().string("5"));
+                .andExpect(jsonPath("$.id").value("5"));
     }
 
     @Test
@@ -120,7 +120,7 @@ class CategoryApiControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isOk())
-                .andExpect(content().string("1"));
+                .andExpect(jsonPath("$.id").value("1"));
     }
 
     @Test
@@ -76,7 +76,7 @@ class CommentApiControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isCreated())
-                .andExpect(content().string("1"));
+                .andExpect(jsonPath("$.id").value("1"));
     }
 
     @Test
@@ -95,7 +95,7 @@ class CommentApiControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isCreated())
-                .andExpect(content().string("3"));
+                .andExpect(jsonPath("$.id").value("3"));
     }
 
     @Test
@@ -114,7 +114,7 @@ class CommentApiControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isOk())
-                .andExpect(content().string("1"));
+                .andExpect(jsonPath("$.id").value("1"));
     }
 
     @Test
@@ -143,9 +143,9 @@ class CommentApiControllerTest {
         // expect
         mockMvc.perform(get("/api/v1/posts/1/comments"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].id").value("1"))
                 .andExpect(jsonPath("$[0].content").value("Comment 1"))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$[1].id").value("2"));
     }
 
     @Test
@@ -204,7 +204,7 @@ class CommentApiControllerTest {
         // expect
         mockMvc.perform(get("/api/v1/posts/1/comments/1/replies"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].parentId").value(1));
+                .andExpect(jsonPath("$[0].parentId").value("1"));
     }
 
     @Test
@@ -4,10 +4,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kraft.config.auth.dto.SessionUser;
 import com.kraft.domain.user.User;
 import com.kraft.service.PostService;
+import com.kraft.web.dto.common.CursorResponse;
+import com.kraft.web.dto.common.SliceResponse;
 import com.kraft.web.dto.post.PostResponseDto;
 import com.kraft.web.dto.post.PostSaveRequestDto;
 import com.kraft.web.dto.post.PostUpdateRequestDto;
 import com.kraft.web.dto.post.PostsListResponseDto;
+import com.kraft.web.dto.post.TrendingPostResponseDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,10 +22,14 @@ import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -62,7 +69,7 @@ class PostApiControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isCreated())
-                .andExpect(content().string("1"));
+                .andExpect(jsonPath("$.id").value("1"));
     }
 
     @Test
@@ -81,7 +88,7 @@ class PostApiControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isOk())
-                .andExpect(content().string("1"));
+                .andExpect(jsonPath("$.id").value("1"));
     }
 
     @Test
@@ -103,18 +110,36 @@ class PostApiControllerTest {
                 "Test Title",
                 "Test Content",
                 "author",
+                1L,
                 1L
         );
 
-        given(postService.findByIdAndIncrementView(1L)).willReturn(responseDto);
+        given(postService.findByIdAndIncrementView(eq(1L), any())).willReturn(responseDto);
 
         // expect
         mockMvc.perform(get("/api/v1/posts/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.id").value("1"))
                 .andExpect(jsonPath("$.title").value("Test Title"))
                 .andExpect(jsonPath("$.content").value("Test Content"))
-                .andExpect(jsonPath("$.author").value("author"));
+                .andExpect(jsonPath("$.author").value("author"))
+                .andExpect(jsonPath("$.uniqueViewers").value(1L));
+    }
+
+    @Test
+    @DisplayName("2^53을 넘는 Snowflake ID는 문자열로 내려 JavaScript에서도 값이 바뀌지 않는다")
+    void getPost_snowflakeIdAsString() throws Exception {
+        // given
+        long snowflakeId = 390_000_000_000_000_123L;
+        PostResponseDto responseDto = new PostResponseDto(snowflakeId, "Title", "Content", "author", 3L, 2L);
+
+        given(postService.findByIdAndIncrementView(eq(snowflakeId), any())).willReturn(responseDto);
+
+        // expect
+        mockMvc.perform(get("/api/v1/posts/" + snowflakeId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("390000000000000123"))
+                .andExpect(jsonPath("$.viewCount").value(3));
     }
 
     @Test
@@ -136,15 +161,50 @@ class PostApiControllerTest {
                 null
         );
 
-        given(postService.findAllDesc()).willReturn(Arrays.asList(dto1, dto2));
+        given(postService.findLatest(null, 20))
+                .willReturn(CursorResponse.of(Arrays.asList(dto1, dto2), 20, "next"));
 
         // expect
         mockMvc.perform(get("/api/v1/posts/list"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(2L))
-                .andExpect(jsonPath("$[0].title").value("Second Post"))
-                .andExpect(jsonPath("$[1].id").value(1L))
-                .andExpect(jsonPath("$[1].title").value("First Post"));
+                .andExpect(jsonPath("$.content[0].id").value("2"))
+                .andExpect(jsonPath("$.content[0].title").value("Second Post"))
+                .andExpect(jsonPath("$.content[1].id").value("1"))
+                .andExpect(jsonPath("$.content[1].title").value("First Post"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
     }
-}
 
+    @Test
+    @DisplayName("includeTotal=false면 전체 개수 없는 슬라이스로 응답한다")
+    void getPostsWithPagination_withoutTotal() throws Exception {
+        // given
+        PostsListResponseDto dto = new PostsListResponseDto(1L, "First Post", "author", 0L, null);
+
+        given(postService.findAllSlice(1, 10, "id", "DESC"))
+                .willReturn(SliceResponse.of(List.of(dto), 1, 10, true));
+
+        // expect
+        mockMvc.perform(get("/api/v1/posts").param("page", "1").param("includeTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value("1"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.hasPrevious").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+        verify(postService, never()).findAllWithPagination(anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("트렌딩 게시글을 구간별로 조회한다")
+    void getTrendingPosts_success() throws Exception {
+        // given
+        given(postService.findTrending("hour", 5))
+                .willReturn(List.of(new TrendingPostResponseDto(1L, "Hot Post", "author", 100L, null, 42L, 40.5)));
+
+        // expect
+        mockMvc.perform(get("/api/v1/posts/trending").param("window", "hour").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("1"))
+                .andExpect(jsonPath("$[0].windowViews").value(42L));
+    }
+}